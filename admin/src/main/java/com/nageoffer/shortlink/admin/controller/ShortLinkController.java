@@ -28,6 +28,7 @@ import com.nageoffer.shortlink.admin.remote.dto.req.ShortLinkCreateReqDTO;
 import com.nageoffer.shortlink.admin.remote.dto.req.ShortLinkPageReqDTO;
 import com.nageoffer.shortlink.admin.remote.dto.req.ShortLinkUpdateReqDTO;
 import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkCreateRespDTO;
+import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkGidMigrateJobRespDTO;
 import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkPageRespDTO;
 import com.nageoffer.shortlink.admin.toolkit.EasyExcelWebUtil;
 import jakarta.servlet.http.HttpServletResponse;
@@ -36,6 +37,7 @@ import lombok.SneakyThrows;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -80,6 +82,22 @@ public class ShortLinkController {
         return Results.success();
     }
 
+    /**
+     * 异步修改短链接，跨分组修改时返回监控数据迁移任务ID
+     */
+    @PostMapping("/api/short-link/admin/v1/update/async")
+    public Result<String> updateShortLinkAsync(@RequestBody ShortLinkUpdateReqDTO requestParam) {
+        return shortLinkActualRemoteService.updateShortLinkAsync(requestParam);
+    }
+
+    /**
+     * 查询短链接修改分组迁移任务
+     */
+    @GetMapping("/api/short-link/admin/v1/update/job")
+    public Result<ShortLinkGidMigrateJobRespDTO> queryGidMigrateJob(@RequestParam("jobId") String jobId) {
+        return shortLinkActualRemoteService.queryGidMigrateJob(jobId);
+    }
+
     /**
      * 分页查询短链接
      */
@@ -30,6 +30,7 @@ import com.nageoffer.shortlink.admin.dto.resp.ShortLinkStatsRespDTO;
 import com.nageoffer.shortlink.admin.remote.dto.req.ShortLinkCreateReqDTO;
 import com.nageoffer.shortlink.admin.remote.dto.req.ShortLinkUpdateReqDTO;
 import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkCreateRespDTO;
+import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkGidMigrateJobRespDTO;
 import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkGroupCountQueryRespDTO;
 import com.nageoffer.shortlink.admin.remote.dto.resp.ShortLinkPageRespDTO;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -77,6 +78,24 @@ public interface ShortLinkActualRemoteService {
     @PostMapping("/api/short-link/v1/update")
     void updateShortLink(@RequestBody ShortLinkUpdateReqDTO requestParam);
 
+    /**
+     * 异步修改短链接
+     *
+     * @param requestParam 修改短链接请求参数
+     * @return 监控数据迁移任务ID，未修改分组时为空
+     */
+    @PostMapping("/api/short-link/v1/update/async")
+    Result<String> updateShortLinkAsync(@RequestBody ShortLinkUpdateReqDTO requestParam);
+
+    /**
+     * 查询短链接修改分组迁移任务
+     *
+     * @param jobId 任务ID
+     * @return 迁移任务状态
+     */
+    @GetMapping("/api/short-link/v1/update/job")
+    Result<ShortLinkGidMigrateJobRespDTO> queryGidMigrateJob(@RequestParam("jobId") String jobId);
+
     /**
      * 分页查询短链接
      *
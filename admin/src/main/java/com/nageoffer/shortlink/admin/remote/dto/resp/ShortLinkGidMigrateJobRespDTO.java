@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.admin.remote.dto.resp;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 短链接修改分组异步迁移任务响应对象
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShortLinkGidMigrateJobRespDTO {
+
+    /**
+     * 任务ID
+     */
+    private String jobId;
+
+    /**
+     * 完整短链接
+     */
+    private String fullShortUrl;
+
+    /**
+     * 原始分组标识
+     */
+    private String originGid;
+
+    /**
+     * 目标分组标识
+     */
+    private String gid;
+
+    /**
+     * 任务状态 0：等待执行 1：迁移中 2：迁移完成 3：迁移失败
+     */
+    private Integer status;
+
+    /**
+     * 当前迁移的监控表，即检查点
+     */
+    private String stage;
+
+    /**
+     * 已迁移监控数据行数
+     */
+    private Long migratedCount;
+
+    /**
+     * 失败原因
+     */
+    private String message;
+
+    /**
+     * 创建时间
+     */
+    private String createTime;
+
+    /**
+     * 修改时间
+     */
+    private String updateTime;
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 短链接后缀哈希基准测试
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashUtilBenchmark {
+
+    private static final int URL_COUNT = 1024;
+
+    private String[] originUrls;
+    private int index;
+
+    @Setup
+    public void setup() {
+        originUrls = new String[URL_COUNT];
+        for (int i = 0; i < URL_COUNT; i++) {
+            originUrls[i] = "https://nageoffer.com/shortlink/article/" + i + "?from=" + UUID.randomUUID();
+        }
+    }
+
+    /**
+     * 创建短链接时的后缀生成，原始链接拼接随机串后哈希
+     */
+    @Benchmark
+    public String hashToBase62() {
+        return HashUtil.hashToBase62(originUrls[index++ & (URL_COUNT - 1)]);
+    }
+
+    /**
+     * 号段模式下的定长编码
+     */
+    @Benchmark
+    public String encodeToBase62() {
+        return HashUtil.encodeToBase62(index++ & 0xFFFFFFFL, 6);
+    }
+}
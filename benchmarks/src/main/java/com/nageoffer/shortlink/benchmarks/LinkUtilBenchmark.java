@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.nageoffer.shortlink.project.toolkit.LinkUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 跳转监控 User-Agent 与 IP 解析基准测试
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkUtilBenchmark {
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; Pixel 8) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.0.0"
+    };
+
+    private static final Map<String, String> FORWARDED_HEADERS = Map.of("X-Forwarded-For", "61.135.169.121");
+
+    private static final Map<String, String> DIRECT_HEADERS = Map.of();
+
+    private int index;
+
+    /**
+     * 一次跳转需要的全部 User-Agent 解析
+     */
+    @Benchmark
+    public void parseUserAgent(Blackhole blackhole) {
+        String userAgent = USER_AGENTS[index++ & (USER_AGENTS.length - 1)];
+        blackhole.consume(LinkUtil.getOs(userAgent));
+        blackhole.consume(LinkUtil.getBrowser(userAgent));
+        blackhole.consume(LinkUtil.getDevice(userAgent));
+    }
+
+    /**
+     * 经过代理转发，首个请求头即命中
+     */
+    @Benchmark
+    public String actualIpForwarded() {
+        return LinkUtil.getActualIp(FORWARDED_HEADERS::get, "10.0.0.1");
+    }
+
+    /**
+     * 直连访问，依次检查全部请求头后回退到对端地址
+     */
+    @Benchmark
+    public String actualIpDirect() {
+        return LinkUtil.getActualIp(DIRECT_HEADERS::get, "192.168.1.10");
+    }
+
+    @Benchmark
+    public String network() {
+        return LinkUtil.getNetwork("192.168.1.10");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkGotoCache;
+import com.nageoffer.shortlink.project.common.biz.redirect.ShortLinkRedirectFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GOTO_SHORT_LINK_KEY;
+
+/**
+ * 跳转缓存 Key 构造基准测试
+ * 对比 ShortLinkServiceImpl#restoreUrl 中 Optional 拼接端口加 String.format 的写法与跳转过滤器复用缓冲区的写法
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedirectKeyBenchmark {
+
+    private final String serverName = "nurl.ink";
+    private final String shortUri = "1uXbGq";
+    private final String requestUri = "/1uXbGq";
+
+    /**
+     * 以 8001 端口访问，需要拼接端口
+     */
+    private final int serverPort = 8001;
+
+    @Benchmark
+    public String restoreUrl() {
+        String actualServerPort = Optional.of(serverPort)
+                .filter(each -> !Objects.equals(each, 80))
+                .map(String::valueOf)
+                .map(each -> ":" + each)
+                .orElse("");
+        String fullShortUrl = serverName + actualServerPort + "/" + shortUri;
+        return String.format(GOTO_SHORT_LINK_KEY, fullShortUrl);
+    }
+
+    @Benchmark
+    public String redirectFilter() {
+        String fullShortUrl = ShortLinkRedirectFilter.buildFullShortUrl(serverName, serverPort, requestUri);
+        return ShortLinkGotoCache.cacheKey(fullShortUrl);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.biz.ratelimit.ShortLinkRedirectRateLimiter;
+import com.nageoffer.shortlink.project.config.ShortLinkRedirectRateLimitConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 跳转限流判断基准测试
+ * 放行路径为 4 个线程从 1 万个客户端 IP 中随机访问同一个短链接，短链接令牌桶存在竞争；
+ * 拒绝路径为单个客户端 IP 令牌耗尽后的判断开销；均不开启集群对账，与跳转热路径一致不访问 Redis
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedirectRateLimiterBenchmark {
+
+    private static final int CLIENT_IP_COUNT = 10000;
+
+    private static final String FULL_SHORT_URL = "nurl.ink/1uXbGq";
+
+    private final String[] clientIps = new String[CLIENT_IP_COUNT];
+
+    private ShortLinkRedirectRateLimiter admitLimiter;
+    private ShortLinkRedirectRateLimiter rejectLimiter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < CLIENT_IP_COUNT; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+        ShortLinkRedirectRateLimitConfiguration admitConfiguration = new ShortLinkRedirectRateLimitConfiguration();
+        admitConfiguration.setEnable(true);
+        admitConfiguration.setClusterEnable(false);
+        admitConfiguration.setIpPermitsPerSecond(Integer.MAX_VALUE);
+        admitConfiguration.setIpBurst(Integer.MAX_VALUE);
+        admitConfiguration.setLinkPermitsPerSecond(Integer.MAX_VALUE);
+        admitConfiguration.setLinkBurst(Integer.MAX_VALUE);
+        admitLimiter = new ShortLinkRedirectRateLimiter(admitConfiguration, null, new ShortLinkMetrics(new SimpleMeterRegistry()));
+        admitLimiter.afterPropertiesSet();
+        ShortLinkRedirectRateLimitConfiguration rejectConfiguration = new ShortLinkRedirectRateLimitConfiguration();
+        rejectConfiguration.setEnable(true);
+        rejectConfiguration.setClusterEnable(false);
+        rejectConfiguration.setIpPermitsPerSecond(1);
+        rejectConfiguration.setIpBurst(1);
+        rejectLimiter = new ShortLinkRedirectRateLimiter(rejectConfiguration, null, new ShortLinkMetrics(new SimpleMeterRegistry()));
+        rejectLimiter.afterPropertiesSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        admitLimiter.destroy();
+        rejectLimiter.destroy();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean admit() {
+        return admitLimiter.tryAcquire(clientIps[ThreadLocalRandom.current().nextInt(CLIENT_IP_COUNT)], FULL_SHORT_URL);
+    }
+
+    @Benchmark
+    public boolean reject() {
+        return rejectLimiter.tryAcquire(clientIps[0], FULL_SHORT_URL);
+    }
+}
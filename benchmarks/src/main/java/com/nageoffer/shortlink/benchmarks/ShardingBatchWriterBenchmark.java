@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.nageoffer.shortlink.project.common.biz.sharding.ShardingBatchWriter;
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.config.ShardingBatchWriteConfiguration;
+import com.nageoffer.shortlink.project.config.VirtualThreadConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
+import com.nageoffer.shortlink.project.toolkit.ShardingUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 分片感知批量写入基准测试
+ * 分片写入逻辑替换为按批次往返耗时与单行耗时休眠的进程内替身，对比逐分片串行写入与 ShardingBatchWriter 并发写入的批量创建耗时；
+ * 批量创建接口同一请求只有一个分组，t_link 按 gid 分片时全部落在同一分片，无法并发，只有按完整短链接分片的 t_link_goto 分散到各分片，
+ * gidCount 为 1 时即对应该场景
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingBatchWriterBenchmark {
+
+    /**
+     * 单个 JDBC 批次往返耗时
+     */
+    private static final long BATCH_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * 批次内单行写入耗时
+     */
+    private static final long ROW_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Param({"100", "1000"})
+    private int recordCount;
+
+    /**
+     * 记录涉及的分组数量
+     */
+    @Param({"1", "200"})
+    private int gidCount;
+
+    private ShardingBatchWriter shardingBatchWriter;
+    private List<ShortLinkDO> records;
+
+    @Setup
+    public void setup() {
+        shardingBatchWriter = new ShardingBatchWriter(new ShardingBatchWriteConfiguration(), new ShortLinkThreadFactories(new VirtualThreadConfiguration()));
+        shardingBatchWriter.afterPropertiesSet();
+        Random random = new Random(42);
+        records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            records.add(ShortLinkDO.builder()
+                    .gid("gid" + random.nextInt(gidCount))
+                    .fullShortUrl("nurl.ink/" + Integer.toString(i, 36))
+                    .originUrl("https://nageoffer.com/" + i)
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        shardingBatchWriter.destroy();
+    }
+
+    @Benchmark
+    public List<ShortLinkDO> serialWrite() {
+        List<ShortLinkDO> result = new ArrayList<>(records.size());
+        ShardingUtil.groupByShard(records, ShortLinkDO::getGid).values().forEach(each -> result.addAll(simulateShardWrite(each)));
+        return result;
+    }
+
+    @Benchmark
+    public List<ShortLinkDO> shardParallelWrite() {
+        return shardingBatchWriter.write(records, ShortLinkDO::getGid, this::simulateShardWrite);
+    }
+
+    /**
+     * 与批量创建一致：先按 gid 写入 t_link，再按完整短链接写入 t_link_goto
+     */
+    @Benchmark
+    public List<ShortLinkDO> batchCreateWrite() {
+        List<ShortLinkDO> result = shardingBatchWriter.write(records, ShortLinkDO::getGid, this::simulateShardWrite);
+        shardingBatchWriter.write(result, ShortLinkDO::getFullShortUrl, this::simulateShardWrite);
+        return result;
+    }
+
+    private List<ShortLinkDO> simulateShardWrite(List<ShortLinkDO> shardRecords) {
+        int batchSize = shardingBatchWriter.getBatchSize();
+        for (int i = 0; i < shardRecords.size(); i += batchSize) {
+            int rows = Math.min(batchSize, shardRecords.size() - i);
+            LockSupport.parkNanos(BATCH_ROUND_TRIP_NANOS + rows * ROW_NANOS);
+        }
+        return shardRecords;
+    }
+}
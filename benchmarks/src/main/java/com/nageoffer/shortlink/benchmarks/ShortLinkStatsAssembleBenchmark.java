@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import cn.hutool.core.date.DateField;
+import cn.hutool.core.date.DateUtil;
+import com.nageoffer.shortlink.benchmarks.standin.MapperStandIns;
+import com.nageoffer.shortlink.project.dao.entity.LinkAccessStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkDeviceStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkLocaleStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkNetworkStatsDO;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessLogsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkBrowserStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkDeviceStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkLocaleStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkNetworkStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkOsStatsMapper;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkStatsReqDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkStatsRespDTO;
+import com.nageoffer.shortlink.project.service.impl.ShortLinkStatsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单个短链接监控数据组装基准测试
+ * 持久层替换为返回固定结果的进程内替身，只衡量 ShortLinkStatsServiceImpl#oneShortLinkStats 的内存组装开销，
+ * 数据规模为 30 天、34 个省份与完整的小时、星期分布
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShortLinkStatsAssembleBenchmark {
+
+    private static final int DAYS = 30;
+
+    private ShortLinkStatsServiceImpl shortLinkStatsService;
+    private ShortLinkStatsReqDTO requestParam;
+
+    @Setup
+    public void setup() {
+        Date endDate = DateUtil.beginOfDay(new Date());
+        Date startDate = DateUtil.offsetDay(endDate, -(DAYS - 1));
+        requestParam = new ShortLinkStatsReqDTO();
+        requestParam.setFullShortUrl("nurl.ink/1uXbGq");
+        requestParam.setGid("Wm6oB2");
+        requestParam.setStartDate(DateUtil.formatDate(startDate));
+        requestParam.setEndDate(DateUtil.formatDate(endDate));
+
+        List<LinkAccessStatsDO> dailyStats = new ArrayList<>();
+        DateUtil.rangeToList(startDate, endDate, DateField.DAY_OF_MONTH).forEach(each -> dailyStats.add(
+                LinkAccessStatsDO.builder().date(each).pv(1200).uv(800).uip(600).build()));
+        List<LinkAccessStatsDO> hourStats = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            hourStats.add(LinkAccessStatsDO.builder().hour(i).pv(100 + i).build());
+        }
+        List<LinkAccessStatsDO> weekdayStats = new ArrayList<>();
+        for (int i = 1; i < 8; i++) {
+            weekdayStats.add(LinkAccessStatsDO.builder().weekday(i).pv(5000 + i).build());
+        }
+        List<LinkLocaleStatsDO> localeStats = new ArrayList<>();
+        for (int i = 0; i < 34; i++) {
+            localeStats.add(LinkLocaleStatsDO.builder().province("省份" + i).cnt(1000 - i * 10).build());
+        }
+        List<HashMap<String, Object>> topIpStats = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            topIpStats.add(row("ip", "61.135.169." + i, "count", 300 - i));
+        }
+        List<HashMap<String, Object>> browserStats = List.of(
+                row("browser", "Google Chrome", "count", 18000),
+                row("browser", "Apple Safari", "count", 9000),
+                row("browser", "Microsoft Edge", "count", 6000),
+                row("browser", "Mozilla Firefox", "count", 2000),
+                row("browser", "Unknown", "count", 1000));
+        List<HashMap<String, Object>> osStats = List.of(
+                row("os", "Windows", "count", 15000),
+                row("os", "Android", "count", 9000),
+                row("os", "iOS", "count", 8000),
+                row("os", "Mac OS", "count", 3000),
+                row("os", "Linux", "count", 1000));
+        HashMap<String, Object> uvTypeStats = row("oldUserCnt", 14000, "newUserCnt", 10000);
+
+        shortLinkStatsService = new ShortLinkStatsServiceImpl(
+                MapperStandIns.of(LinkAccessStatsMapper.class, Map.of(
+                        "listStatsByShortLink", dailyStats,
+                        "listHourStatsByShortLink", hourStats,
+                        "listWeekdayStatsByShortLink", weekdayStats)),
+                MapperStandIns.of(LinkLocaleStatsMapper.class, Map.of("listLocaleByShortLink", localeStats)),
+                MapperStandIns.of(LinkAccessLogsMapper.class, Map.of(
+                        "findPvUvUidStatsByShortLink", LinkAccessStatsDO.builder().pv(36000).uv(24000).uip(18000).build(),
+                        "listTopIpByShortLink", topIpStats,
+                        "findUvTypeCntByShortLink", uvTypeStats)),
+                MapperStandIns.of(LinkBrowserStatsMapper.class, Map.of("listBrowserStatsByShortLink", browserStats)),
+                MapperStandIns.of(LinkOsStatsMapper.class, Map.of("listOsStatsByShortLink", osStats)),
+                MapperStandIns.of(LinkDeviceStatsMapper.class, Map.of("listDeviceStatsByShortLink", List.of(
+                        LinkDeviceStatsDO.builder().device("PC").cnt(20000).build(),
+                        LinkDeviceStatsDO.builder().device("Mobile").cnt(16000).build()))),
+                MapperStandIns.of(LinkNetworkStatsMapper.class, Map.of("listNetworkStatsByShortLink", List.of(
+                        LinkNetworkStatsDO.builder().network("WIFI").cnt(21000).build(),
+                        LinkNetworkStatsDO.builder().network("Mobile").cnt(15000).build())))
+        );
+    }
+
+    @Benchmark
+    public ShortLinkStatsRespDTO oneShortLinkStats() {
+        return shortLinkStatsService.oneShortLinkStats(requestParam);
+    }
+
+    private static HashMap<String, Object> row(String key1, Object value1, String key2, Object value2) {
+        HashMap<String, Object> row = new HashMap<>();
+        row.put(key1, value1);
+        row.put(key2, value2);
+        return row;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks;
+
+import com.alibaba.fastjson2.JSON;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nageoffer.shortlink.project.dto.biz.ShortLinkStatsRecordDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 短链接监控消息序列化基准测试
+ * 生产端与 ShortLinkServiceImpl#shortLinkStats 一致，监控记录先由 fastjson2 序列化后放入消息体，
+ * 消息体再由 RocketMQTemplate 默认的 Jackson 转换器编码；消费端与 ShortLinkStatsSaveConsumer 一致做反向解析
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatsMessageSerializationBenchmark {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ShortLinkStatsRecordDTO statsRecord;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws Exception {
+        statsRecord = ShortLinkStatsRecordDTO.builder()
+                .fullShortUrl("nurl.ink/1uXbGq")
+                .remoteAddr("61.135.169.121")
+                .os("Windows")
+                .browser("Google Chrome")
+                .device("PC")
+                .network("Mobile")
+                .uv(UUID.randomUUID().toString())
+                .uvFirstFlag(Boolean.TRUE)
+                .uipFirstFlag(Boolean.FALSE)
+                .build();
+        payload = produce();
+    }
+
+    @Benchmark
+    public byte[] produce() throws Exception {
+        Map<String, String> producerMap = new HashMap<>();
+        producerMap.put("fullShortUrl", statsRecord.getFullShortUrl());
+        producerMap.put("gid", "Wm6oB2");
+        producerMap.put("statsRecord", JSON.toJSONString(statsRecord));
+        producerMap.put("keys", UUID.randomUUID().toString());
+        return objectMapper.writeValueAsBytes(producerMap);
+    }
+
+    @Benchmark
+    public ShortLinkStatsRecordDTO consume() throws Exception {
+        Map<String, String> producerMap = objectMapper.readValue(payload, PAYLOAD_TYPE);
+        return JSON.parseObject(producerMap.get("statsRecord"), ShortLinkStatsRecordDTO.class);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.core.util.StrUtil;
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import com.nageoffer.shortlink.project.toolkit.ShardingUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 数据库替身，MySQL 兼容模式的 H2 内存库，建表并按 HASH_MOD 分片规则直接写入各物理表
+ * 内存库在持有连接期间保留，需在 short-link-project 启动前完成初始化，分片元数据加载依赖物理表已存在
+ */
+public class H2LinkDatabase implements AutoCloseable {
+
+    /**
+     * 与 loadtest/shardingsphere-config.yaml 中数据源地址保持一致
+     */
+    public static final String JDBC_URL = "jdbc:h2:mem:link;MODE=MySQL;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final Connection connection;
+
+    public H2LinkDatabase() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+        String schema = ResourceUtil.readStr("loadtest/schema.sql", StandardCharsets.UTF_8);
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < ShardingUtil.SHARDING_COUNT; i++) {
+                statement.execute(schema.replace("${index}", String.valueOf(i)));
+            }
+        }
+    }
+
+    /**
+     * 写入永久有效的短链接及其跳转路由，历史访问量按下标递减，使缓存预热优先加载 Zipf 分布的热点短链接
+     *
+     * @param domain 短链接域名
+     * @param links  短链接数量
+     * @param groups 分组数量
+     * @return 按热度排序的短链接后缀
+     */
+    public List<String> seed(String domain, int links, int groups) throws SQLException {
+        List<String> shortUris = new ArrayList<>(links);
+        Set<String> usedShortUris = new HashSet<>(links * 2);
+        Map<String, PreparedStatement> statements = new HashMap<>();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        connection.setAutoCommit(false);
+        try {
+            for (int i = 0; i < links; i++) {
+                String originUrl = "https://nageoffer.com/loadtest/" + i;
+                String shortUri = HashUtil.hashToBase62(originUrl);
+                while (!usedShortUris.add(shortUri)) {
+                    shortUri = HashUtil.hashToBase62(originUrl + System.nanoTime());
+                }
+                shortUris.add(shortUri);
+                String gid = "loadtest" + (i % groups);
+                String fullShortUrl = domain + "/" + shortUri;
+
+                PreparedStatement linkStatement = statement(statements, "t_link", gid,
+                        "INSERT INTO t_link_%d (id, domain, short_uri, full_short_url, origin_url, gid, enable_status, created_type, valid_date_type, total_pv, create_time, update_time) VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?, ?)");
+                linkStatement.setLong(1, i + 1L);
+                linkStatement.setString(2, domain);
+                linkStatement.setString(3, shortUri);
+                linkStatement.setString(4, fullShortUrl);
+                linkStatement.setString(5, originUrl);
+                linkStatement.setString(6, gid);
+                linkStatement.setInt(7, links - i);
+                linkStatement.setTimestamp(8, now);
+                linkStatement.setTimestamp(9, now);
+                linkStatement.addBatch();
+
+                PreparedStatement gotoStatement = statement(statements, "t_link_goto", fullShortUrl,
+                        "INSERT INTO t_link_goto_%d (id, gid, full_short_url) VALUES (?, ?, ?)");
+                gotoStatement.setLong(1, i + 1L);
+                gotoStatement.setString(2, gid);
+                gotoStatement.setString(3, fullShortUrl);
+                gotoStatement.addBatch();
+
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    for (PreparedStatement each : statements.values()) {
+                        each.executeBatch();
+                    }
+                }
+            }
+            for (PreparedStatement each : statements.values()) {
+                each.executeBatch();
+            }
+            connection.commit();
+        } finally {
+            for (PreparedStatement each : statements.values()) {
+                each.close();
+            }
+            connection.setAutoCommit(true);
+        }
+        return shortUris;
+    }
+
+    private PreparedStatement statement(Map<String, PreparedStatement> statements, String logicTable, String shardingValue, String sqlTemplate) throws SQLException {
+        int shardIndex = ShardingUtil.shardIndex(shardingValue);
+        String key = StrUtil.format("{}_{}", logicTable, shardIndex);
+        PreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            statement = connection.prepareStatement(String.format(sqlTemplate, shardIndex));
+            statements.put(key, statement);
+        }
+        return statement;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import org.apache.rocketmq.client.producer.SendResult;
+import org.apache.rocketmq.client.producer.SendStatus;
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.springframework.messaging.Message;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 消息队列替身，替换 RocketMQTemplate 的同步发送，只在内存中计数并立即返回发送成功，不连接 NameServer 与 Broker
+ */
+public class InMemoryRocketMQTemplate extends RocketMQTemplate {
+
+    private final LongAdder sentCount = new LongAdder();
+
+    @Override
+    public SendResult syncSend(String destination, Message<?> message, long timeout) {
+        sentCount.increment();
+        SendResult sendResult = new SendResult();
+        sendResult.setSendStatus(SendStatus.SEND_OK);
+        sendResult.setMsgId(UUID.randomUUID().toString());
+        return sendResult;
+    }
+
+    /**
+     * 已接收的消息数量
+     */
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import lombok.Data;
+
+/**
+ * 跳转压测参数，通过 --参数名=值 覆盖，例如 --links=100000 --zipfExponent=1.2 --target=reactive
+ */
+@Data
+public class LoadTestOptions {
+
+    /**
+     * 压测入口：servlet、reactive、both
+     */
+    private String target = "both";
+
+    /**
+     * 预置短链接数量
+     */
+    private Integer links = 10000;
+
+    /**
+     * 预置短链接分布的分组数量
+     */
+    private Integer groups = 100;
+
+    /**
+     * 短链接域名，请求通过 Host 请求头携带
+     */
+    private String domain = "nurl.ink";
+
+    /**
+     * Zipf 分布指数，越大访问越集中在少数热点短链接
+     */
+    private Double zipfExponent = 1.1;
+
+    /**
+     * 访问不存在短链接的请求占比
+     */
+    private Double missRatio = 0.0;
+
+    /**
+     * 并发压测线程数
+     */
+    private Integer concurrency = 64;
+
+    /**
+     * 预热时长，预热期间的请求不计入结果
+     */
+    private Integer warmupSeconds = 10;
+
+    /**
+     * 压测时长
+     */
+    private Integer durationSeconds = 30;
+
+    /**
+     * 启动时是否按历史访问量预热跳转缓存，关闭后首次访问走回源路径
+     */
+    private Boolean cacheWarmUp = true;
+
+    /**
+     * 本地 redis-server 可执行文件，redisHost 为空时由压测工具在随机端口启动
+     */
+    private String redisServerBinary = "redis-server";
+
+    /**
+     * 已有 Redis 地址，设置后不再启动本地 redis-server
+     */
+    private String redisHost;
+
+    /**
+     * 已有 Redis 端口
+     */
+    private Integer redisPort = 6379;
+
+    /**
+     * 已有 Redis 数据库下标
+     */
+    private Integer redisDatabase = 0;
+
+    /**
+     * 延迟直方图输出目录，为空时只输出汇总结果
+     */
+    private String histogramDir;
+}
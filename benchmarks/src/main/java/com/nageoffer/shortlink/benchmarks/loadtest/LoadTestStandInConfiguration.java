@@ -15,27 +15,20 @@
  * limitations under the License.
  */
 
-package com.nageoffer.shortlink.project.config;
+package com.nageoffer.shortlink.benchmarks.loadtest;
 
-import org.redisson.api.RBloomFilter;
-import org.redisson.api.RedissonClient;
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * 布隆过滤器配置
- * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
+ * 压测替身配置，RocketMQ 自动装配在压测启动参数中排除，由内存消息队列替身代替
  */
 @Configuration
-public class RBloomFilterConfiguration {
+public class LoadTestStandInConfiguration {
 
-    /**
-     * 防止短链接创建查询数据库的布隆过滤器
-     */
     @Bean
-    public RBloomFilter<String> shortUriCreateCachePenetrationBloomFilter(RedissonClient redissonClient) {
-        RBloomFilter<String> cachePenetrationBloomFilter = redissonClient.getBloomFilter("shortUriCreateCachePenetrationBloomFilter");
-        cachePenetrationBloomFilter.tryInit(100000000L, 0.001);
-        return cachePenetrationBloomFilter;
+    public RocketMQTemplate rocketMQTemplate() {
+        return new InMemoryRocketMQTemplate();
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本地 Redis 替身，在随机端口启动不落盘的 redis-server 进程，压测结束后销毁
+ */
+@Slf4j
+public class LocalRedisServer implements AutoCloseable {
+
+    private static final long STARTUP_TIMEOUT_MILLIS = 10000L;
+
+    private final Process process;
+
+    private final int port;
+
+    private LocalRedisServer(Process process, int port) {
+        this.process = process;
+        this.port = port;
+    }
+
+    /**
+     * 启动本地 redis-server
+     *
+     * @param binary redis-server 可执行文件
+     * @return 已可接受连接的 Redis 替身
+     */
+    public static LocalRedisServer start(String binary) throws IOException, InterruptedException {
+        int port = freePort();
+        Process process;
+        try {
+            process = new ProcessBuilder(binary,
+                    "--port", String.valueOf(port),
+                    "--bind", "127.0.0.1",
+                    "--save", "",
+                    "--appendonly", "no")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException ex) {
+            throw new IllegalStateException("无法启动 " + binary + "，请安装 redis-server 或通过 --redisHost 指定已有 Redis", ex);
+        }
+        LocalRedisServer redisServer = new LocalRedisServer(process, port);
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (!redisServer.ping()) {
+            if (!process.isAlive() || System.currentTimeMillis() > deadline) {
+                redisServer.close();
+                throw new IllegalStateException("redis-server 启动失败，端口：" + port);
+            }
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+        log.info("本地 redis-server 已启动，端口：{}", port);
+        return redisServer;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException ex) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean ping() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 200);
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write("PING\r\n".getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            return "+PONG".equals(reader.readLine());
+        } catch (IOException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取一个当前空闲的本地端口
+     */
+    public static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            serverSocket.setReuseAddress(true);
+            return serverSocket.getLocalPort();
+        }
+    }
+}
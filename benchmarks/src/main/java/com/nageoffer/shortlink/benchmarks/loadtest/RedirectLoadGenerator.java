@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 跳转请求压测发起器
+ * 固定并发的闭环压测，每个线程按 Zipf 分布挑选短链接发起请求并等待响应，预热期结束后记录延迟与状态码，
+ * 请求通过 Host 请求头携带短链接域名，使 Servlet 与响应式入口拼接出相同的完整短链接
+ */
+public class RedirectLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * 不存在短链接的后缀长度，比哈希生成的后缀更长，保证不会命中预置短链接
+     */
+    private static final int MISSING_SHORT_URI_LENGTH = 7;
+
+    private final LoadTestOptions options;
+    private final List<String> shortUris;
+    private final ZipfianGenerator zipfianGenerator;
+    private final LongSupplier sentMessageCounter;
+
+    public RedirectLoadGenerator(LoadTestOptions options, List<String> shortUris, LongSupplier sentMessageCounter) {
+        this.options = options;
+        this.shortUris = shortUris;
+        this.zipfianGenerator = new ZipfianGenerator(shortUris.size(), options.getZipfExponent());
+        this.sentMessageCounter = sentMessageCounter;
+    }
+
+    /**
+     * 对指定端口执行一轮压测
+     *
+     * @param name 压测入口名称
+     * @param port 跳转服务端口
+     * @return 压测结果
+     */
+    public RedirectLoadReport run(String name, int port) throws InterruptedException, ExecutionException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String baseUrl = "http://127.0.0.1:" + port + "/";
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        LongAdder completed = new LongAdder();
+        long measureStartNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        long measureEndNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(options.getConcurrency(), ShortLinkThreadFactories.newPlatformThreadFactory("loadtest-" + name + "-"));
+        List<Future<Histogram>> futures = new ArrayList<>(options.getConcurrency());
+        for (int i = 0; i < options.getConcurrency(); i++) {
+            futures.add(executorService.submit(() -> runWorker(httpClient, baseUrl, measureStartNanos, measureEndNanos, statusCounts, completed)));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0L, measureStartNanos - System.nanoTime()));
+        long sentMessagesBefore = sentMessageCounter.getAsLong();
+        List<Long> throughputPerSecond = new ArrayList<>(options.getDurationSeconds());
+        long lastCompleted = completed.sum();
+        for (int i = 0; i < options.getDurationSeconds(); i++) {
+            TimeUnit.SECONDS.sleep(1L);
+            long currentCompleted = completed.sum();
+            throughputPerSecond.add(currentCompleted - lastCompleted);
+            lastCompleted = currentCompleted;
+        }
+
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        for (Future<Histogram> each : futures) {
+            histogram.add(each.get());
+        }
+        executorService.shutdown();
+        long sentMessages = sentMessageCounter.getAsLong() - sentMessagesBefore;
+        Map<Integer, Long> statusSummary = new ConcurrentHashMap<>();
+        statusCounts.forEach((status, count) -> statusSummary.put(status, count.sum()));
+        return new RedirectLoadReport(name, options.getDurationSeconds(), histogram, statusSummary, throughputPerSecond, sentMessages);
+    }
+
+    private Histogram runWorker(HttpClient httpClient, String baseUrl, long measureStartNanos, long measureEndNanos,
+                                Map<Integer, LongAdder> statusCounts, LongAdder completed) {
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long missingBound = HashUtil.pow62(MISSING_SHORT_URI_LENGTH);
+        long startNanos;
+        while ((startNanos = System.nanoTime()) < measureEndNanos) {
+            String shortUri = options.getMissRatio() > 0 && random.nextDouble() < options.getMissRatio()
+                    ? HashUtil.encodeToBase62(random.nextLong(missingBound), MISSING_SHORT_URI_LENGTH)
+                    : shortUris.get(zipfianGenerator.next());
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + shortUri))
+                    .header("Host", options.getDomain())
+                    .GET()
+                    .build();
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException ex) {
+                status = -1;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (startNanos >= measureStartNanos) {
+                histogram.recordValue(Math.min(System.nanoTime() - startNanos, HIGHEST_TRACKABLE_NANOS));
+                statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+                completed.increment();
+            }
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 单轮跳转压测结果，延迟以纳秒记录、以微秒输出
+ */
+@Getter
+@AllArgsConstructor
+public class RedirectLoadReport {
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    /**
+     * 压测入口名称
+     */
+    private final String name;
+
+    /**
+     * 计入结果的压测时长
+     */
+    private final int durationSeconds;
+
+    /**
+     * 请求延迟直方图
+     */
+    private final Histogram histogram;
+
+    /**
+     * 响应状态码计数，-1 表示连接或读取失败
+     */
+    private final Map<Integer, Long> statusCounts;
+
+    /**
+     * 每秒完成请求数
+     */
+    private final List<Long> throughputPerSecond;
+
+    /**
+     * 投递到消息队列替身的监控消息数量
+     */
+    private final long sentMessages;
+
+    /**
+     * 输出吞吐量、延迟分位数与状态码分布
+     */
+    public void print(PrintStream out) {
+        LongSummaryStatistics throughput = throughputPerSecond.stream().mapToLong(Long::longValue).summaryStatistics();
+        long errors = statusCounts.entrySet().stream()
+                .filter(each -> each.getKey() != 302)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        out.printf("[%s] 请求 %d，非 302 响应 %d，吞吐量 %.0f 次/秒（每秒最低 %d，最高 %d），监控消息 %d%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / (double) durationSeconds,
+                throughput.getCount() == 0 ? 0 : throughput.getMin(),
+                throughput.getCount() == 0 ? 0 : throughput.getMax(),
+                sentMessages);
+        out.printf("[%s] 延迟 μs：平均 %.1f，P50 %.1f，P90 %.1f，P99 %.1f，P99.9 %.1f，最大 %.1f%n",
+                name,
+                histogram.getMean() / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                histogram.getMaxValue() / NANOS_PER_MICRO);
+        out.printf("[%s] 状态码：%s%n", name, new TreeMap<>(statusCounts));
+    }
+
+    /**
+     * 以 HdrHistogram 百分位分布格式输出延迟直方图，单位微秒，可直接导入 HdrHistogram Plotter 绘图
+     *
+     * @param directory 输出目录
+     * @return 直方图文件
+     */
+    public Path writeHistogram(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(name + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MICRO);
+        }
+        return file;
+    }
+}
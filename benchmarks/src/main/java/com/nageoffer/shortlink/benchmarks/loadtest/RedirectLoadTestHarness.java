@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import cn.hutool.core.util.StrUtil;
+import com.nageoffer.shortlink.benchmarks.toolkit.CommandLineOptions;
+import com.nageoffer.shortlink.project.ShortLinkApplication;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkScalableBloomFilter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 短链接跳转端到端压测入口
+ * 以进程内或本地替身启动 short-link-project：MySQL 兼容模式的 H2 内存库承载分片表、随机端口的本地 redis-server、
+ * 内存消息队列替身代替 RocketMQ，并关闭 Nacos 注册与 Sentinel 控制台；启动后对 Servlet 入口与响应式入口分别执行 Zipf 分布的跳转压测，
+ * 输出吞吐量与延迟分位数，指定 --histogramDir 时另外输出 HdrHistogram 直方图文件
+ * 运行：mvn -Pbenchmarks -pl benchmarks -am package -DskipTests && java -cp benchmarks/target/benchmarks.jar com.nageoffer.shortlink.benchmarks.loadtest.RedirectLoadTestHarness --links=100000
+ */
+public class RedirectLoadTestHarness {
+
+    private static final int BLOOM_FILTER_ADD_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        // 请求需通过 Host 请求头携带短链接域名，JDK HttpClient 默认禁止设置该请求头
+        System.setProperty("jdk.httpclient.allowRestrictedHeaders", "host");
+        LoadTestOptions options = CommandLineOptions.parse(args, new LoadTestOptions());
+        boolean servletEnable = !"reactive".equals(options.getTarget());
+        boolean reactiveEnable = !"servlet".equals(options.getTarget());
+
+        try (H2LinkDatabase database = new H2LinkDatabase();
+             LocalRedisServer redisServer = StrUtil.isBlank(options.getRedisHost()) ? LocalRedisServer.start(options.getRedisServerBinary()) : null) {
+            List<String> shortUris = database.seed(options.getDomain(), options.getLinks(), options.getGroups());
+            ZipfianGenerator zipfianGenerator = new ZipfianGenerator(shortUris.size(), options.getZipfExponent());
+            System.out.printf("已写入短链接 %d 条，Zipf 指数 %.2f，前 1%% 短链接占请求 %.1f%%，不存在短链接请求占比 %.1f%%%n",
+                    shortUris.size(),
+                    options.getZipfExponent(),
+                    zipfianGenerator.topProbability(Math.max(1, shortUris.size() / 100)) * 100,
+                    options.getMissRatio() * 100);
+
+            int serverPort = LocalRedisServer.freePort();
+            int reactivePort = LocalRedisServer.freePort();
+            String redisHost = redisServer != null ? "127.0.0.1" : options.getRedisHost();
+            int redisPort = redisServer != null ? redisServer.getPort() : options.getRedisPort();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShortLinkApplication.class, LoadTestStandInConfiguration.class)
+                    .run(applicationArgs(options, serverPort, reactiveEnable, reactivePort, redisHost, redisPort))) {
+                addToBloomFilter(context.getBean(ShortLinkScalableBloomFilter.class), options.getDomain(), shortUris);
+                InMemoryRocketMQTemplate rocketMQTemplate = context.getBean(InMemoryRocketMQTemplate.class);
+                RedirectLoadGenerator loadGenerator = new RedirectLoadGenerator(options, shortUris, rocketMQTemplate::getSentCount);
+                List<RedirectLoadReport> reports = new ArrayList<>();
+                if (servletEnable) {
+                    System.out.printf("Servlet 入口压测中，端口 %d，并发 %d，预热 %ds，压测 %ds%n", serverPort, options.getConcurrency(), options.getWarmupSeconds(), options.getDurationSeconds());
+                    reports.add(loadGenerator.run("servlet", serverPort));
+                }
+                if (reactiveEnable) {
+                    System.out.printf("响应式入口压测中，端口 %d，并发 %d，预热 %ds，压测 %ds%n", reactivePort, options.getConcurrency(), options.getWarmupSeconds(), options.getDurationSeconds());
+                    reports.add(loadGenerator.run("reactive", reactivePort));
+                }
+                for (RedirectLoadReport each : reports) {
+                    each.print(System.out);
+                    if (StrUtil.isNotBlank(options.getHistogramDir())) {
+                        System.out.printf("[%s] 延迟直方图：%s%n", each.getName(), each.writeHistogram(Path.of(options.getHistogramDir())));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 以命令行参数形式传入替身配置，优先级高于 short-link-project 自带的 application.yaml
+     */
+    private static String[] applicationArgs(LoadTestOptions options, int serverPort, boolean reactiveEnable, int reactivePort, String redisHost, int redisPort) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", serverPort);
+        properties.put("spring.main.banner-mode", "off");
+        // 压测不使用监控端点，关闭独立管理端口，避免与本机已运行的服务冲突
+        properties.put("management.server.port", -1);
+        properties.put("spring.datasource.url", "jdbc:shardingsphere:classpath:loadtest/shardingsphere-config.yaml");
+        properties.put("spring.data.redis.host", redisHost);
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("spring.data.redis.database", options.getRedisDatabase());
+        properties.put("spring.cloud.nacos.discovery.enabled", false);
+        properties.put("spring.cloud.sentinel.enabled", false);
+        properties.put("spring.autoconfigure.exclude", "org.apache.rocketmq.spring.autoconfigure.RocketMQAutoConfiguration");
+        properties.put("mybatis-plus.configuration.log-impl", "org.apache.ibatis.logging.nologging.NoLoggingImpl");
+        properties.put("logging.level.root", "WARN");
+        properties.put("short-link.domain.default", options.getDomain());
+        properties.put("short-link.bloom-filter.initial-capacity", Math.max(100000, options.getLinks() * 4));
+        // 压测请求均来自本机同一 IP，关闭跳转限流以测量跳转链路本身
+        properties.put("short-link.redirect-rate-limit.enable", false);
+        // 压测库不含访问日志表
+        properties.put("short-link.access-logs-partition.enable", false);
+        properties.put("short-link.redirect-filter.enable", true);
+        properties.put("short-link.reactive-redirect.enable", reactiveEnable);
+        properties.put("short-link.reactive-redirect.port", reactivePort);
+        properties.put("short-link.warm-up.enable", options.getCacheWarmUp());
+        properties.put("short-link.warm-up.source", "total");
+        properties.put("short-link.warm-up.top-n", options.getLinks());
+        return properties.entrySet().stream()
+                .map(each -> "--" + each.getKey() + "=" + each.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static void addToBloomFilter(ShortLinkScalableBloomFilter bloomFilter, String domain, List<String> shortUris) {
+        List<String> batch = new ArrayList<>(BLOOM_FILTER_ADD_BATCH_SIZE);
+        for (String each : shortUris) {
+            batch.add(domain + "/" + each);
+            if (batch.size() == BLOOM_FILTER_ADD_BATCH_SIZE) {
+                bloomFilter.addAll(batch);
+                batch = new ArrayList<>(BLOOM_FILTER_ADD_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            bloomFilter.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Zipf 分布下标生成器，预先计算累计概率后二分查找，排名越靠前的下标被选中的概率越高
+ */
+public class ZipfianGenerator {
+
+    private final double[] cumulativeProbabilities;
+
+    /**
+     * @param itemCount 元素数量
+     * @param exponent  分布指数，取值大于 0
+     */
+    public ZipfianGenerator(int itemCount, double exponent) {
+        if (itemCount <= 0 || exponent <= 0) {
+            throw new IllegalArgumentException("元素数量与分布指数必须大于 0");
+        }
+        cumulativeProbabilities = new double[itemCount];
+        double sum = 0;
+        for (int i = 0; i < itemCount; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulativeProbabilities[i] = sum;
+        }
+        for (int i = 0; i < itemCount; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    /**
+     * 按 Zipf 分布获取下一个下标
+     */
+    public int next() {
+        double random = ThreadLocalRandom.current().nextDouble();
+        int low = 0;
+        int high = cumulativeProbabilities.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeProbabilities[mid] < random) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 排名前 topN 的元素被选中的概率之和
+     */
+    public double topProbability(int topN) {
+        return cumulativeProbabilities[Math.min(topN, cumulativeProbabilities.length) - 1];
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.negativecache;
+
+import cn.hutool.core.util.StrUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nageoffer.shortlink.benchmarks.loadtest.LocalRedisServer;
+import com.nageoffer.shortlink.benchmarks.toolkit.CommandLineOptions;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkNegativeCache;
+import com.nageoffer.shortlink.project.config.ShortLinkNegativeCacheConfiguration;
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * 空值缓存内存对比
+ * 模拟扫描器随机访问不存在的短链接：按布隆过滤器误判率计算需要写入空值缓存的短链接数量，
+ * 分别以每个短链接一个字符串 Key 与时间窗口位图两种方式写入同一个 Redis，对比 used_memory 增量，
+ * 并统计位图对真实短链接的误判率与本地空值缓存的堆内存占用；
+ * 两种方式均按单个保留周期统计，字符串 Key 保留 30 分钟，位图保留一到两个 15 分钟窗口
+ * 运行：mvn -Pbenchmarks -pl benchmarks -am package -DskipTests && java -cp benchmarks/target/benchmarks.jar com.nageoffer.shortlink.benchmarks.negativecache.NegativeCacheMemoryComparison --scans=200000000
+ */
+public class NegativeCacheMemoryComparison {
+
+    private static final String LEGACY_NULL_KEY_FORMAT = "short-link:is-null:goto_%s";
+
+    private static final long LEGACY_NULL_KEY_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private static final int PIPELINE_BATCH_SIZE = 1000;
+
+    private static final int SHORT_URI_LENGTH = 6;
+
+    public static void main(String[] args) throws Exception {
+        NegativeCacheMemoryOptions options = CommandLineOptions.parse(args, new NegativeCacheMemoryOptions());
+        int misses = (int) Math.round(options.getScans() * options.getBloomFalseProbability());
+        System.out.printf("扫描请求 %d 次，布隆过滤器误判率 %.4f，写入空值缓存 %d 条%n", options.getScans(), options.getBloomFalseProbability(), misses);
+
+        try (LocalRedisServer redisServer = StrUtil.isBlank(options.getRedisHost()) ? LocalRedisServer.start(options.getRedisServerBinary()) : null) {
+            RedisStandaloneConfiguration redisConfiguration = new RedisStandaloneConfiguration(
+                    redisServer != null ? "127.0.0.1" : options.getRedisHost(),
+                    redisServer != null ? redisServer.getPort() : options.getRedisPort()
+            );
+            redisConfiguration.setDatabase(options.getRedisDatabase());
+            LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redisConfiguration);
+            connectionFactory.afterPropertiesSet();
+            try {
+                StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+                List<String> scannedUrls = randomFullShortUrls(options.getDomain(), misses, new SplittableRandom(1L));
+
+                long legacyBytes = measure(stringRedisTemplate, () -> writeLegacyKeys(stringRedisTemplate, scannedUrls));
+                ShortLinkNegativeCacheConfiguration negativeCacheConfiguration = new ShortLinkNegativeCacheConfiguration();
+                negativeCacheConfiguration.setBitmapBits(options.getBitmapBits());
+                negativeCacheConfiguration.setHashCount(options.getHashCount());
+                negativeCacheConfiguration.setWindowCapacity(options.getWindowCapacity());
+                negativeCacheConfiguration.setLocalMaxSize(options.getLocalMaxSize());
+                ShortLinkNegativeCache writer = newNegativeCache(stringRedisTemplate, negativeCacheConfiguration);
+                long bitmapBytes = measure(stringRedisTemplate, () -> scannedUrls.forEach(writer::add));
+
+                // 新实例的本地缓存为空，探测结果只取决于 Redis 位图
+                ShortLinkNegativeCache reader = newNegativeCache(stringRedisTemplate, negativeCacheConfiguration);
+                List<String> realUrls = randomFullShortUrls(options.getDomain(), options.getFalsePositiveProbes(), new SplittableRandom(2L));
+                long falsePositives = realUrls.stream().filter(reader::contains).count();
+                long localCacheBytes = measureLocalCache(scannedUrls, options.getLocalMaxSize());
+
+                System.out.printf("%-24s %14s %14s%n", "方式", "Redis 内存", "每条记录");
+                System.out.printf("%-24s %14s %14.1f%n", "字符串 Key", humanReadable(legacyBytes), misses == 0 ? 0D : (double) legacyBytes / misses);
+                System.out.printf("%-24s %14s %14.1f%n", "时间窗口位图", humanReadable(bitmapBytes), misses == 0 ? 0D : (double) bitmapBytes / misses);
+                System.out.printf("位图写入上限 %d 条，实际写入 %d 条；真实短链接误判 %d / %d（%.4f%%）%n",
+                        options.getWindowCapacity(),
+                        Math.min(misses, options.getWindowCapacity()),
+                        falsePositives,
+                        realUrls.size(),
+                        realUrls.isEmpty() ? 0D : falsePositives * 100D / realUrls.size());
+                System.out.printf("本地空值缓存 %d 条，估算堆内存 %s%n", Math.min(misses, options.getLocalMaxSize()), humanReadable(localCacheBytes));
+            } finally {
+                connectionFactory.destroy();
+            }
+        }
+    }
+
+    private static ShortLinkNegativeCache newNegativeCache(StringRedisTemplate stringRedisTemplate, ShortLinkNegativeCacheConfiguration configuration) {
+        ShortLinkNegativeCache negativeCache = new ShortLinkNegativeCache(stringRedisTemplate, configuration);
+        negativeCache.afterPropertiesSet();
+        return negativeCache;
+    }
+
+    private static void writeLegacyKeys(StringRedisTemplate stringRedisTemplate, List<String> fullShortUrls) {
+        byte[] value = "-".getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.milliseconds(LEGACY_NULL_KEY_TIMEOUT_MILLIS);
+        for (int from = 0; from < fullShortUrls.size(); from += PIPELINE_BATCH_SIZE) {
+            List<String> batch = fullShortUrls.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, fullShortUrls.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String each : batch) {
+                    connection.stringCommands().set(String.format(LEGACY_NULL_KEY_FORMAT, each).getBytes(StandardCharsets.UTF_8), value, expiration, RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 清空数据库后执行写入，返回 used_memory 增量
+     */
+    private static long measure(StringRedisTemplate stringRedisTemplate, Runnable writer) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        long before = usedMemory(stringRedisTemplate);
+        writer.run();
+        return usedMemory(stringRedisTemplate) - before;
+    }
+
+    private static long usedMemory(StringRedisTemplate stringRedisTemplate) {
+        Properties memory = stringRedisTemplate.execute((RedisCallback<Properties>) RedisConnection::info);
+        return Long.parseLong(memory.getProperty("used_memory"));
+    }
+
+    private static long measureLocalCache(List<String> fullShortUrls, long maxSize) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        Cache<String, Boolean> localCache = Caffeine.newBuilder().maximumSize(maxSize).build();
+        // 复制字符串，避免与写入阶段的列表共享对象导致低估
+        fullShortUrls.forEach(each -> localCache.put(new String(each.toCharArray()), Boolean.TRUE));
+        localCache.cleanUp();
+        System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        // 保持本地缓存在统计完成前可达
+        return localCache.estimatedSize() == 0L ? 0L : Math.max(0L, after - before);
+    }
+
+    private static List<String> randomFullShortUrls(String domain, int count, SplittableRandom random) {
+        long bound = HashUtil.pow62(SHORT_URI_LENGTH);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(domain + "/" + HashUtil.encodeToBase62(random.nextLong(bound), SHORT_URI_LENGTH));
+        }
+        return result;
+    }
+
+    private static String humanReadable(long bytes) {
+        if (bytes < 1024L) {
+            return bytes + " B";
+        }
+        if (bytes < 1024L * 1024L) {
+            return String.format("%.1f KB", bytes / 1024D);
+        }
+        return String.format("%.1f MB", bytes / 1024D / 1024D);
+    }
+}
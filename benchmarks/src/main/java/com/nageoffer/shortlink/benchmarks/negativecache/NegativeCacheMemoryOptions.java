@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.negativecache;
+
+import lombok.Data;
+
+/**
+ * 空值缓存内存对比参数，通过 --参数名=值 覆盖，例如 --scans=1000000000 --windowCapacity=500000
+ */
+@Data
+public class NegativeCacheMemoryOptions {
+
+    /**
+     * 扫描请求数量，每个请求访问一个随机的不存在短链接
+     */
+    private Long scans = 200000000L;
+
+    /**
+     * 布隆过滤器误判率，只有误判的扫描请求会查询数据库并写入空值缓存
+     */
+    private Double bloomFalseProbability = 0.001;
+
+    /**
+     * 空值位图位数
+     */
+    private Long bitmapBits = 8388608L;
+
+    /**
+     * 每个短链接在位图中占用的位数
+     */
+    private Integer hashCount = 4;
+
+    /**
+     * 每个时间窗口最多写入的空值记录数
+     */
+    private Long windowCapacity = 200000L;
+
+    /**
+     * 本地空值缓存最大条目数
+     */
+    private Long localMaxSize = 100000L;
+
+    /**
+     * 统计位图误判率时探测的真实短链接数量
+     */
+    private Integer falsePositiveProbes = 100000;
+
+    /**
+     * 短链接域名
+     */
+    private String domain = "nurl.ink";
+
+    /**
+     * 本地 redis-server 可执行文件，未指定 redisHost 时启动
+     */
+    private String redisServerBinary = "redis-server";
+
+    /**
+     * 已有 Redis 地址，指定后不再启动本地 redis-server，对比前会清空所选数据库
+     */
+    private String redisHost;
+
+    private Integer redisPort = 6379;
+
+    private Integer redisDatabase = 15;
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.standin;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * 持久层进程内替身，按方法名返回预先准备的查询结果，不依赖数据库
+ */
+public final class MapperStandIns {
+
+    private MapperStandIns() {
+    }
+
+    /**
+     * 创建持久层替身
+     *
+     * @param mapperType 持久层接口
+     * @param results    方法名与返回结果映射
+     * @return 持久层替身
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T of(Class<T> mapperType, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(mapperType.getClassLoader(), new Class<?>[]{mapperType}, (proxy, method, args) -> {
+            String methodName = method.getName();
+            if (results.containsKey(methodName)) {
+                return results.get(methodName);
+            }
+            return switch (methodName) {
+                case "toString" -> mapperType.getSimpleName() + "StandIn";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(mapperType.getSimpleName() + "#" + methodName + " 未准备替身结果");
+            };
+        });
+    }
+}
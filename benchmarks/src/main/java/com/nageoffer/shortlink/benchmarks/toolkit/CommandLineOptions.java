@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.benchmarks.toolkit;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.copier.CopyOptions;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 压测入口命令行参数解析，参数格式为 --参数名=值，参数名对应参数对象的属性名
+ */
+public final class CommandLineOptions {
+
+    private CommandLineOptions() {
+    }
+
+    /**
+     * 将命令行参数填充到带默认值的参数对象
+     *
+     * @param args    命令行参数
+     * @param options 参数对象
+     * @return 填充后的参数对象
+     */
+    public static <T> T parse(String[] args, T options) {
+        Set<String> propertyNames = BeanUtil.getBeanDesc(options.getClass()).getPropMap(false).keySet();
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String each : args) {
+            if (!each.startsWith("--") || !each.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --参数名=值：" + each);
+            }
+            String name = StrUtil.subBetween(each, "--", "=");
+            if (!propertyNames.contains(name)) {
+                throw new IllegalArgumentException("未知参数：" + name + "，可选参数：" + propertyNames);
+            }
+            values.put(name, StrUtil.subAfter(each, "=", false));
+        }
+        return BeanUtil.fillBeanWithMap(values, options, CopyOptions.create());
+    }
+}
@@ -0,0 +1,154 @@
+-- 压测数据库表结构，${index} 由压测工具替换为分片下标 0~15
+CREATE TABLE IF NOT EXISTS t_link_${index}
+(
+    id              BIGINT NOT NULL PRIMARY KEY,
+    domain          VARCHAR(128),
+    short_uri       VARCHAR(8),
+    full_short_url  VARCHAR(128),
+    origin_url      VARCHAR(1024),
+    click_num       INT     DEFAULT 0,
+    gid             VARCHAR(32),
+    favicon         VARCHAR(256),
+    enable_status   TINYINT DEFAULT 0,
+    created_type    TINYINT,
+    valid_date_type TINYINT,
+    valid_date      DATETIME,
+    `describe`      VARCHAR(1024),
+    total_pv        INT     DEFAULT 0,
+    total_uv        INT     DEFAULT 0,
+    total_uip       INT     DEFAULT 0,
+    create_time     DATETIME,
+    update_time     DATETIME,
+    del_time        BIGINT  DEFAULT 0,
+    del_flag        TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_full_short_url_${index} UNIQUE (full_short_url, del_time)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_goto_${index}
+(
+    id             BIGINT NOT NULL PRIMARY KEY,
+    gid            VARCHAR(32),
+    full_short_url VARCHAR(128),
+    CONSTRAINT idx_unique_goto_full_short_url_${index} UNIQUE (full_short_url)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_stats_today_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    gid            VARCHAR(32),
+    full_short_url VARCHAR(128),
+    date           DATE,
+    today_pv       INT     DEFAULT 0,
+    today_uv       INT     DEFAULT 0,
+    today_uip      INT     DEFAULT 0,
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS t_link_access_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    pv             INT DEFAULT 0,
+    uv             INT DEFAULT 0,
+    uip            INT DEFAULT 0,
+    `hour`         INT,
+    weekday        INT,
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_access_stats_${index} UNIQUE (full_short_url, gid, `date`, `hour`)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_locale_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    cnt            INT DEFAULT 0,
+    country        VARCHAR(64),
+    province       VARCHAR(64),
+    city           VARCHAR(64),
+    adcode         VARCHAR(64),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_locale_stats_${index} UNIQUE (full_short_url, gid, `date`, adcode, province)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_os_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    cnt            INT DEFAULT 0,
+    os             VARCHAR(64),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_os_stats_${index} UNIQUE (full_short_url, gid, `date`, os)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_browser_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    cnt            INT DEFAULT 0,
+    browser        VARCHAR(64),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_browser_stats_${index} UNIQUE (full_short_url, gid, `date`, browser)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_device_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    cnt            INT DEFAULT 0,
+    device         VARCHAR(64),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_device_stats_${index} UNIQUE (full_short_url, gid, `date`, device)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_network_stats_${index}
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `date`         DATE,
+    cnt            INT DEFAULT 0,
+    network        VARCHAR(64),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0,
+    CONSTRAINT idx_unique_link_network_stats_${index} UNIQUE (full_short_url, gid, `date`, network)
+);
+
+CREATE TABLE IF NOT EXISTS t_link_access_logs_${index}
+(
+    id             BIGINT NOT NULL PRIMARY KEY,
+    full_short_url VARCHAR(128),
+    gid            VARCHAR(32),
+    `user`         VARCHAR(64),
+    browser        VARCHAR(64),
+    os             VARCHAR(64),
+    ip             VARCHAR(64),
+    network        VARCHAR(64),
+    device         VARCHAR(64),
+    locale         VARCHAR(256),
+    create_time    DATETIME,
+    update_time    DATETIME,
+    del_flag       TINYINT DEFAULT 0
+);
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.redisson.api.RBloomFilter;
+
+/**
+ * 布隆过滤器分片
+ * 缓存分片位数与哈希次数，RBloomFilter#getSize 等方法每次调用都会读取 Redis 中的配置
+ */
+@Getter
+@AllArgsConstructor
+public class BloomFilterSlice {
+
+    /**
+     * 分片位图 Key
+     */
+    private final String name;
+
+    private final RBloomFilter<String> filter;
+
+    /**
+     * 位图位数
+     */
+    private final long size;
+
+    /**
+     * 哈希次数
+     */
+    private final int hashIterations;
+
+    /**
+     * 预期元素数量，超出后追加新分片
+     */
+    private final long capacity;
+
+    /**
+     * 分片元素计数 Key
+     */
+    private final String counterKey;
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBitSetAsync;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.Hash;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 短链接布隆过滤器批量操作
+ * Redisson RBloomFilter 仅提供单元素 contains，每次判断一次网络往返。这里在本地按 Redisson 相同的哈希方式计算位下标，
+ * 再通过 RBatch 将多个元素、多个分片的 GETBIT / SETBIT 合并为一次管道请求，判断结果与逐个调用 contains 完全一致
+ */
+@Component
+@RequiredArgsConstructor
+public class ShortLinkBloomFilterBatchHelper {
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 批量判断元素是否可能存在于任一布隆过滤器分片
+     *
+     * @param slices   布隆过滤器分片
+     * @param elements 待判断元素
+     * @return 与元素顺序一一对应的判断结果，true 表示可能存在
+     */
+    public boolean[] containsAll(List<BloomFilterSlice> slices, List<String> elements) {
+        boolean[] result = new boolean[elements.size()];
+        if (elements.isEmpty()) {
+            return result;
+        }
+        RBatch batch = redissonClient.createBatch();
+        int[] hashIterations = new int[slices.size()];
+        for (int i = 0; i < slices.size(); i++) {
+            BloomFilterSlice slice = slices.get(i);
+            hashIterations[i] = slice.getHashIterations();
+            RBitSetAsync bitSet = batch.getBitSet(slice.getName());
+            for (String each : elements) {
+                for (long index : bitIndexes(slice, each)) {
+                    bitSet.getAsync(index);
+                }
+            }
+        }
+        List<?> responses = batch.execute().getResponses();
+        int offset = 0;
+        for (int hashIteration : hashIterations) {
+            for (int i = 0; i < elements.size(); i++) {
+                if (!result[i]) {
+                    boolean contains = true;
+                    for (int j = offset + i * hashIteration; j < offset + (i + 1) * hashIteration; j++) {
+                        if (!Boolean.TRUE.equals(responses.get(j))) {
+                            contains = false;
+                            break;
+                        }
+                    }
+                    result[i] = contains;
+                }
+            }
+            offset += elements.size() * hashIteration;
+        }
+        return result;
+    }
+
+    /**
+     * 批量添加元素到布隆过滤器分片，所有 SETBIT 与分片元素计数通过一次管道请求完成
+     *
+     * @param slice    布隆过滤器分片
+     * @param elements 待添加元素
+     * @return 添加后分片元素计数
+     */
+    public long addAll(BloomFilterSlice slice, List<String> elements) {
+        RBatch batch = redissonClient.createBatch();
+        RBitSetAsync bitSet = batch.getBitSet(slice.getName());
+        for (String each : elements) {
+            for (long index : bitIndexes(slice, each)) {
+                bitSet.setAsync(index);
+            }
+        }
+        RFuture<Long> countFuture = batch.getAtomicLong(slice.getCounterKey()).addAndGetAsync(elements.size());
+        batch.execute();
+        return countFuture.getNow();
+    }
+
+    /**
+     * 计算元素在布隆过滤器位图中的下标，与 RedissonBloomFilter 内部实现保持一致
+     */
+    @SneakyThrows
+    public long[] bitIndexes(BloomFilterSlice slice, String element) {
+        ByteBuf encoded = slice.getFilter().getCodec().getValueEncoder().encode(element);
+        long[] hashes;
+        try {
+            hashes = Hash.hash128(encoded);
+        } finally {
+            encoded.release();
+        }
+        long[] indexes = new long[slice.getHashIterations()];
+        long hash = hashes[0];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (hash & Long.MAX_VALUE) % slice.getSize();
+            hash += i % 2 == 0 ? hashes[1] : hashes[0];
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接布隆过滤器运维端点
+ * 通过独立管理端口暴露（POST /actuator/bloomfilter），重建需扫描全部 t_link_goto 分片并重写整个布隆过滤器，不经网关对外提供
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "bloomfilter")
+public class ShortLinkBloomFilterEndpoint {
+
+    private final ShortLinkBloomFilterRebuildJob shortLinkBloomFilterRebuildJob;
+
+    /**
+     * 从 t_link_goto 在线重建布隆过滤器，异步执行
+     */
+    @WriteOperation
+    public void rebuild() {
+        shortLinkBloomFilterRebuildJob.submit();
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import com.nageoffer.shortlink.project.config.ShortLinkBloomFilterConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY;
+
+/**
+ * 短链接布隆过滤器本地副本
+ * 使用与 Redisson 相同的哈希方式在堆内 long 位图中维护当前代全部分片的副本：启动时通过 GETRANGE 分块加载 Redis 位图快照，
+ * 之后持续拉取新增元素广播流补齐其他节点新增的元素。副本就绪后判断不存在的短链接无需访问 Redis，
+ * 其他节点新增的元素存在最多一个拉取间隔的同步延迟；追加分片时本地追加空分片，重建切换代后重新加载快照；
+ * 广播流按长度裁剪，拉取落后到已读位置之后的元素被裁剪时重新加载快照，避免丢失新增元素
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkBloomFilterLocalReplica implements InitializingBean, DisposableBean {
+
+    private static final String ADD_STREAM_FIELD = "fullShortUrl";
+
+    private final ShortLinkScalableBloomFilter shortLinkScalableBloomFilter;
+    private final ShortLinkBloomFilterBatchHelper shortLinkBloomFilterBatchHelper;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShortLinkBloomFilterConfiguration shortLinkBloomFilterConfiguration;
+
+    private volatile ReplicaState state;
+    private String lastStreamId;
+
+    private ScheduledExecutorService replicaExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!Boolean.TRUE.equals(shortLinkBloomFilterConfiguration.getLocalReplicaEnable())) {
+            return;
+        }
+        replicaExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-bloom-filter-replica");
+            thread.setDaemon(true);
+            return thread;
+        });
+        replicaExecutor.scheduleWithFixedDelay(this::sync, 0L, shortLinkBloomFilterConfiguration.getSyncInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaExecutor != null) {
+            replicaExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 本地副本是否已完成快照加载，未就绪时调用方需回退到 Redis 布隆过滤器
+     */
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * 判断元素是否可能存在于任一分片
+     */
+    public boolean contains(String element) {
+        ReplicaState current = state;
+        for (int i = 0; i < current.slices.size(); i++) {
+            if (containsInSlice(current.slices.get(i), current.bits.get(i), element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 批量判断元素是否可能存在
+     */
+    public boolean[] containsAll(List<String> elements) {
+        boolean[] result = new boolean[elements.size()];
+        for (int i = 0; i < elements.size(); i++) {
+            result[i] = contains(elements.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 元素已写入 Redis 布隆过滤器后调用，写入本地副本并广播给其他节点
+     */
+    public void add(String element) {
+        addAll(List.of(element));
+    }
+
+    /**
+     * 元素已写入 Redis 布隆过滤器后调用，批量写入本地副本并通过管道广播给其他节点
+     */
+    public void addAll(List<String> elements) {
+        if (replicaExecutor == null || elements.isEmpty()) {
+            return;
+        }
+        ReplicaState current = state;
+        if (current != null) {
+            elements.forEach(each -> setBits(current, each));
+        }
+        RedisStreamCommands.XAddOptions addOptions = RedisStreamCommands.XAddOptions
+                .maxlen(shortLinkBloomFilterConfiguration.getAddStreamMaxLength())
+                .approximateTrimming(true);
+        byte[] streamKey = SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] field = ADD_STREAM_FIELD.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String each : elements) {
+                MapRecord<byte[], byte[], byte[]> record = MapRecord.create(streamKey, Map.of(field, each.getBytes(StandardCharsets.UTF_8)));
+                connection.streamCommands().xAdd(record, addOptions);
+            }
+            return null;
+        });
+    }
+
+    private void sync() {
+        try {
+            ShortLinkScalableBloomFilter.Layout layout = shortLinkScalableBloomFilter.getLayout();
+            ReplicaState current = state;
+            if (current == null || current.generation != layout.getGeneration()) {
+                bootstrap(layout);
+                return;
+            }
+            if (current.slices.size() < layout.getSlices().size()) {
+                List<AtomicLongArray> bits = new ArrayList<>(current.bits);
+                for (int i = current.slices.size(); i < layout.getSlices().size(); i++) {
+                    bits.add(new AtomicLongArray((int) ((layout.getSlices().get(i).getSize() + 63) >>> 6)));
+                }
+                state = new ReplicaState(current.generation, layout.getSlices(), bits);
+            }
+            if (isAddStreamTrimmed()) {
+                log.warn("[布隆过滤器本地副本] 广播流已裁剪到上次拉取位置 {} 之后，重新加载快照", lastStreamId);
+                bootstrap(layout);
+                return;
+            }
+            pullAddStream();
+        } catch (Throwable ex) {
+            log.warn("[布隆过滤器本地副本] 同步失败：{}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 加载当前代全部分片快照，加载期间继续使用旧副本，完成后从加载前记录的广播流位置重新补齐
+     */
+    private void bootstrap(ShortLinkScalableBloomFilter.Layout layout) {
+        List<MapRecord<String, Object, Object>> latestRecords = stringRedisTemplate.opsForStream()
+                .reverseRange(SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        String streamId = latestRecords == null || latestRecords.isEmpty() ? "0-0" : latestRecords.get(0).getId().getValue();
+        List<AtomicLongArray> bits = new ArrayList<>(layout.getSlices().size());
+        for (BloomFilterSlice each : layout.getSlices()) {
+            bits.add(loadSnapshot(each));
+        }
+        state = new ReplicaState(layout.getGeneration(), layout.getSlices(), bits);
+        lastStreamId = streamId;
+        log.info("[布隆过滤器本地副本] 第 {} 代快照加载完成，分片数量：{}", layout.getGeneration(), layout.getSlices().size());
+        pullAddStream();
+    }
+
+    /**
+     * 分块读取 Redis 位图，Redis 位图中每个字节高位在前，转换为 long 位图中低位在前的布局
+     */
+    private AtomicLongArray loadSnapshot(BloomFilterSlice slice) {
+        AtomicLongArray bits = new AtomicLongArray((int) ((slice.getSize() + 63) >>> 6));
+        byte[] key = slice.getName().getBytes(StandardCharsets.UTF_8);
+        long totalBytes = (slice.getSize() + 7) >>> 3;
+        int chunkBytes = shortLinkBloomFilterConfiguration.getSnapshotChunkBytes();
+        for (long offset = 0; offset < totalBytes; offset += chunkBytes) {
+            long start = offset;
+            byte[] chunk = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().getRange(key, start, start + chunkBytes - 1));
+            if (chunk == null || chunk.length == 0) {
+                break;
+            }
+            for (int i = 0; i < chunk.length; i += 8) {
+                long word = 0L;
+                for (int j = 0; j < 8 && i + j < chunk.length; j++) {
+                    long reversed = Integer.reverse(chunk[i + j] & 0xff) >>> 24;
+                    word |= reversed << (j * 8);
+                }
+                if (word != 0L) {
+                    bits.set((int) ((start + i) >>> 3), word);
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * 判断广播流最早的元素是否晚于上次拉取位置，即上次拉取之后的元素可能已被裁剪；
+     * 加载快照时广播流为空则从头拉取，不做判断，只有在一个拉取间隔内新增超过广播流长度上限时才会遗漏
+     */
+    private boolean isAddStreamTrimmed() {
+        RecordId lastRecordId = RecordId.of(lastStreamId);
+        if (lastRecordId.getTimestamp() == 0L && lastRecordId.getSequence() == 0L) {
+            return false;
+        }
+        List<MapRecord<String, Object, Object>> oldestRecords = stringRedisTemplate.opsForStream()
+                .range(SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (oldestRecords == null || oldestRecords.isEmpty()) {
+            return false;
+        }
+        RecordId oldestRecordId = oldestRecords.get(0).getId();
+        return oldestRecordId.getTimestamp() > lastRecordId.getTimestamp()
+                || (oldestRecordId.getTimestamp().equals(lastRecordId.getTimestamp()) && oldestRecordId.getSequence() > lastRecordId.getSequence());
+    }
+
+    private void pullAddStream() {
+        ReplicaState current = state;
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = stringRedisTemplate.opsForStream().read(
+                    StreamReadOptions.empty().count(shortLinkBloomFilterConfiguration.getSyncBatchSize()),
+                    StreamOffset.create(SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY, ReadOffset.from(lastStreamId))
+            );
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+            for (MapRecord<String, Object, Object> each : records) {
+                Object element = each.getValue().get(ADD_STREAM_FIELD);
+                if (element != null) {
+                    setBits(current, element.toString());
+                }
+            }
+            lastStreamId = records.get(records.size() - 1).getId().getValue();
+        } while (records.size() >= shortLinkBloomFilterConfiguration.getSyncBatchSize());
+    }
+
+    private boolean containsInSlice(BloomFilterSlice slice, AtomicLongArray bits, String element) {
+        for (long index : shortLinkBloomFilterBatchHelper.bitIndexes(slice, element)) {
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 新增元素写入最新分片，与 Redis 中新增元素写入位置一致
+     */
+    private void setBits(ReplicaState current, String element) {
+        int newest = current.slices.size() - 1;
+        AtomicLongArray bits = current.bits.get(newest);
+        for (long index : shortLinkBloomFilterBatchHelper.bitIndexes(current.slices.get(newest), element)) {
+            bits.accumulateAndGet((int) (index >>> 6), 1L << index, (left, right) -> left | right);
+        }
+    }
+
+    /**
+     * 副本状态，切换代或追加分片时整体替换
+     */
+    @AllArgsConstructor
+    private static class ReplicaState {
+
+        private final int generation;
+
+        private final List<BloomFilterSlice> slices;
+
+        private final List<AtomicLongArray> bits;
+    }
+}
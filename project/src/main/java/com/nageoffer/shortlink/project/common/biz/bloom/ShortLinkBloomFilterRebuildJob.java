@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.convention.exception.ClientException;
+import com.nageoffer.shortlink.project.config.ShortLinkBloomFilterConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkGotoDO;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkGotoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_BLOOM_FILTER_REBUILD_KEY;
+
+/**
+ * 短链接布隆过滤器在线重建任务
+ * 按 ID 顺序分页读取所有 t_link_goto 分片中的完整短链接写入新一代布隆过滤器，完成后原子切换，旧一代延迟删除；
+ * 开始读取前等待两个元数据刷新周期，确保所有节点已开始双写，读取期间新创建的短链接 ID 更大同样会被读取到
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkBloomFilterRebuildJob implements InitializingBean, DisposableBean {
+
+    private final RedissonClient redissonClient;
+    private final ShortLinkGotoMapper shortLinkGotoMapper;
+    private final ShortLinkScalableBloomFilter shortLinkScalableBloomFilter;
+    private final ShortLinkBloomFilterConfiguration shortLinkBloomFilterConfiguration;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ScheduledExecutorService rebuildExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "short-link-bloom-filter-rebuild"));
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 提交重建任务
+     */
+    public void submit() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ClientException("布隆过滤器重建任务正在执行");
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void rebuild() {
+        RLock lock = redissonClient.getLock(LOCK_BLOOM_FILTER_REBUILD_KEY);
+        if (!lock.tryLock()) {
+            log.warn("[布隆过滤器重建] 其他节点正在重建，本次跳过");
+            return;
+        }
+        int rebuildGeneration = -1;
+        try {
+            ShortLinkScalableBloomFilter.Layout previous = shortLinkScalableBloomFilter.getLayout();
+            rebuildGeneration = shortLinkScalableBloomFilter.beginRebuild();
+            log.info("[布隆过滤器重建] 开始重建第 {} 代", rebuildGeneration);
+            Thread.sleep(shortLinkBloomFilterConfiguration.getMetaRefreshInterval() * 2);
+            long lastId = 0L;
+            long total = 0L;
+            while (true) {
+                LambdaQueryWrapper<ShortLinkGotoDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
+                        .select(ShortLinkGotoDO::getId, ShortLinkGotoDO::getFullShortUrl)
+                        .gt(ShortLinkGotoDO::getId, lastId)
+                        .orderByAsc(ShortLinkGotoDO::getId)
+                        .last("limit " + shortLinkBloomFilterConfiguration.getRebuildPageSize());
+                List<ShortLinkGotoDO> linkGotoDOList = shortLinkGotoMapper.selectList(queryWrapper);
+                if (linkGotoDOList.isEmpty()) {
+                    break;
+                }
+                shortLinkScalableBloomFilter.addToRebuild(rebuildGeneration, linkGotoDOList.stream().map(ShortLinkGotoDO::getFullShortUrl).toList());
+                lastId = linkGotoDOList.get(linkGotoDOList.size() - 1).getId();
+                total += linkGotoDOList.size();
+            }
+            if (!shortLinkScalableBloomFilter.commitRebuild(rebuildGeneration)) {
+                log.warn("[布隆过滤器重建] 第 {} 代已被取消，放弃切换", rebuildGeneration);
+                return;
+            }
+            log.info("[布隆过滤器重建] 第 {} 代切换完成，写入短链接：{}", rebuildGeneration, total);
+            rebuildExecutor.schedule(
+                    () -> shortLinkScalableBloomFilter.retire(previous.getGeneration(), previous.getSlices().size()),
+                    shortLinkBloomFilterConfiguration.getRebuildRetireDelay(),
+                    TimeUnit.MILLISECONDS
+            );
+        } catch (Throwable ex) {
+            log.error("[布隆过滤器重建] 第 {} 代重建失败", rebuildGeneration, ex);
+            if (rebuildGeneration >= 0) {
+                shortLinkScalableBloomFilter.abortRebuild(rebuildGeneration);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
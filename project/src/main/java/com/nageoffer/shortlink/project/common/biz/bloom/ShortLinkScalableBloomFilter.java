@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.bloom;
+
+import cn.hutool.core.util.StrUtil;
+import com.nageoffer.shortlink.project.config.ShortLinkBloomFilterConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_BLOOM_FILTER_GROW_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_BLOOM_FILTER_COUNTER_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_BLOOM_FILTER_META_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_BLOOM_FILTER_SLICE_KEY;
+
+/**
+ * 可扩展短链接布隆过滤器
+ * 由若干分片组成，新增元素写入最新分片，最新分片元素数量超过预期后追加一个误判率更低的新分片，判断时任一分片命中即可能存在；
+ * 分片按代组织，重建任务将全部短链接写入新一代分片后原子切换，切换前新增元素同时写入新旧两代，各节点定时刷新元数据感知变化
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkScalableBloomFilter implements InitializingBean, DisposableBean {
+
+    /**
+     * 第 0 代首个分片沿用原布隆过滤器名称，升级后已有数据无需迁移
+     */
+    private static final String LEGACY_SLICE_NAME = "shortUriCreateCachePenetrationBloomFilter";
+
+    private static final String BLOOM_FILTER_SWAP_GENERATION_LUA_SCRIPT_PATH = "lua/bloom_filter_swap_generation.lua";
+
+    private final RedissonClient redissonClient;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShortLinkBloomFilterBatchHelper shortLinkBloomFilterBatchHelper;
+    private final ShortLinkBloomFilterConfiguration shortLinkBloomFilterConfiguration;
+
+    private volatile Layout layout;
+
+    private ScheduledExecutorService refreshExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-bloom-filter-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = shortLinkBloomFilterConfiguration.getMetaRefreshInterval();
+        refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 当前分片布局，本地副本据此同步
+     */
+    public Layout getLayout() {
+        return layout;
+    }
+
+    /**
+     * 判断元素是否可能存在
+     */
+    public boolean contains(String element) {
+        List<BloomFilterSlice> slices = layout.getSlices();
+        if (slices.size() == 1) {
+            return slices.get(0).getFilter().contains(element);
+        }
+        return shortLinkBloomFilterBatchHelper.containsAll(slices, List.of(element))[0];
+    }
+
+    /**
+     * 批量判断元素是否可能存在，所有分片的判断通过一次管道请求完成
+     */
+    public boolean[] containsAll(List<String> elements) {
+        return shortLinkBloomFilterBatchHelper.containsAll(layout.getSlices(), elements);
+    }
+
+    /**
+     * 添加元素
+     */
+    public void add(String element) {
+        addAll(List.of(element));
+    }
+
+    /**
+     * 批量添加元素，重建期间同时写入重建中的新一代分片
+     */
+    public void addAll(List<String> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        Layout current = layout;
+        appendToGeneration(current.getGeneration(), current.getSlices(), elements);
+        if (current.getRebuildSlices() != null) {
+            appendToGeneration(current.getRebuildGeneration(), current.getRebuildSlices(), elements);
+        }
+    }
+
+    /**
+     * 开始重建，创建新一代首个分片并通知各节点双写
+     *
+     * @return 新一代编号
+     */
+    public int beginRebuild() {
+        refresh();
+        Layout current = layout;
+        int rebuildGeneration = Math.max(current.getGeneration(), current.getRebuildGeneration()) + 1;
+        createSlice(rebuildGeneration, 0);
+        Map<String, String> meta = new HashMap<>();
+        meta.put("rebuildGeneration", String.valueOf(rebuildGeneration));
+        meta.put("rebuildSliceCount", "1");
+        stringRedisTemplate.opsForHash().putAll(SHORT_LINK_BLOOM_FILTER_META_KEY, meta);
+        stringRedisTemplate.opsForHash().increment(SHORT_LINK_BLOOM_FILTER_META_KEY, "version", 1);
+        refresh();
+        return rebuildGeneration;
+    }
+
+    /**
+     * 仅写入重建中的新一代分片
+     */
+    public void addToRebuild(int rebuildGeneration, List<String> elements) {
+        Layout current = layout;
+        if (current.getRebuildGeneration() != rebuildGeneration || current.getRebuildSlices() == null) {
+            refresh();
+            current = layout;
+        }
+        if (current.getRebuildGeneration() != rebuildGeneration || current.getRebuildSlices() == null) {
+            throw new IllegalStateException("布隆过滤器重建已被取消：" + rebuildGeneration);
+        }
+        appendToGeneration(rebuildGeneration, current.getRebuildSlices(), elements);
+    }
+
+    /**
+     * 原子切换到重建完成的新一代分片
+     *
+     * @return 是否切换成功
+     */
+    public boolean commitRebuild(int rebuildGeneration) {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(BLOOM_FILTER_SWAP_GENERATION_LUA_SCRIPT_PATH)));
+        redisScript.setResultType(Long.class);
+        Long result = stringRedisTemplate.execute(redisScript, List.of(SHORT_LINK_BLOOM_FILTER_META_KEY), String.valueOf(rebuildGeneration));
+        refresh();
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 取消重建并删除已写入的新一代分片
+     */
+    public void abortRebuild(int rebuildGeneration) {
+        Object currentRebuildGeneration = stringRedisTemplate.opsForHash().get(SHORT_LINK_BLOOM_FILTER_META_KEY, "rebuildGeneration");
+        if (String.valueOf(rebuildGeneration).equals(currentRebuildGeneration)) {
+            Object rebuildSliceCount = stringRedisTemplate.opsForHash().get(SHORT_LINK_BLOOM_FILTER_META_KEY, "rebuildSliceCount");
+            stringRedisTemplate.opsForHash().delete(SHORT_LINK_BLOOM_FILTER_META_KEY, "rebuildGeneration", "rebuildSliceCount");
+            stringRedisTemplate.opsForHash().increment(SHORT_LINK_BLOOM_FILTER_META_KEY, "version", 1);
+            retire(rebuildGeneration, parseInt(rebuildSliceCount, 1));
+        }
+        refresh();
+    }
+
+    /**
+     * 删除某一代全部分片
+     */
+    public void retire(int generation, int sliceCount) {
+        for (int i = 0; i < sliceCount; i++) {
+            String name = sliceName(generation, i);
+            redissonClient.getBloomFilter(name).delete();
+            stringRedisTemplate.delete(String.format(SHORT_LINK_BLOOM_FILTER_COUNTER_KEY, name));
+        }
+        log.info("[可扩展布隆过滤器] 删除第 {} 代分片，分片数量：{}", generation, sliceCount);
+    }
+
+    private void appendToGeneration(int generation, List<BloomFilterSlice> slices, List<String> elements) {
+        BloomFilterSlice newestSlice = slices.get(slices.size() - 1);
+        long count = shortLinkBloomFilterBatchHelper.addAll(newestSlice, elements);
+        if (count > newestSlice.getCapacity()) {
+            grow(generation, slices.size());
+        }
+    }
+
+    /**
+     * 最新分片已满时追加新分片，多个节点同时发现时只有一个节点追加
+     */
+    private void grow(int generation, int sliceCount) {
+        RLock lock = redissonClient.getLock(LOCK_BLOOM_FILTER_GROW_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            Map<Object, Object> meta = stringRedisTemplate.opsForHash().entries(SHORT_LINK_BLOOM_FILTER_META_KEY);
+            String sliceCountField;
+            if (parseInt(meta.get("generation"), 0) == generation) {
+                sliceCountField = "sliceCount";
+            } else if (parseInt(meta.get("rebuildGeneration"), -1) == generation) {
+                sliceCountField = "rebuildSliceCount";
+            } else {
+                return;
+            }
+            if (parseInt(meta.get(sliceCountField), 1) != sliceCount) {
+                return;
+            }
+            createSlice(generation, sliceCount);
+            stringRedisTemplate.opsForHash().put(SHORT_LINK_BLOOM_FILTER_META_KEY, sliceCountField, String.valueOf(sliceCount + 1));
+            stringRedisTemplate.opsForHash().increment(SHORT_LINK_BLOOM_FILTER_META_KEY, "version", 1);
+            log.info("[可扩展布隆过滤器] 第 {} 代追加分片：{}", generation, sliceCount);
+        } finally {
+            lock.unlock();
+        }
+        refresh();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Throwable ex) {
+            log.warn("[可扩展布隆过滤器] 刷新分片元数据失败：{}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 读取元数据，版本变化时重新构建分片布局
+     */
+    private synchronized void refresh() {
+        Map<Object, Object> meta = stringRedisTemplate.opsForHash().entries(SHORT_LINK_BLOOM_FILTER_META_KEY);
+        long version = parseInt(meta.get("version"), 0);
+        if (layout != null && layout.getVersion() == version) {
+            return;
+        }
+        int generation = parseInt(meta.get("generation"), 0);
+        int rebuildGeneration = parseInt(meta.get("rebuildGeneration"), -1);
+        List<BloomFilterSlice> slices = loadSlices(generation, parseInt(meta.get("sliceCount"), 1));
+        List<BloomFilterSlice> rebuildSlices = rebuildGeneration < 0
+                ? null
+                : loadSlices(rebuildGeneration, parseInt(meta.get("rebuildSliceCount"), 1));
+        layout = new Layout(version, generation, slices, rebuildGeneration, rebuildSlices);
+    }
+
+    private List<BloomFilterSlice> loadSlices(int generation, int sliceCount) {
+        List<BloomFilterSlice> previous = layout == null
+                ? List.of()
+                : layout.getGeneration() == generation ? layout.getSlices() : layout.getRebuildGeneration() == generation ? layout.getRebuildSlices() : List.of();
+        List<BloomFilterSlice> slices = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(previous != null && i < previous.size() ? previous.get(i) : createSlice(generation, i));
+        }
+        return List.copyOf(slices);
+    }
+
+    private BloomFilterSlice createSlice(int generation, int index) {
+        String name = sliceName(generation, index);
+        long capacity = (long) (shortLinkBloomFilterConfiguration.getInitialCapacity() * Math.pow(shortLinkBloomFilterConfiguration.getGrowthFactor(), index));
+        double falseProbability = shortLinkBloomFilterConfiguration.getFalseProbability() * Math.pow(shortLinkBloomFilterConfiguration.getTighteningRatio(), index);
+        RBloomFilter<String> filter = redissonClient.getBloomFilter(name);
+        filter.tryInit(capacity, falseProbability);
+        String counterKey = String.format(SHORT_LINK_BLOOM_FILTER_COUNTER_KEY, name);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(counterKey))) {
+            stringRedisTemplate.opsForValue().setIfAbsent(counterKey, String.valueOf(filter.count()));
+        }
+        return new BloomFilterSlice(name, filter, filter.getSize(), filter.getHashIterations(), filter.getExpectedInsertions(), counterKey);
+    }
+
+    private String sliceName(int generation, int index) {
+        return generation == 0 && index == 0 ? LEGACY_SLICE_NAME : String.format(SHORT_LINK_BLOOM_FILTER_SLICE_KEY, generation, index);
+    }
+
+    private int parseInt(Object value, int defaultValue) {
+        return value == null || StrUtil.isBlank(value.toString()) ? defaultValue : Integer.parseInt(value.toString());
+    }
+
+    /**
+     * 分片布局快照
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Layout {
+
+        /**
+         * 元数据版本，分片追加、重建开始与切换时递增
+         */
+        private final long version;
+
+        /**
+         * 当前代
+         */
+        private final int generation;
+
+        /**
+         * 当前代分片
+         */
+        private final List<BloomFilterSlice> slices;
+
+        /**
+         * 重建中的代，未在重建时为 -1
+         */
+        private final int rebuildGeneration;
+
+        /**
+         * 重建中的代分片，未在重建时为 null
+         */
+        private final List<BloomFilterSlice> rebuildSlices;
+    }
+}
@@ -0,0 +1,527 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.cache;
+
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.biz.hotkey.ShortLinkHotKeyDetector;
+import com.nageoffer.shortlink.project.common.biz.jfr.ShortLinkRedirectStageEvent;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkGotoLoadStatusEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
+import com.nageoffer.shortlink.project.config.ShortLinkGotoCacheConfiguration;
+import com.nageoffer.shortlink.project.config.ShortLinkHotKeyConfiguration;
+import com.nageoffer.shortlink.project.config.ShortLinkNegativeCacheConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkGotoDO;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkGotoMapper;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkMapper;
+import com.nageoffer.shortlink.project.toolkit.LinkUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GOTO_SHORT_LINK_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GOTO_SHORT_LINK_REPLICA_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LEASE_GOTO_SHORT_LINK_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_GOTO_REFRESH_SHORT_LINK_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_GOTO_SHORT_LINK_KEY;
+
+/**
+ * 短链接跳转缓存
+ * 缓存值格式为「逻辑过期时间戳|原始链接」，永久短链接的 Redis 过期时间比逻辑过期时间多出一个容忍窗口：
+ * 逻辑过期后仍返回旧的原始链接，同时由单个后台任务回源刷新，避免大量短链接同时过期时请求集中打到数据库；
+ * 有效期短链接的逻辑过期时间即为有效期，不会返回过期数据；
+ * 热点短链接优先读取本地缓存，开启副本时随机读取多个 Redis 副本 Key 之一，避免单 Key 所在分片过热；
+ * 未命中时默认通过 Lua 脚本回源，未命中路径的 Redis 往返次数从读缓存、读空值、加锁、再读缓存、写缓存、解锁降为检查与回填两次
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkGotoCache implements InitializingBean, DisposableBean {
+
+    private static final char VALUE_SEPARATOR = '|';
+
+    /**
+     * 跳转缓存 Key 前缀，跳转热路径上直接拼接，避免每次格式化
+     */
+    private static final String CACHE_KEY_PREFIX = GOTO_SHORT_LINK_KEY.substring(0, GOTO_SHORT_LINK_KEY.indexOf("%s"));
+
+    private static final String GOTO_CACHE_MISS_CHECK_LUA_SCRIPT_PATH = "lua/goto_cache_miss_check.lua";
+    private static final String GOTO_CACHE_MISS_FILL_LUA_SCRIPT_PATH = "lua/goto_cache_miss_fill.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final ShortLinkGotoMapper shortLinkGotoMapper;
+    private final ShortLinkMapper shortLinkMapper;
+    private final ShortLinkGotoCacheConfiguration shortLinkGotoCacheConfiguration;
+    private final ShortLinkHotKeyDetector shortLinkHotKeyDetector;
+    private final ShortLinkHotKeyConfiguration shortLinkHotKeyConfiguration;
+    private final ShortLinkThreadFactories shortLinkThreadFactories;
+    private final ShortLinkMetrics shortLinkMetrics;
+    private final ShortLinkNegativeCache shortLinkNegativeCache;
+    private final ShortLinkNegativeCacheConfiguration shortLinkNegativeCacheConfiguration;
+    private final RedisProperties redisProperties;
+
+    private final DefaultRedisScript<List<String>> missCheckScript = buildScript(GOTO_CACHE_MISS_CHECK_LUA_SCRIPT_PATH, List.class);
+    private final DefaultRedisScript<Long> missFillScript = buildScript(GOTO_CACHE_MISS_FILL_LUA_SCRIPT_PATH, Long.class);
+    private final Set<String> refreshingFullShortUrls = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor refreshExecutor;
+    private boolean loadScriptEnabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        loadScriptEnabled = shortLinkGotoCacheConfiguration.getLoadScriptEnable();
+        if (loadScriptEnabled && redisProperties.getCluster() != null) {
+            // 脚本访问的跳转缓存、回源租约与空值位图不在同一哈希槽，Cluster 下执行会返回 CROSSSLOT
+            log.warn("[跳转缓存回源] 检测到 Redis Cluster 部署，Lua 脚本回源不可用，回退为分布式锁回源");
+            loadScriptEnabled = false;
+        }
+        refreshExecutor = new ThreadPoolExecutor(
+                shortLinkGotoCacheConfiguration.getRefreshThreadCount(),
+                shortLinkGotoCacheConfiguration.getRefreshThreadCount(),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(shortLinkGotoCacheConfiguration.getRefreshQueueCapacity()),
+                shortLinkThreadFactories.newThreadFactory("short-link-goto-cache-refresh-")
+        );
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+
+    /**
+     * 读取跳转缓存
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 缓存值，不存在时返回 null
+     */
+    public ShortLinkGotoCacheValue get(String fullShortUrl) {
+        return decode(stringRedisTemplate.opsForValue().get(cacheKey(fullShortUrl)));
+    }
+
+    /**
+     * 读取跳转缓存，逻辑过期时触发后台刷新
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 原始链接，不存在时返回 null
+     */
+    public String getOriginUrl(String fullShortUrl) {
+        boolean hot = shortLinkHotKeyDetector.record(fullShortUrl);
+        if (hot) {
+            String pinnedOriginUrl = shortLinkHotKeyDetector.getLocal(fullShortUrl);
+            if (pinnedOriginUrl != null) {
+                return pinnedOriginUrl;
+            }
+        }
+        boolean replicaEnable = hot && shortLinkHotKeyConfiguration.getReplicaEnable();
+        String value = null;
+        if (replicaEnable) {
+            int replicaIndex = ThreadLocalRandom.current().nextInt(shortLinkHotKeyConfiguration.getReplicaCount());
+            value = stringRedisTemplate.opsForValue().get(String.format(GOTO_SHORT_LINK_REPLICA_KEY, fullShortUrl, replicaIndex));
+        }
+        boolean replicaHit = value != null;
+        if (!replicaHit) {
+            value = stringRedisTemplate.opsForValue().get(cacheKey(fullShortUrl));
+        }
+        ShortLinkGotoCacheValue cacheValue = decode(value);
+        if (cacheValue == null) {
+            return null;
+        }
+        if (cacheValue.isStale()) {
+            refreshAsync(fullShortUrl);
+        }
+        if (hot && shortLinkHotKeyDetector.pin(fullShortUrl, cacheValue.getOriginUrl()) && replicaEnable && !replicaHit) {
+            putReplicas(fullShortUrl, value);
+        }
+        return cacheValue.getOriginUrl();
+    }
+
+    /**
+     * 写入跳转缓存
+     *
+     * @param fullShortUrl 完整短链接
+     * @param originUrl    原始链接
+     * @param validDate    有效期，永久短链接为 null
+     */
+    public void put(String fullShortUrl, String originUrl, Date validDate) {
+        shortLinkHotKeyDetector.evict(fullShortUrl);
+        long cacheValidTime = LinkUtil.getLinkCacheValidTime(validDate);
+        stringRedisTemplate.opsForValue().set(
+                cacheKey(fullShortUrl),
+                encode(originUrl, cacheValidTime),
+                getExpireTime(cacheValidTime, validDate), TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * 通过管道批量写入跳转缓存
+     *
+     * @param shortLinks   短链接，需包含完整短链接、原始链接与有效期
+     * @param onlyIfAbsent 是否仅在缓存不存在时写入
+     */
+    public void putAll(List<ShortLinkDO> shortLinks, boolean onlyIfAbsent) {
+        RedisStringCommands.SetOption setOption = onlyIfAbsent ? RedisStringCommands.SetOption.ifAbsent() : RedisStringCommands.SetOption.upsert();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ShortLinkDO each : shortLinks) {
+                long cacheValidTime = LinkUtil.getLinkCacheValidTime(each.getValidDate());
+                connection.stringCommands().set(
+                        cacheKey(each.getFullShortUrl()).getBytes(StandardCharsets.UTF_8),
+                        encode(each.getOriginUrl(), cacheValidTime).getBytes(StandardCharsets.UTF_8),
+                        Expiration.milliseconds(getExpireTime(cacheValidTime, each.getValidDate())),
+                        setOption
+                );
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 删除跳转缓存，包括热点副本与本节点本地缓存
+     *
+     * @param fullShortUrl 完整短链接
+     */
+    public void evict(String fullShortUrl) {
+        shortLinkHotKeyDetector.evict(fullShortUrl);
+        List<String> keys = new ArrayList<>();
+        keys.add(cacheKey(fullShortUrl));
+        if (shortLinkHotKeyConfiguration.getReplicaEnable()) {
+            for (int i = 0; i < shortLinkHotKeyConfiguration.getReplicaCount(); i++) {
+                keys.add(String.format(GOTO_SHORT_LINK_REPLICA_KEY, fullShortUrl, i));
+            }
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * 从数据库加载可跳转的短链接
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 短链接，不存在、已禁用或已过期时返回 null
+     */
+    public ShortLinkDO loadFromDatabase(String fullShortUrl) {
+        LambdaQueryWrapper<ShortLinkGotoDO> linkGotoQueryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
+                .eq(ShortLinkGotoDO::getFullShortUrl, fullShortUrl);
+        ShortLinkGotoDO shortLinkGotoDO = shortLinkGotoMapper.selectOne(linkGotoQueryWrapper);
+        if (shortLinkGotoDO == null) {
+            return null;
+        }
+        LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
+                .eq(ShortLinkDO::getGid, shortLinkGotoDO.getGid())
+                .eq(ShortLinkDO::getFullShortUrl, fullShortUrl)
+                .eq(ShortLinkDO::getDelFlag, 0)
+                .eq(ShortLinkDO::getEnableStatus, 0);
+        ShortLinkDO shortLinkDO = shortLinkMapper.selectOne(queryWrapper);
+        if (shortLinkDO == null || (shortLinkDO.getValidDate() != null && shortLinkDO.getValidDate().before(new Date()))) {
+            return null;
+        }
+        return shortLinkDO;
+    }
+
+    /**
+     * 缓存未命中时回源，同一短链接同一时刻只有一个请求查询数据库；
+     * 已被其他请求加载时直接返回缓存中的原始链接，此时结果中不包含分组标识
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 短链接，命中空值缓存或不存在时返回 null
+     */
+    public ShortLinkDO load(String fullShortUrl) {
+        return loadScriptEnabled ? loadWithScript(fullShortUrl) : loadWithLock(fullShortUrl);
+    }
+
+    /**
+     * 通过 Lua 脚本回源：一次往返完成缓存读取、空值判断与回源租约抢占，当选请求查询数据库后再一次往返回填缓存并释放租约；
+     * 未当选请求按间隔重新执行检查脚本，租约到期仍未回填时由下一次检查的请求重新当选
+     */
+    private ShortLinkDO loadWithScript(String fullShortUrl) {
+        if (shortLinkNegativeCache.containsLocal(fullShortUrl)) {
+            shortLinkMetrics.increment(ShortLinkCounterEnum.REDIRECT_NULL_CACHE_HIT);
+            return null;
+        }
+        String leaseKey = String.format(LEASE_GOTO_SHORT_LINK_KEY, fullShortUrl);
+        List<String> keys = new ArrayList<>(4);
+        keys.add(cacheKey(fullShortUrl));
+        keys.add(leaseKey);
+        keys.addAll(shortLinkNegativeCache.windowKeys(fullShortUrl));
+        List<Object> args = new ArrayList<>(2 + shortLinkNegativeCacheConfiguration.getHashCount());
+        args.add(IdUtil.fastSimpleUUID());
+        args.add(String.valueOf(shortLinkGotoCacheConfiguration.getLoadLeaseTimeout()));
+        args.addAll(shortLinkNegativeCache.bitOffsets(fullShortUrl));
+        String leaseToken = (String) args.get(0);
+        long waitStartTime = System.nanoTime();
+        long waitDeadline = waitStartTime + TimeUnit.MILLISECONDS.toNanos(shortLinkGotoCacheConfiguration.getLoadLeaseTimeout());
+        ShortLinkRedirectStageEvent waitEvent = ShortLinkRedirectStageEvent.start();
+        while (true) {
+            long scriptStartTime = System.nanoTime();
+            ShortLinkRedirectStageEvent scriptEvent = ShortLinkRedirectStageEvent.start();
+            List<String> result = stringRedisTemplate.execute(missCheckScript, keys, args.toArray());
+            scriptEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_LOAD_SCRIPT);
+            shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_LOAD_SCRIPT, scriptStartTime);
+            switch (ShortLinkGotoLoadStatusEnum.of(result.get(0))) {
+                case HIT -> {
+                    ShortLinkGotoCacheValue cacheValue = decode(result.get(1));
+                    if (cacheValue.isStale()) {
+                        refreshAsync(fullShortUrl);
+                    }
+                    return ShortLinkDO.builder().fullShortUrl(fullShortUrl).originUrl(cacheValue.getOriginUrl()).build();
+                }
+                case NULL -> {
+                    shortLinkNegativeCache.putLocal(fullShortUrl);
+                    shortLinkMetrics.increment(ShortLinkCounterEnum.REDIRECT_NULL_CACHE_HIT);
+                    return null;
+                }
+                case ELECTED -> {
+                    waitEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_LOCK_WAIT);
+                    shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_LOCK_WAIT, waitStartTime);
+                    return loadAsLeaseHolder(fullShortUrl, leaseKey, leaseToken);
+                }
+                default -> {
+                    if (System.nanoTime() - waitDeadline > 0L) {
+                        // 租约已被其他请求重新抢占仍未回填，不再等待，直接查询数据库且不回填缓存
+                        log.warn("[跳转缓存回源] 短链接：{} 等待回源超时，直接查询数据库", fullShortUrl);
+                        return loadFromDatabase(fullShortUrl);
+                    }
+                    try {
+                        Thread.sleep(shortLinkGotoCacheConfiguration.getLoadPollInterval());
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return loadFromDatabase(fullShortUrl);
+                    }
+                }
+            }
+        }
+    }
+
+    private ShortLinkDO loadAsLeaseHolder(String fullShortUrl, String leaseKey, String leaseToken) {
+        boolean leaseReleased = false;
+        try {
+            long loadStartTime = System.nanoTime();
+            ShortLinkRedirectStageEvent loadEvent = ShortLinkRedirectStageEvent.start();
+            ShortLinkDO shortLinkDO = loadFromDatabase(fullShortUrl);
+            loadEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_DB_LOAD);
+            shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_DB_LOAD, loadStartTime);
+            if (shortLinkDO == null) {
+                // 调用方已通过布隆过滤器判断，数据库中不存在即为误判或短链接已删除
+                shortLinkMetrics.increment(ShortLinkCounterEnum.REDIRECT_BLOOM_FALSE_POSITIVE);
+                // 写入空值缓存后再释放租约，避免等待中的请求重新当选回源
+                shortLinkNegativeCache.add(fullShortUrl);
+                return null;
+            }
+            shortLinkHotKeyDetector.evict(fullShortUrl);
+            long cacheValidTime = LinkUtil.getLinkCacheValidTime(shortLinkDO.getValidDate());
+            fill(cacheKey(fullShortUrl), encode(shortLinkDO.getOriginUrl(), cacheValidTime), getExpireTime(cacheValidTime, shortLinkDO.getValidDate()), leaseKey, leaseToken);
+            leaseReleased = true;
+            return shortLinkDO;
+        } finally {
+            if (!leaseReleased) {
+                fill(cacheKey(fullShortUrl), "", 0L, leaseKey, leaseToken);
+            }
+        }
+    }
+
+    /**
+     * 回填缓存并释放回源租约，值为空时仅释放租约
+     */
+    private void fill(String targetKey, String value, long expireMillis, String leaseKey, String leaseToken) {
+        stringRedisTemplate.execute(missFillScript, List.of(targetKey, leaseKey), value, String.valueOf(expireMillis), leaseToken);
+    }
+
+    /**
+     * 通过分布式锁回源，加锁后再次读取缓存
+     */
+    private ShortLinkDO loadWithLock(String fullShortUrl) {
+        long nullCacheStartTime = System.nanoTime();
+        ShortLinkRedirectStageEvent nullCacheEvent = ShortLinkRedirectStageEvent.start();
+        boolean negative = shortLinkNegativeCache.contains(fullShortUrl);
+        nullCacheEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_NULL_CACHE);
+        shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_NULL_CACHE, nullCacheStartTime);
+        if (negative) {
+            shortLinkMetrics.increment(ShortLinkCounterEnum.REDIRECT_NULL_CACHE_HIT);
+            return null;
+        }
+        RLock lock = redissonClient.getLock(String.format(LOCK_GOTO_SHORT_LINK_KEY, fullShortUrl));
+        long lockStartTime = System.nanoTime();
+        ShortLinkRedirectStageEvent lockEvent = ShortLinkRedirectStageEvent.start();
+        lock.lock();
+        lockEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_LOCK_WAIT);
+        shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_LOCK_WAIT, lockStartTime);
+        try {
+            // 调用方读取缓存时已记录过访问次数，此处直接读取缓存，避免热点探测重复计数
+            ShortLinkGotoCacheValue cacheValue = get(fullShortUrl);
+            if (cacheValue != null && StrUtil.isNotBlank(cacheValue.getOriginUrl())) {
+                if (cacheValue.isStale()) {
+                    refreshAsync(fullShortUrl);
+                }
+                return ShortLinkDO.builder().fullShortUrl(fullShortUrl).originUrl(cacheValue.getOriginUrl()).build();
+            }
+            long loadStartTime = System.nanoTime();
+            ShortLinkRedirectStageEvent loadEvent = ShortLinkRedirectStageEvent.start();
+            ShortLinkDO shortLinkDO = loadFromDatabase(fullShortUrl);
+            loadEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_DB_LOAD);
+            shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_DB_LOAD, loadStartTime);
+            if (shortLinkDO == null) {
+                // 调用方已通过布隆过滤器判断，数据库中不存在即为误判或短链接已删除
+                shortLinkMetrics.increment(ShortLinkCounterEnum.REDIRECT_BLOOM_FALSE_POSITIVE);
+                shortLinkNegativeCache.add(fullShortUrl);
+                return null;
+            }
+            put(fullShortUrl, shortLinkDO.getOriginUrl(), shortLinkDO.getValidDate());
+            return shortLinkDO;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 后台刷新逻辑过期的跳转缓存，本节点与集群内同一短链接同时只有一个刷新任务
+     *
+     * @param fullShortUrl 完整短链接
+     */
+    public void refreshAsync(String fullShortUrl) {
+        if (!refreshingFullShortUrls.add(fullShortUrl)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(fullShortUrl);
+                } catch (Throwable ex) {
+                    log.error("[跳转缓存刷新] 短链接：{} 刷新失败", fullShortUrl, ex);
+                } finally {
+                    refreshingFullShortUrls.remove(fullShortUrl);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // 等待队列已满时放弃本次刷新，继续返回旧值，由下一次访问重新触发
+            refreshingFullShortUrls.remove(fullShortUrl);
+        }
+    }
+
+    private void refresh(String fullShortUrl) {
+        String lockKey = String.format(LOCK_GOTO_REFRESH_SHORT_LINK_KEY, fullShortUrl);
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, "-", shortLinkGotoCacheConfiguration.getRefreshLockTimeout(), TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            ShortLinkDO shortLinkDO = loadFromDatabase(fullShortUrl);
+            if (shortLinkDO == null) {
+                evict(fullShortUrl);
+                shortLinkNegativeCache.add(fullShortUrl);
+                return;
+            }
+            put(fullShortUrl, shortLinkDO.getOriginUrl(), shortLinkDO.getValidDate());
+        } finally {
+            stringRedisTemplate.delete(lockKey);
+        }
+    }
+
+    /**
+     * 写入热点副本，副本有效期与本地缓存一致，到期后随热点续期重新写入
+     */
+    private void putReplicas(String fullShortUrl, String value) {
+        byte[] rawValue = value.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.milliseconds(shortLinkHotKeyConfiguration.getLocalCacheTtl());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < shortLinkHotKeyConfiguration.getReplicaCount(); i++) {
+                connection.stringCommands().set(
+                        String.format(GOTO_SHORT_LINK_REPLICA_KEY, fullShortUrl, i).getBytes(StandardCharsets.UTF_8),
+                        rawValue,
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()
+                );
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> DefaultRedisScript<T> buildScript(String path, Class resultType) {
+        DefaultRedisScript<T> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        redisScript.setResultType(resultType);
+        return redisScript;
+    }
+
+    private long getExpireTime(long cacheValidTime, Date validDate) {
+        return validDate == null ? cacheValidTime + shortLinkGotoCacheConfiguration.getStaleWindow() : cacheValidTime;
+    }
+
+    private static String encode(String originUrl, long cacheValidTime) {
+        return (System.currentTimeMillis() + cacheValidTime) + String.valueOf(VALUE_SEPARATOR) + originUrl;
+    }
+
+    /**
+     * 跳转缓存 Key
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 缓存 Key
+     */
+    public static String cacheKey(String fullShortUrl) {
+        return CACHE_KEY_PREFIX.concat(fullShortUrl);
+    }
+
+    /**
+     * 解析跳转缓存值
+     *
+     * @param value Redis 中的缓存值
+     * @return 缓存值，为空时返回 null
+     */
+    public static ShortLinkGotoCacheValue decode(String value) {
+        if (StrUtil.isBlank(value)) {
+            return null;
+        }
+        int separatorIndex = value.indexOf(VALUE_SEPARATOR);
+        if (separatorIndex <= 0 || !StrUtil.isNumeric(value.substring(0, separatorIndex))) {
+            // 兼容升级前写入的纯原始链接缓存值
+            return new ShortLinkGotoCacheValue(value, false);
+        }
+        long softExpireTime = Long.parseLong(value.substring(0, separatorIndex));
+        return new ShortLinkGotoCacheValue(value.substring(separatorIndex + 1), softExpireTime <= System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.cache;
+
+import cn.hutool.core.lang.hash.MurmurHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nageoffer.shortlink.project.config.ShortLinkNegativeCacheConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GOTO_IS_NULL_WINDOW_COUNT_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GOTO_IS_NULL_WINDOW_KEY;
+
+/**
+ * 短链接空值缓存
+ * 通过布隆过滤器判断但数据库中不存在的短链接记录在按时间窗口划分的 Redis 位图中，每个短链接占用位图中的若干位，
+ * 查询时检查当前与上一个窗口，因此空值记录保留一到两个窗口；相比每个短链接一个字符串 Key，位图内存固定，不随扫描请求增长；
+ * 位图存在误判，窗口写入次数达到上限后不再写入，将真实短链接被误判为不存在的概率控制在设计值以内；
+ * 位图按短链接哈希分桶，每个分桶各自一组窗口位图，Redis Cluster 下扫描流量分散到各分桶所在节点，单个短链接的读写仍只访问同一槽位；
+ * 本地缓存精确记录最近命中的空值短链接，重复扫描直接在本地拦截；
+ * 位图不计数，移除时清除的位可能被其他短链接共享，本地缓存只在当前节点失效，详见 {@link #remove(String)}
+ */
+@Component
+@RequiredArgsConstructor
+public class ShortLinkNegativeCache implements InitializingBean {
+
+    private static final String NEGATIVE_CACHE_CONTAINS_LUA_SCRIPT_PATH = "lua/negative_cache_contains.lua";
+    private static final String NEGATIVE_CACHE_ADD_LUA_SCRIPT_PATH = "lua/negative_cache_add.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShortLinkNegativeCacheConfiguration shortLinkNegativeCacheConfiguration;
+
+    private final DefaultRedisScript<Long> containsScript = buildScript(NEGATIVE_CACHE_CONTAINS_LUA_SCRIPT_PATH);
+    private final DefaultRedisScript<Long> addScript = buildScript(NEGATIVE_CACHE_ADD_LUA_SCRIPT_PATH);
+    private Cache<String, Boolean> localCache;
+
+    @Override
+    public void afterPropertiesSet() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(shortLinkNegativeCacheConfiguration.getLocalMaxSize())
+                .expireAfterWrite(shortLinkNegativeCacheConfiguration.getLocalTtl(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * 判断短链接是否命中本地空值缓存
+     */
+    public boolean containsLocal(String fullShortUrl) {
+        return localCache.getIfPresent(fullShortUrl) != null;
+    }
+
+    /**
+     * 将短链接写入本地空值缓存，用于 Redis 中已确认不存在的短链接
+     */
+    public void putLocal(String fullShortUrl) {
+        localCache.put(fullShortUrl, Boolean.TRUE);
+    }
+
+    /**
+     * 判断短链接是否命中空值缓存，依次检查本地缓存与 Redis 位图
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 是否命中
+     */
+    public boolean contains(String fullShortUrl) {
+        if (containsLocal(fullShortUrl)) {
+            return true;
+        }
+        Long result = stringRedisTemplate.execute(containsScript, windowKeys(fullShortUrl), bitOffsets(fullShortUrl).toArray());
+        boolean contains = result != null && result == 1L;
+        if (contains) {
+            putLocal(fullShortUrl);
+        }
+        return contains;
+    }
+
+    /**
+     * 将短链接写入本地缓存与当前时间窗口的 Redis 位图
+     *
+     * @param fullShortUrl 完整短链接
+     */
+    public void add(String fullShortUrl) {
+        putLocal(fullShortUrl);
+        int bucket = bucket(fullShortUrl);
+        long window = currentWindow();
+        long windowMillis = shortLinkNegativeCacheConfiguration.getWindowMillis();
+        int bucketCount = shortLinkNegativeCacheConfiguration.getBucketCount();
+        List<Object> args = new ArrayList<>(2 + shortLinkNegativeCacheConfiguration.getHashCount());
+        // 写入上限由各分桶均分，短链接均匀落入各分桶，整体误判率与不分桶时一致
+        args.add(String.valueOf((shortLinkNegativeCacheConfiguration.getWindowCapacity() + bucketCount - 1) / bucketCount));
+        // 写入后需在下一个窗口内仍可读取
+        args.add(String.valueOf((window + 2) * windowMillis));
+        args.addAll(bitOffsets(fullShortUrl));
+        stringRedisTemplate.execute(
+                addScript,
+                List.of(String.format(GOTO_IS_NULL_WINDOW_KEY, bucket, window), String.format(GOTO_IS_NULL_WINDOW_COUNT_KEY, bucket, window)),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 移除短链接的空值记录，用于短链接恢复或有效期延长
+     * <p>
+     * 位图只记录是否写入、不计数，清除的位可能同时属于其他空值短链接，这些短链接在当前窗口内不再被位图拦截，
+     * 下次访问各多回源一次数据库后重新写入，不影响正确性；
+     * 本地缓存只在当前节点失效，其他节点已缓存的空值记录不会被通知，在 local-ttl（默认 30 秒）到期前该短链接在其他节点仍返回不存在
+     *
+     * @param fullShortUrl 完整短链接
+     */
+    public void remove(String fullShortUrl) {
+        localCache.invalidate(fullShortUrl);
+        List<String> windowKeys = windowKeys(fullShortUrl);
+        List<String> bitOffsets = bitOffsets(fullShortUrl);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String windowKey : windowKeys) {
+                byte[] rawWindowKey = windowKey.getBytes(StandardCharsets.UTF_8);
+                for (String bitOffset : bitOffsets) {
+                    connection.stringCommands().setBit(rawWindowKey, Long.parseLong(bitOffset), false);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 短链接所在分桶当前需要检查的时间窗口位图 Key，依次为当前窗口与上一个窗口
+     */
+    public List<String> windowKeys(String fullShortUrl) {
+        int bucket = bucket(fullShortUrl);
+        long window = currentWindow();
+        return List.of(String.format(GOTO_IS_NULL_WINDOW_KEY, bucket, window), String.format(GOTO_IS_NULL_WINDOW_KEY, bucket, window - 1));
+    }
+
+    /**
+     * 短链接在分桶位图中对应的位偏移，由 128 位哈希的两个分量组合生成
+     */
+    public List<String> bitOffsets(String fullShortUrl) {
+        long[] hash = MurmurHash.hash128(fullShortUrl.getBytes(StandardCharsets.UTF_8));
+        long bitmapBits = shortLinkNegativeCacheConfiguration.getBitmapBits() / shortLinkNegativeCacheConfiguration.getBucketCount();
+        int hashCount = shortLinkNegativeCacheConfiguration.getHashCount();
+        List<String> bitOffsets = new ArrayList<>(hashCount);
+        for (int i = 0; i < hashCount; i++) {
+            bitOffsets.add(String.valueOf(Math.floorMod(hash[0] + i * hash[1], bitmapBits)));
+        }
+        return bitOffsets;
+    }
+
+    /**
+     * 短链接所在分桶，使用与位偏移不同的哈希，避免同一分桶内位偏移集中
+     */
+    private int bucket(String fullShortUrl) {
+        return Math.floorMod(MurmurHash.hash32(fullShortUrl), shortLinkNegativeCacheConfiguration.getBucketCount());
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / shortLinkNegativeCacheConfiguration.getWindowMillis();
+    }
+
+    private static DefaultRedisScript<Long> buildScript(String path) {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+}
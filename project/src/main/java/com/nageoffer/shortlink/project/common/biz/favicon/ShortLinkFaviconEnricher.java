@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.favicon;
+
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.biz.metadata.PageMetadataFetcher;
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.config.ShortLinkFaviconConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 短链接网站图标异步补全
+ * 创建或修改短链接时不再同步请求目标网站，入库后提交到有界线程池获取图标并回写短链接记录
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkFaviconEnricher implements InitializingBean, DisposableBean {
+
+    private final ShortLinkMapper shortLinkMapper;
+    private final PageMetadataFetcher pageMetadataFetcher;
+    private final ShortLinkFaviconConfiguration shortLinkFaviconConfiguration;
+    private final ShortLinkThreadFactories shortLinkThreadFactories;
+
+    private ThreadPoolExecutor faviconExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        faviconExecutor = new ThreadPoolExecutor(
+                shortLinkFaviconConfiguration.getThreadCount(),
+                shortLinkFaviconConfiguration.getThreadCount(),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(shortLinkFaviconConfiguration.getQueueCapacity()),
+                shortLinkThreadFactories.newThreadFactory("short-link-favicon-"),
+                (runnable, executor) -> log.warn("[网站图标补全] 等待队列已满，丢弃补全任务")
+        );
+    }
+
+    @Override
+    public void destroy() {
+        faviconExecutor.shutdown();
+    }
+
+    /**
+     * 异步获取原始链接网站图标并回写短链接记录，存在事务时在事务提交后执行
+     *
+     * @param gid          分组标识
+     * @param fullShortUrl 完整短链接
+     * @param originUrl    原始链接
+     */
+    public void enrichAsync(String gid, String fullShortUrl, String originUrl) {
+        Runnable task = () -> enrich(gid, fullShortUrl, originUrl);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    faviconExecutor.execute(task);
+                }
+            });
+        } else {
+            faviconExecutor.execute(task);
+        }
+    }
+
+    private void enrich(String gid, String fullShortUrl, String originUrl) {
+        try {
+            String favicon = pageMetadataFetcher.getFavicon(originUrl);
+            if (StrUtil.isBlank(favicon)) {
+                return;
+            }
+            LambdaUpdateWrapper<ShortLinkDO> updateWrapper = Wrappers.lambdaUpdate(ShortLinkDO.class)
+                    .eq(ShortLinkDO::getFullShortUrl, fullShortUrl)
+                    .eq(ShortLinkDO::getGid, gid)
+                    .eq(ShortLinkDO::getDelFlag, 0)
+                    .eq(ShortLinkDO::getOriginUrl, originUrl);
+            ShortLinkDO shortLinkDO = ShortLinkDO.builder()
+                    .favicon(favicon)
+                    .build();
+            shortLinkMapper.update(shortLinkDO, updateWrapper);
+        } catch (Throwable ex) {
+            log.warn("[网站图标补全] 短链接：{} 图标补全失败", fullShortUrl, ex);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 支持衰减的 Count-Min Sketch
+ * 使用固定大小的二维计数器估计元素出现次数，估计值只会偏大不会偏小；
+ * 定期将全部计数减半，使历史访问的权重指数衰减，近似只统计最近一段时间的访问
+ */
+public class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Count-Min Sketch 行数需在 1 到 " + SEEDS.length + " 之间");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    /**
+     * 元素计数加一
+     *
+     * @param key 元素
+     * @return 计数后的估计值
+     */
+    public long increment(String key) {
+        long hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(hash, i)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 估计元素出现次数
+     *
+     * @param key 元素
+     * @return 估计值
+     */
+    public long estimate(String key) {
+        long hash = key.hashCode();
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters.get(index(hash, i)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 全部计数减半
+     */
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            if (counters.get(i) != 0L) {
+                counters.updateAndGet(i, each -> each >>> 1);
+            }
+        }
+    }
+
+    private int index(long hash, int row) {
+        long mixed = (hash + SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        mixed ^= mixed >>> 31;
+        return row * width + (int) ((mixed & Long.MAX_VALUE) % width);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.hotkey;
+
+import com.nageoffer.shortlink.project.config.ShortLinkHotKeyConfiguration;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkHotKeyRespDTO;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 短链接跳转热点 Key 探测
+ * 跳转请求经 Count-Min Sketch 计数，计数周期性减半衰减，估计值超过阈值的短链接晋升为热点，
+ * 原始链接固定在本地缓存中直接返回；本地缓存到期后由下一次访问重新读取 Redis 并续期，
+ * 因此短链接修改后其他节点最多延迟一个本地缓存周期生效
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkHotKeyDetector implements InitializingBean, DisposableBean {
+
+    private final ShortLinkHotKeyConfiguration shortLinkHotKeyConfiguration;
+
+    private final Map<String, HotKey> hotKeys = new ConcurrentHashMap<>();
+    private CountMinSketch countMinSketch;
+    private ScheduledExecutorService decayExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!shortLinkHotKeyConfiguration.getEnable()) {
+            return;
+        }
+        countMinSketch = new CountMinSketch(shortLinkHotKeyConfiguration.getSketchWidth(), shortLinkHotKeyConfiguration.getSketchDepth());
+        decayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-hot-key-decay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long decayInterval = shortLinkHotKeyConfiguration.getDecayInterval();
+        decayExecutor.scheduleWithFixedDelay(this::decay, decayInterval, decayInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (decayExecutor != null) {
+            decayExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 记录一次跳转访问
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 是否为热点
+     */
+    public boolean record(String fullShortUrl) {
+        if (countMinSketch == null) {
+            return false;
+        }
+        return countMinSketch.increment(fullShortUrl) >= shortLinkHotKeyConfiguration.getThreshold();
+    }
+
+    /**
+     * 获取本地缓存的热点原始链接
+     *
+     * @param fullShortUrl 完整短链接
+     * @return 原始链接，非热点或本地缓存已过期时返回 null
+     */
+    public String getLocal(String fullShortUrl) {
+        HotKey hotKey = hotKeys.get(fullShortUrl);
+        if (hotKey == null || hotKey.expireTime <= System.currentTimeMillis()) {
+            return null;
+        }
+        return hotKey.originUrl;
+    }
+
+    /**
+     * 将热点原始链接固定到本地缓存
+     *
+     * @param fullShortUrl 完整短链接
+     * @param originUrl    原始链接
+     * @return 是否为新晋升或续期的热点，热点数量已满时返回 false
+     */
+    public boolean pin(String fullShortUrl, String originUrl) {
+        if (!hotKeys.containsKey(fullShortUrl) && hotKeys.size() >= shortLinkHotKeyConfiguration.getMaxHotKeys()) {
+            return false;
+        }
+        hotKeys.put(fullShortUrl, new HotKey(originUrl, System.currentTimeMillis() + shortLinkHotKeyConfiguration.getLocalCacheTtl()));
+        return true;
+    }
+
+    /**
+     * 是否为当前热点
+     */
+    public boolean isPinned(String fullShortUrl) {
+        return hotKeys.containsKey(fullShortUrl);
+    }
+
+    /**
+     * 移除本地缓存的热点原始链接
+     */
+    public void evict(String fullShortUrl) {
+        hotKeys.remove(fullShortUrl);
+    }
+
+    /**
+     * 当前热点集合，按访问次数估计值倒序
+     */
+    public List<ShortLinkHotKeyRespDTO> listHotKeys() {
+        return hotKeys.entrySet().stream()
+                .map(each -> ShortLinkHotKeyRespDTO.builder()
+                        .fullShortUrl(each.getKey())
+                        .originUrl(each.getValue().originUrl)
+                        .estimatedCount(countMinSketch.estimate(each.getKey()))
+                        .expireTime(new Date(each.getValue().expireTime))
+                        .build())
+                .sorted(Comparator.comparing(ShortLinkHotKeyRespDTO::getEstimatedCount).reversed())
+                .toList();
+    }
+
+    private void decay() {
+        try {
+            countMinSketch.decay();
+            long now = System.currentTimeMillis();
+            hotKeys.entrySet().removeIf(each -> each.getValue().expireTime <= now);
+        } catch (Throwable ex) {
+            log.error("[热点探测] 计数衰减失败", ex);
+        }
+    }
+
+    /**
+     * 本地缓存的热点，续期时整体替换
+     */
+    @AllArgsConstructor
+    private static class HotKey {
+
+        private final String originUrl;
+
+        private final long expireTime;
+    }
+}
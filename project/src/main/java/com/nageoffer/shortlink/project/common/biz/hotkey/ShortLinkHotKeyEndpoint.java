@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.hotkey;
+
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkHotKeyRespDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 短链接跳转热点 Key 监控端点
+ * 通过独立管理端口暴露（GET /actuator/hotkeys），结果包含各租户短链接的原始链接，不经网关对外提供
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "hotkeys")
+public class ShortLinkHotKeyEndpoint {
+
+    private final ShortLinkHotKeyDetector shortLinkHotKeyDetector;
+
+    /**
+     * 查询当前节点的热点短链接
+     */
+    @ReadOperation
+    public List<ShortLinkHotKeyRespDTO> listHotKeys() {
+        return shortLinkHotKeyDetector.listHotKeys();
+    }
+}
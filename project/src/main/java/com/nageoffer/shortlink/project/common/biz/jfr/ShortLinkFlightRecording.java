@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.jfr;
+
+import com.nageoffer.shortlink.project.config.ShortLinkJfrConfiguration;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 短链接 JFR 持续录制
+ * 按随应用发布的录制模板开启录制，应用关闭时转储到本地文件；未开启时事件不会提交，埋点开销可忽略
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkFlightRecording implements InitializingBean, DisposableBean {
+
+    private final ShortLinkJfrConfiguration shortLinkJfrConfiguration;
+    private final ResourceLoader resourceLoader;
+
+    private Recording recording;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!shortLinkJfrConfiguration.getEnable()) {
+            return;
+        }
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(resourceLoader.getResource(shortLinkJfrConfiguration.getSettings()).getInputStream(), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+        recording = new Recording(configuration);
+        recording.setName("short-link");
+        recording.setMaxAge(Duration.ofMillis(shortLinkJfrConfiguration.getMaxAge()));
+        recording.setMaxSize(shortLinkJfrConfiguration.getMaxSize());
+        recording.setToDisk(true);
+        recording.start();
+        log.info("[JFR] 已按模板 {} 开启持续录制", shortLinkJfrConfiguration.getSettings());
+    }
+
+    @Override
+    public void destroy() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.dump(Path.of(shortLinkJfrConfiguration.getDumpPath()));
+            log.info("[JFR] 录制数据已转储至 {}", shortLinkJfrConfiguration.getDumpPath());
+        } catch (Exception ex) {
+            log.error("[JFR] 录制数据转储失败", ex);
+        } finally {
+            recording.close();
+        }
+    }
+}
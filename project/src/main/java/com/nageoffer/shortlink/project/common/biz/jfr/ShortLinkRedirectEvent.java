@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 短链接跳转 JFR 事件，覆盖单次跳转请求的完整耗时，各阶段耗时见 {@link ShortLinkRedirectStageEvent}
+ */
+@Name("com.nageoffer.shortlink.Redirect")
+@Label("Short Link Redirect")
+@Category({"Short Link", "Redirect"})
+@Description("短链接跳转请求")
+@StackTrace(false)
+public class ShortLinkRedirectEvent extends Event {
+
+    public static final String RESULT_CACHE_HIT = "cache-hit";
+    public static final String RESULT_LOADED = "loaded";
+    public static final String RESULT_NOT_FOUND = "not-found";
+    public static final String RESULT_THROTTLED = "throttled";
+
+    @Label("Full Short URL")
+    private String fullShortUrl;
+
+    @Label("Result")
+    @Description("cache-hit、loaded、not-found、throttled")
+    private String result;
+
+    /**
+     * 创建并开始事件，未开启录制时开销仅为一次空方法调用
+     */
+    public static ShortLinkRedirectEvent start() {
+        ShortLinkRedirectEvent event = new ShortLinkRedirectEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束事件，录制开启且超过阈值时提交
+     */
+    public void finish(String fullShortUrl, String result) {
+        end();
+        if (shouldCommit()) {
+            this.fullShortUrl = fullShortUrl;
+            this.result = result;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 短链接跳转阶段 JFR 事件：缓存读取、布隆过滤器判断、空值缓存读取、未命中检查脚本、回源锁等待与数据库查询
+ */
+@Name("com.nageoffer.shortlink.RedirectStage")
+@Label("Short Link Redirect Stage")
+@Category({"Short Link", "Redirect"})
+@Description("短链接跳转阶段")
+@StackTrace(false)
+public class ShortLinkRedirectStageEvent extends Event {
+
+    public static final String STAGE_CACHE = "cache";
+    public static final String STAGE_BLOOM = "bloom";
+    public static final String STAGE_NULL_CACHE = "null-cache";
+    public static final String STAGE_LOAD_SCRIPT = "load-script";
+    public static final String STAGE_LOCK_WAIT = "lock-wait";
+    public static final String STAGE_DB_LOAD = "db-load";
+
+    @Label("Full Short URL")
+    private String fullShortUrl;
+
+    @Label("Stage")
+    private String stage;
+
+    /**
+     * 创建并开始阶段事件，未开启录制时开销仅为一次空方法调用
+     */
+    public static ShortLinkRedirectStageEvent start() {
+        ShortLinkRedirectStageEvent event = new ShortLinkRedirectStageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束事件，录制开启且超过阈值时提交
+     */
+    public void finish(String fullShortUrl, String stage) {
+        end();
+        if (shouldCommit()) {
+            this.fullShortUrl = fullShortUrl;
+            this.stage = stage;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 短链接监控数据入库 JFR 事件，覆盖单条监控消息的完整入库耗时，各阶段耗时见 {@link ShortLinkStatsStageEvent}
+ */
+@Name("com.nageoffer.shortlink.StatsSave")
+@Label("Short Link Stats Save")
+@Category({"Short Link", "Stats"})
+@Description("短链接监控数据入库")
+@StackTrace(false)
+public class ShortLinkStatsSaveEvent extends Event {
+
+    @Label("Full Short URL")
+    private String fullShortUrl;
+
+    @Label("Group ID")
+    private String gid;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * 创建并开始事件，未开启录制时开销仅为一次空方法调用
+     */
+    public static ShortLinkStatsSaveEvent start() {
+        ShortLinkStatsSaveEvent event = new ShortLinkStatsSaveEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束事件，录制开启且超过阈值时提交
+     */
+    public void finish(String fullShortUrl, String gid, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.fullShortUrl = fullShortUrl;
+            this.gid = gid;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 短链接监控数据入库阶段 JFR 事件：分组查询、地区查询与各统计表写入
+ */
+@Name("com.nageoffer.shortlink.StatsStage")
+@Label("Short Link Stats Stage")
+@Category({"Short Link", "Stats"})
+@Description("短链接监控数据入库阶段")
+@StackTrace(false)
+public class ShortLinkStatsStageEvent extends Event {
+
+    public static final String STAGE_GID_LOOKUP = "gid-lookup";
+    public static final String STAGE_LOCALE = "locale";
+    public static final String STAGE_UPSERT = "upsert";
+
+    @Label("Full Short URL")
+    private String fullShortUrl;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Table")
+    @Description("写入阶段的统计表逻辑表名，其他阶段为空")
+    private String table;
+
+    /**
+     * 创建并开始阶段事件，未开启录制时开销仅为一次空方法调用
+     */
+    public static ShortLinkStatsStageEvent start() {
+        ShortLinkStatsStageEvent event = new ShortLinkStatsStageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 结束事件，录制开启且超过阈值时提交
+     */
+    public void finish(String fullShortUrl, String stage, String table) {
+        end();
+        if (shouldCommit()) {
+            this.fullShortUrl = fullShortUrl;
+            this.stage = stage;
+            this.table = table;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.metadata;
+
+import cn.hutool.core.util.StrUtil;
+import com.nageoffer.shortlink.project.config.PageMetadataConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.PAGE_METADATA_DOMAIN_FAVICON_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.PAGE_METADATA_URL_KEY;
+
+/**
+ * 原始链接页面元数据获取器
+ * 标题查询与网站图标补全共用，一个原始链接只发起一次 HTTP 请求，流式读取到 </head> 即停止，仅解析页面头部；
+ * 结果按原始链接缓存标题与图标，按域名缓存图标，同一网站的其他链接获取图标时无需再请求目标网站；
+ * 请求失败的结果只短暂缓存，避免偶发超时在整个缓存周期内返回获取失败
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageMetadataFetcher {
+
+    private static final byte[] HEAD_END_TAG = "</head>".getBytes();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PageMetadataConfiguration pageMetadataConfiguration;
+
+    /**
+     * 获取原始链接页面元数据，优先读取同一原始链接缓存
+     *
+     * @param url 原始链接
+     * @return 页面元数据，success 为 false 表示请求失败
+     */
+    public PageMetadata getMetadata(String url) {
+        String cacheKey = String.format(PAGE_METADATA_URL_KEY, url);
+        Map<Object, Object> cachedMetadata = stringRedisTemplate.opsForHash().entries(cacheKey);
+        if (!cachedMetadata.isEmpty()) {
+            return PageMetadata.builder()
+                    .success(Boolean.parseBoolean((String) cachedMetadata.get("success")))
+                    .title(StrUtil.emptyToNull((String) cachedMetadata.get("title")))
+                    .favicon(StrUtil.emptyToNull((String) cachedMetadata.get("favicon")))
+                    .build();
+        }
+        PageMetadata metadata = fetch(url);
+        Map<String, String> metadataMap = new HashMap<>();
+        metadataMap.put("success", String.valueOf(metadata.getSuccess()));
+        metadataMap.put("title", StrUtil.nullToEmpty(metadata.getTitle()));
+        metadataMap.put("favicon", StrUtil.nullToEmpty(metadata.getFavicon()));
+        stringRedisTemplate.opsForHash().putAll(cacheKey, metadataMap);
+        if (metadata.getSuccess()) {
+            stringRedisTemplate.expire(cacheKey, pageMetadataConfiguration.getUrlCacheMinutes(), TimeUnit.MINUTES);
+        } else {
+            stringRedisTemplate.expire(cacheKey, pageMetadataConfiguration.getFailureCacheSeconds(), TimeUnit.SECONDS);
+        }
+        String host = getHost(url);
+        if (metadata.getSuccess() && host != null) {
+            stringRedisTemplate.opsForValue().set(
+                    String.format(PAGE_METADATA_DOMAIN_FAVICON_KEY, host),
+                    StrUtil.nullToEmpty(metadata.getFavicon()),
+                    pageMetadataConfiguration.getDomainCacheHours(),
+                    TimeUnit.HOURS
+            );
+        }
+        return metadata;
+    }
+
+    /**
+     * 获取原始链接网站图标，优先读取同一域名缓存
+     *
+     * @param url 原始链接
+     * @return 图标地址，不存在时返回 null
+     */
+    public String getFavicon(String url) {
+        String host = getHost(url);
+        if (host == null) {
+            return null;
+        }
+        String cachedFavicon = stringRedisTemplate.opsForValue().get(String.format(PAGE_METADATA_DOMAIN_FAVICON_KEY, host));
+        if (cachedFavicon != null) {
+            return StrUtil.emptyToNull(cachedFavicon);
+        }
+        return getMetadata(url).getFavicon();
+    }
+
+    private PageMetadata fetch(String url) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod("GET");
+            connection.setConnectTimeout(pageMetadataConfiguration.getConnectTimeout());
+            connection.setReadTimeout(pageMetadataConfiguration.getReadTimeout());
+            connection.setInstanceFollowRedirects(true);
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                return PageMetadata.builder().success(false).build();
+            }
+            byte[] head;
+            try (InputStream inputStream = connection.getInputStream()) {
+                head = readHead(inputStream);
+            }
+            Document document = Jsoup.parse(new ByteArrayInputStream(head), null, connection.getURL().toString());
+            Element faviconLink = document.select("link[rel~=(?i)^(shortcut )?icon]").first();
+            return PageMetadata.builder()
+                    .success(true)
+                    .title(document.title())
+                    .favicon(faviconLink != null ? faviconLink.attr("abs:href") : null)
+                    .build();
+        } catch (Exception ex) {
+            log.warn("[页面元数据] 原始链接：{} 请求失败：{}", url, ex.getMessage());
+            return PageMetadata.builder().success(false).build();
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 流式读取页面，读到 </head> 或达到最大字节数即停止，不下载页面主体
+     */
+    private byte[] readHead(InputStream inputStream) throws IOException {
+        int maxHeadBytes = pageMetadataConfiguration.getMaxHeadBytes();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192);
+        byte[] buffer = new byte[4096];
+        int matched = 0;
+        int read;
+        while (outputStream.size() < maxHeadBytes && (read = inputStream.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte current = buffer[i];
+                if (Character.toLowerCase(current) == HEAD_END_TAG[matched]) {
+                    matched++;
+                    if (matched == HEAD_END_TAG.length) {
+                        outputStream.write(buffer, 0, i + 1);
+                        return outputStream.toByteArray();
+                    }
+                } else {
+                    matched = Character.toLowerCase(current) == HEAD_END_TAG[0] ? 1 : 0;
+                }
+            }
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private String getHost(String url) {
+        try {
+            return new URL(url).getHost();
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+}
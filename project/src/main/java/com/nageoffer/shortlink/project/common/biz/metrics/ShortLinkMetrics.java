@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.metrics;
+
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 短链接业务指标
+ * 跳转、创建与监控统计链路的分阶段耗时和关键事件计数；计时器与计数器在启动时创建，
+ * 热路径上只有一次纳秒时钟读取与无锁累加，分位数与直方图通过 management.metrics.distribution 按需开启
+ */
+@Component
+public class ShortLinkMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ShortLinkTimerEnum, Timer> timers = new EnumMap<>(ShortLinkTimerEnum.class);
+    private final Map<ShortLinkCounterEnum, Counter> counters = new EnumMap<>(ShortLinkCounterEnum.class);
+    private final Map<String, Timer> statsUpsertTimers = new ConcurrentHashMap<>();
+
+    public ShortLinkMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (ShortLinkTimerEnum each : ShortLinkTimerEnum.values()) {
+            Timer.Builder builder = Timer.builder(each.getMetricName());
+            if (each.getTagKey() != null) {
+                builder.tag(each.getTagKey(), each.getTagValue());
+            }
+            timers.put(each, builder.register(meterRegistry));
+        }
+        for (ShortLinkCounterEnum each : ShortLinkCounterEnum.values()) {
+            Counter.Builder builder = Counter.builder(each.getMetricName());
+            if (each.getTagKey() != null) {
+                builder.tag(each.getTagKey(), each.getTagValue());
+            }
+            counters.put(each, builder.register(meterRegistry));
+        }
+    }
+
+    /**
+     * 记录从 startTime 到当前的耗时
+     *
+     * @param timer     计时器
+     * @param startTime {@link System#nanoTime()} 读取的开始时间
+     */
+    public void record(ShortLinkTimerEnum timer, long startTime) {
+        timers.get(timer).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 计数器加一
+     */
+    public void increment(ShortLinkCounterEnum counter) {
+        counters.get(counter).increment();
+    }
+
+    /**
+     * 记录跳转缓存是否命中
+     */
+    public void recordCacheLookup(boolean hit) {
+        increment(hit ? ShortLinkCounterEnum.REDIRECT_CACHE_HIT : ShortLinkCounterEnum.REDIRECT_CACHE_MISS);
+    }
+
+    /**
+     * 执行并记录监控消息消费时单张统计表的写入耗时
+     *
+     * @param table  统计表逻辑表名
+     * @param upsert 写入逻辑
+     */
+    public void recordStatsUpsert(String table, Runnable upsert) {
+        long startTime = System.nanoTime();
+        try {
+            upsert.run();
+        } finally {
+            statsUpsertTimers.computeIfAbsent(table, key -> Timer.builder("short-link.stats.consume.upsert").tag("table", key).register(meterRegistry))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+}
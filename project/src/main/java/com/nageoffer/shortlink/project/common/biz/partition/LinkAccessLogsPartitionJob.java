@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.partition;
+
+import com.nageoffer.shortlink.project.common.enums.LinkAccessLogsRetentionModeEnum;
+import com.nageoffer.shortlink.project.config.LinkAccessLogsPartitionConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_ACCESS_LOGS_PARTITION_KEY;
+
+/**
+ * 访问日志按月分区维护任务
+ * 定期为访问日志表提前创建未来月份分区，并按保留月数删除或归档过期分区；
+ * 访问日志按 gid 分片时，从分片规则解析出 t_link_access_logs_0 ~ t_link_access_logs_15 等实际表逐个维护，每张分片表各自按月分区；
+ * 尚未分区的表在开启自动初始化时按当前月份建立首个月份分区与兜底分区；
+ * 分区 DDL 直接在 ShardingSphere 管理的物理数据源上执行，不经过 SQL 解析与路由
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LinkAccessLogsPartitionJob implements InitializingBean, DisposableBean {
+
+    /**
+     * 兜底分区，容纳尚未创建月份分区的数据，新月份分区由其拆分得到
+     */
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private static final String PARTITION_PREFIX = "p";
+
+    private static final Pattern MONTH_PARTITION_PATTERN = Pattern.compile("p\\d{6}");
+
+    private static final DateTimeFormatter PARTITION_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PARTITION_QUERY_SQL = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String PRIMARY_KEY_CONTAINS_CREATE_TIME_SQL = "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = 'PRIMARY' AND COLUMN_NAME = 'create_time'";
+
+    private static final String TABLE_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final DataSource dataSource;
+    private final RedissonClient redissonClient;
+    private final LinkAccessLogsPartitionConfiguration linkAccessLogsPartitionConfiguration;
+
+    private ScheduledExecutorService partitionExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!linkAccessLogsPartitionConfiguration.getEnable()) {
+            return;
+        }
+        partitionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-access-logs-partition");
+            thread.setDaemon(true);
+            return thread;
+        });
+        partitionExecutor.scheduleWithFixedDelay(this::maintain, 0L, linkAccessLogsPartitionConfiguration.getCheckInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (partitionExecutor != null) {
+            partitionExecutor.shutdownNow();
+        }
+    }
+
+    private void maintain() {
+        RLock lock = redissonClient.getLock(LOCK_ACCESS_LOGS_PARTITION_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            YearMonth currentMonth = YearMonth.now();
+            Map<String, DataSource> dataSourceMap = new HashMap<>();
+            List<DataNode> actualDataNodes = resolveActualDataNodes(dataSourceMap);
+            for (DataNode each : actualDataNodes) {
+                maintainTable(new JdbcTemplate(dataSourceMap.get(each.getDataSourceName())), each.getDataSourceName(), each.getTableName(), currentMonth);
+            }
+        } catch (Throwable ex) {
+            log.error("[访问日志分区] 分区维护失败", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void maintainTable(JdbcTemplate jdbcTemplate, String dataSourceName, String table, YearMonth currentMonth) {
+        List<String> partitions = jdbcTemplate.queryForList(PARTITION_QUERY_SQL, String.class, table);
+        if (partitions.isEmpty()) {
+            return;
+        }
+        if (partitions.get(0) == null && linkAccessLogsPartitionConfiguration.getAutoInitialize()) {
+            initializePartitioning(jdbcTemplate, dataSourceName, table, currentMonth);
+            partitions = jdbcTemplate.queryForList(PARTITION_QUERY_SQL, String.class, table);
+        }
+        if (partitions.get(0) == null || !partitions.contains(FUTURE_PARTITION)) {
+            log.warn("[访问日志分区] {}.{} 未按月分区或缺少 {} 分区，跳过维护", dataSourceName, table, FUTURE_PARTITION);
+            return;
+        }
+        List<YearMonth> months = partitions.stream()
+                .filter(each -> MONTH_PARTITION_PATTERN.matcher(each).matches())
+                .map(each -> YearMonth.parse(each.substring(PARTITION_PREFIX.length()), PARTITION_MONTH_FORMATTER))
+                .sorted()
+                .toList();
+        createFuturePartitions(jdbcTemplate, table, months.isEmpty() ? currentMonth : months.get(months.size() - 1).plusMonths(1), currentMonth);
+        YearMonth retentionStartMonth = currentMonth.minusMonths(linkAccessLogsPartitionConfiguration.getRetentionMonths() - 1);
+        for (YearMonth month : months) {
+            if (!month.isBefore(retentionStartMonth)) {
+                break;
+            }
+            if (linkAccessLogsPartitionConfiguration.getRetentionMode() == LinkAccessLogsRetentionModeEnum.ARCHIVE) {
+                archivePartition(jdbcTemplate, dataSourceName, table, month);
+            } else {
+                dropPartition(jdbcTemplate, table, month);
+            }
+        }
+    }
+
+    /**
+     * 将未分区的表按 create_time 改为 RANGE COLUMNS 分区：首个分区为当月，历史数据全部落入其中，随当月分区到期一并处理；
+     * MySQL 要求分区键包含在主键中，主键不含 create_time 时先调整为 (id, create_time)
+     */
+    private void initializePartitioning(JdbcTemplate jdbcTemplate, String dataSourceName, String table, YearMonth currentMonth) {
+        Integer primaryKeyCount = jdbcTemplate.queryForObject(PRIMARY_KEY_CONTAINS_CREATE_TIME_SQL, Integer.class, table);
+        if (primaryKeyCount == null || primaryKeyCount == 0) {
+            jdbcTemplate.execute(String.format("ALTER TABLE `%s` DROP PRIMARY KEY, ADD PRIMARY KEY (id, create_time)", table));
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` PARTITION BY RANGE COLUMNS (create_time) (PARTITION %s VALUES LESS THAN ('%s 00:00:00'), PARTITION %s VALUES LESS THAN (MAXVALUE))",
+                table, partitionName(currentMonth), currentMonth.plusMonths(1).atDay(1), FUTURE_PARTITION));
+        log.info("[访问日志分区] {}.{} 已初始化按月分区，首个分区 {}", dataSourceName, table, partitionName(currentMonth));
+    }
+
+    /**
+     * 从兜底分区中拆分出 [startMonth, currentMonth + preCreateMonths] 的月份分区，兜底分区中已有对应月份的数据会随之移动
+     */
+    private void createFuturePartitions(JdbcTemplate jdbcTemplate, String table, YearMonth startMonth, YearMonth currentMonth) {
+        YearMonth endMonth = currentMonth.plusMonths(linkAccessLogsPartitionConfiguration.getPreCreateMonths());
+        if (startMonth.isAfter(endMonth)) {
+            return;
+        }
+        StringBuilder partitionDefinitions = new StringBuilder();
+        for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            partitionDefinitions.append(String.format("PARTITION %s VALUES LESS THAN ('%s 00:00:00'), ", partitionName(month), month.plusMonths(1).atDay(1)));
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` REORGANIZE PARTITION %s INTO (%sPARTITION %s VALUES LESS THAN (MAXVALUE))",
+                table, FUTURE_PARTITION, partitionDefinitions, FUTURE_PARTITION));
+        log.info("[访问日志分区] {} 已创建分区 {} ~ {}", table, partitionName(startMonth), partitionName(endMonth));
+    }
+
+    private void dropPartition(JdbcTemplate jdbcTemplate, String table, YearMonth month) {
+        jdbcTemplate.execute(String.format("ALTER TABLE `%s` DROP PARTITION %s", table, partitionName(month)));
+        log.info("[访问日志分区] {} 已删除过期分区 {}", table, partitionName(month));
+    }
+
+    /**
+     * 过期分区先与同结构的空归档表交换再删除；每一步执行前检查状态，中途失败后下次执行可继续完成
+     */
+    private void archivePartition(JdbcTemplate jdbcTemplate, String dataSourceName, String table, YearMonth month) {
+        String partition = partitionName(month);
+        String archiveTable = table + "_archive_" + month.format(PARTITION_MONTH_FORMATTER);
+        Integer archiveTableCount = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, archiveTable);
+        if (archiveTableCount == null || archiveTableCount == 0) {
+            jdbcTemplate.execute(String.format("CREATE TABLE `%s` LIKE `%s`", archiveTable, table));
+            jdbcTemplate.execute(String.format("ALTER TABLE `%s` REMOVE PARTITIONING", archiveTable));
+        }
+        if (!hasRows(jdbcTemplate, String.format("SELECT 1 FROM `%s` LIMIT 1", archiveTable))) {
+            jdbcTemplate.execute(String.format("ALTER TABLE `%s` EXCHANGE PARTITION %s WITH TABLE `%s`", table, partition, archiveTable));
+        }
+        if (hasRows(jdbcTemplate, String.format("SELECT 1 FROM `%s` PARTITION (%s) LIMIT 1", table, partition))) {
+            log.warn("[访问日志分区] {}.{} 归档表 {} 已有数据但分区 {} 仍不为空，跳过删除", dataSourceName, table, archiveTable, partition);
+            return;
+        }
+        dropPartition(jdbcTemplate, table, month);
+        log.info("[访问日志分区] {} 分区 {} 已归档至 {}", table, partition, archiveTable);
+    }
+
+    private boolean hasRows(JdbcTemplate jdbcTemplate, String sql) {
+        return !jdbcTemplate.queryForList(sql).isEmpty();
+    }
+
+    /**
+     * 访问日志表配置了分片规则时逐个维护各分片表，否则在各物理数据源上按逻辑表名维护
+     *
+     * @param dataSourceMap 用于接收物理数据源
+     * @return 需要维护的实际数据节点
+     */
+    private List<DataNode> resolveActualDataNodes(Map<String, DataSource> dataSourceMap) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            ShardingSphereConnection shardingSphereConnection = connection.unwrap(ShardingSphereConnection.class);
+            ContextManager contextManager = shardingSphereConnection.getContextManager();
+            String databaseName = shardingSphereConnection.getDatabaseName();
+            dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
+            String table = linkAccessLogsPartitionConfiguration.getTable();
+            return contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName).getRuleMetaData()
+                    .findSingleRule(ShardingRule.class)
+                    .flatMap(each -> each.findTableRule(table))
+                    .map(TableRule::getActualDataNodes)
+                    .orElseGet(() -> dataSourceMap.keySet().stream().map(each -> new DataNode(each, table)).toList());
+        }
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_MONTH_FORMATTER);
+    }
+}
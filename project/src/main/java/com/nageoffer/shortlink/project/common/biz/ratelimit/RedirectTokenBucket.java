@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁令牌桶，基于通用信元速率算法（GCRA）：只记录下一个令牌的理论到达时间，获取令牌为一次 CAS，
+ * 同时累计本周期放行次数供集群对账上报
+ */
+public class RedirectTokenBucket {
+
+    /**
+     * 每个令牌的产生间隔，单位纳秒
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * 允许理论到达时间领先当前时间的最大值，决定突发容量
+     */
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    private final AtomicLong admittedCount = new AtomicLong();
+
+    public RedirectTokenBucket(int permitsPerSecond, int burst, long nowNanos) {
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(burst, 1) - 1);
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 尝试获取一个令牌
+     *
+     * @param nowNanos 当前 {@link System#nanoTime()}
+     * @return 是否获取成功
+     */
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long base = current - nowNanos > 0L ? current : nowNanos;
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, base + emissionIntervalNanos)) {
+                admittedCount.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 读取并清零本周期放行次数
+     */
+    public long drainAdmittedCount() {
+        return admittedCount.getAndSet(0L);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.config.ShortLinkRedirectRateLimitConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_REDIRECT_RATE_LIMIT_KEY;
+
+/**
+ * 短链接跳转限流
+ * 按客户端 IP 与短链接两个维度在本地令牌桶中限流，判断只访问本地内存，在任何 Redis 或数据库调用之前拒绝超限请求；
+ * 各节点按对账周期将放行次数较多的 IP 与短链接通过一次管道累加到 Redis 当前周期的计数中，
+ * 集群合计超出上限的 IP 或短链接在本节点封禁一段时间，节点越多单节点令牌桶越难单独拦截的分散流量由此兜底；
+ * 客户端 IP 只信任可信代理转发的 X-Forwarded-For，见 {@link TrustedProxyClientIpResolver}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkRedirectRateLimiter implements InitializingBean, DisposableBean {
+
+    private static final String DIMENSION_IP = "ip";
+    private static final String DIMENSION_LINK = "link";
+
+    private final ShortLinkRedirectRateLimitConfiguration shortLinkRedirectRateLimitConfiguration;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShortLinkMetrics shortLinkMetrics;
+
+    private TrustedProxyClientIpResolver clientIpResolver;
+    private Dimension ipDimension;
+    private Dimension linkDimension;
+    private ScheduledExecutorService reconcileExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!shortLinkRedirectRateLimitConfiguration.getEnable()) {
+            return;
+        }
+        clientIpResolver = new TrustedProxyClientIpResolver(shortLinkRedirectRateLimitConfiguration.getTrustedProxies());
+        ipDimension = new Dimension(
+                DIMENSION_IP,
+                shortLinkRedirectRateLimitConfiguration.getIpPermitsPerSecond(),
+                shortLinkRedirectRateLimitConfiguration.getIpBurst(),
+                shortLinkRedirectRateLimitConfiguration.getClusterIpPermitsPerSecond(),
+                ShortLinkCounterEnum.REDIRECT_THROTTLED_IP
+        );
+        linkDimension = new Dimension(
+                DIMENSION_LINK,
+                shortLinkRedirectRateLimitConfiguration.getLinkPermitsPerSecond(),
+                shortLinkRedirectRateLimitConfiguration.getLinkBurst(),
+                shortLinkRedirectRateLimitConfiguration.getClusterLinkPermitsPerSecond(),
+                ShortLinkCounterEnum.REDIRECT_THROTTLED_LINK
+        );
+        if (!shortLinkRedirectRateLimitConfiguration.getClusterEnable()) {
+            return;
+        }
+        reconcileExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-redirect-rate-limit-reconcile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long reconcileInterval = shortLinkRedirectRateLimitConfiguration.getReconcileInterval();
+        reconcileExecutor.scheduleWithFixedDelay(this::reconcile, reconcileInterval, reconcileInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (reconcileExecutor != null) {
+            reconcileExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 尝试放行一次跳转，按可信代理解析客户端 IP
+     *
+     * @param headerGetter 请求头获取方法
+     * @param remoteAddr   连接对端地址
+     * @param fullShortUrl 完整短链接
+     * @return 是否放行
+     */
+    public boolean tryAcquire(Function<String, String> headerGetter, String remoteAddr, String fullShortUrl) {
+        if (ipDimension == null) {
+            return true;
+        }
+        return tryAcquire(clientIpResolver.resolve(headerGetter, remoteAddr), fullShortUrl);
+    }
+
+    /**
+     * 尝试放行一次跳转，客户端 IP 与短链接均未超限时放行
+     *
+     * @param clientIp     客户端 IP
+     * @param fullShortUrl 完整短链接
+     * @return 是否放行
+     */
+    public boolean tryAcquire(String clientIp, String fullShortUrl) {
+        if (ipDimension == null) {
+            return true;
+        }
+        long nowNanos = System.nanoTime();
+        return ipDimension.tryAcquire(clientIp, nowNanos) && linkDimension.tryAcquire(fullShortUrl, nowNanos);
+    }
+
+    /**
+     * 上报本周期放行次数并根据集群合计更新本地封禁
+     */
+    private void reconcile() {
+        try {
+            long reconcileInterval = shortLinkRedirectRateLimitConfiguration.getReconcileInterval();
+            long window = System.currentTimeMillis() / reconcileInterval;
+            List<Map.Entry<String, Long>> ipReports = ipDimension.drainReports();
+            List<Map.Entry<String, Long>> linkReports = linkDimension.drainReports();
+            if (ipReports.isEmpty() && linkReports.isEmpty()) {
+                return;
+            }
+            String ipKey = String.format(SHORT_LINK_REDIRECT_RATE_LIMIT_KEY, DIMENSION_IP, window);
+            String linkKey = String.format(SHORT_LINK_REDIRECT_RATE_LIMIT_KEY, DIMENSION_LINK, window);
+            List<Object> totals = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                increment(connection, ipKey, ipReports, reconcileInterval);
+                increment(connection, linkKey, linkReports, reconcileInterval);
+                return null;
+            });
+            long blockUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shortLinkRedirectRateLimitConfiguration.getBlockMillis());
+            // 每个维度依次为各 Key 的 HINCRBY 返回值与一条 PEXPIRE 返回值，HINCRBY 返回值为截至本节点上报时的集群合计
+            int index = 0;
+            if (!ipReports.isEmpty()) {
+                ipDimension.blockOverLimit(ipReports, totals.subList(index, index + ipReports.size() + 1), reconcileInterval, blockUntilNanos);
+                index += ipReports.size() + 1;
+            }
+            if (!linkReports.isEmpty()) {
+                linkDimension.blockOverLimit(linkReports, totals.subList(index, index + linkReports.size() + 1), reconcileInterval, blockUntilNanos);
+            }
+        } catch (Throwable ex) {
+            log.error("[跳转限流] 集群对账失败", ex);
+        }
+    }
+
+    private void increment(RedisConnection connection, String key, List<Map.Entry<String, Long>> reports, long reconcileInterval) {
+        if (reports.isEmpty()) {
+            return;
+        }
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        for (Map.Entry<String, Long> each : reports) {
+            connection.hashCommands().hIncrBy(rawKey, each.getKey().getBytes(StandardCharsets.UTF_8), each.getValue());
+        }
+        // 计数只在当前对账周期内有意义，保留两个周期后过期
+        connection.keyCommands().pExpire(rawKey, reconcileInterval * 2);
+    }
+
+    /**
+     * 单个限流维度的本地令牌桶与封禁记录
+     */
+    private class Dimension {
+
+        private final String name;
+        private final int permitsPerSecond;
+        private final int burst;
+        private final int clusterPermitsPerSecond;
+        private final ShortLinkCounterEnum throttledCounter;
+        private final Cache<String, RedirectTokenBucket> buckets;
+        private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+        Dimension(String name, int permitsPerSecond, int burst, int clusterPermitsPerSecond, ShortLinkCounterEnum throttledCounter) {
+            this.name = name;
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.clusterPermitsPerSecond = clusterPermitsPerSecond;
+            this.throttledCounter = throttledCounter;
+            // 只按容量淘汰，按访问时间过期需要在每次读取时记录时间，判断开销成倍增加
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(shortLinkRedirectRateLimitConfiguration.getMaxTrackedKeys())
+                    .build();
+        }
+
+        boolean tryAcquire(String key, long nowNanos) {
+            if (key == null) {
+                return true;
+            }
+            if (!blockedUntil.isEmpty()) {
+                Long blockUntilNanos = blockedUntil.get(key);
+                if (blockUntilNanos != null) {
+                    if (blockUntilNanos - nowNanos > 0L) {
+                        shortLinkMetrics.increment(throttledCounter);
+                        return false;
+                    }
+                    blockedUntil.remove(key, blockUntilNanos);
+                }
+            }
+            if (buckets.get(key, each -> new RedirectTokenBucket(permitsPerSecond, burst, nowNanos)).tryAcquire(nowNanos)) {
+                return true;
+            }
+            shortLinkMetrics.increment(throttledCounter);
+            return false;
+        }
+
+        List<Map.Entry<String, Long>> drainReports() {
+            List<Map.Entry<String, Long>> reports = new ArrayList<>();
+            buckets.asMap().forEach((key, bucket) -> {
+                long admittedCount = bucket.drainAdmittedCount();
+                if (admittedCount >= shortLinkRedirectRateLimitConfiguration.getReportMinCount()) {
+                    reports.add(Map.entry(key, admittedCount));
+                }
+            });
+            return reports;
+        }
+
+        void blockOverLimit(List<Map.Entry<String, Long>> reports, List<Object> totals, long reconcileInterval, long blockUntilNanos) {
+            long clusterLimit = clusterPermitsPerSecond * reconcileInterval / 1000L;
+            for (int i = 0; i < reports.size(); i++) {
+                Object total = totals.get(i);
+                if (total instanceof Long && (Long) total > clusterLimit) {
+                    blockedUntil.put(reports.get(i).getKey(), blockUntilNanos);
+                    log.warn("[跳转限流] {}：{} 集群跳转次数 {} 超出上限 {}，本地封禁", name, reports.get(i).getKey(), total, clusterLimit);
+                }
+            }
+        }
+    }
+}
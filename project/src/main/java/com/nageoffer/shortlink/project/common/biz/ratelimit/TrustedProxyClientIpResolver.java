@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.ratelimit;
+
+import cn.hutool.core.net.NetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 限流客户端 IP 解析
+ * 只有连接对端地址属于可信代理时才读取 X-Forwarded-For，并从右向左跳过可信代理，取第一个不可信地址作为客户端 IP；
+ * 客户端直连时伪造的请求头不会生效，未配置可信代理时始终使用连接对端地址
+ */
+public class TrustedProxyClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final Set<String> trustedAddresses = new HashSet<>();
+    private final List<String> trustedCidrs = new ArrayList<>();
+
+    /**
+     * @param trustedProxies 可信代理，支持单个 IP 与 IPv4 CIDR 网段
+     */
+    public TrustedProxyClientIpResolver(List<String> trustedProxies) {
+        for (String each : trustedProxies) {
+            String trustedProxy = each.trim();
+            if (trustedProxy.contains("/")) {
+                trustedCidrs.add(trustedProxy);
+            } else if (!trustedProxy.isEmpty()) {
+                trustedAddresses.add(trustedProxy);
+            }
+        }
+    }
+
+    /**
+     * 解析客户端 IP
+     *
+     * @param headerGetter 请求头获取方法
+     * @param remoteAddr   连接对端地址
+     * @return 客户端 IP
+     */
+    public String resolve(Function<String, String> headerGetter, String remoteAddr) {
+        if (remoteAddr == null || !isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = headerGetter.apply(X_FORWARDED_FOR);
+        if (StrUtil.isBlank(forwardedFor)) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrusted(hop)) {
+                return hop;
+            }
+        }
+        // 整条链路均为可信代理时取最左侧地址
+        String firstHop = hops[0].trim();
+        return firstHop.isEmpty() ? remoteAddr : firstHop;
+    }
+
+    private boolean isTrusted(String ip) {
+        if (trustedAddresses.contains(ip)) {
+            return true;
+        }
+        if (trustedCidrs.isEmpty() || ip.indexOf(':') >= 0) {
+            return false;
+        }
+        for (String each : trustedCidrs) {
+            try {
+                if (NetUtil.isInRange(ip, each)) {
+                    return true;
+                }
+            } catch (RuntimeException ignored) {
+                // 非法地址视为不可信
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.redirect;
+
+import cn.hutool.core.lang.UUID;
+import cn.hutool.core.util.StrUtil;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkBloomFilterLocalReplica;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkScalableBloomFilter;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkGotoCache;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkGotoCacheValue;
+import com.nageoffer.shortlink.project.common.biz.hotkey.ShortLinkHotKeyDetector;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.biz.ratelimit.ShortLinkRedirectRateLimiter;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
+import com.nageoffer.shortlink.project.config.ShortLinkReactiveRedirectConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
+import com.nageoffer.shortlink.project.dto.biz.ShortLinkStatsRecordDTO;
+import com.nageoffer.shortlink.project.service.ShortLinkService;
+import com.nageoffer.shortlink.project.toolkit.LinkUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_STATS_UIP_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_STATS_UV_KEY;
+
+/**
+ * 响应式短链接跳转处理器
+ * 与 {@link ShortLinkService#restoreUrl} 保持相同的布隆过滤器、跳转缓存、空值缓存与监控统计语义：
+ * 缓存命中路径全程使用响应式 Redis 客户端，不占用线程；布隆过滤器判断、未命中回源与监控消息投递仍为阻塞调用，
+ * 切换到弹性线程池执行
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveShortLinkRedirectHandler {
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final ShortLinkGotoCache shortLinkGotoCache;
+    private final ShortLinkHotKeyDetector shortLinkHotKeyDetector;
+    private final ShortLinkScalableBloomFilter shortLinkScalableBloomFilter;
+    private final ShortLinkBloomFilterLocalReplica shortLinkBloomFilterLocalReplica;
+    private final ShortLinkService shortLinkService;
+    private final ShortLinkReactiveRedirectConfiguration shortLinkReactiveRedirectConfiguration;
+    private final ShortLinkMetrics shortLinkMetrics;
+    private final ShortLinkRedirectRateLimiter shortLinkRedirectRateLimiter;
+
+    /**
+     * 短链接跳转原始链接
+     */
+    public Mono<ServerResponse> restoreUrl(ServerRequest request) {
+        String shortUri = request.pathVariable("short-uri");
+        URI uri = request.uri();
+        String serverPort = Optional.of(uri.getPort())
+                .filter(each -> each != 80 && each != -1)
+                .map(each -> ":" + each)
+                .orElse("");
+        String fullShortUrl = uri.getHost() + serverPort + "/" + shortUri;
+        long startTime = System.nanoTime();
+        if (!shortLinkRedirectRateLimiter.tryAcquire(
+                request.headers().asHttpHeaders()::getFirst,
+                request.remoteAddress().map(each -> each.getAddress().getHostAddress()).orElse(null),
+                fullShortUrl)) {
+            return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build()
+                    .doFinally(signal -> shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_REACTIVE, startTime));
+        }
+        return getOriginUrl(fullShortUrl)
+                .doOnSuccess(originUrl -> {
+                    shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_CACHE, startTime);
+                    shortLinkMetrics.recordCacheLookup(originUrl != null);
+                })
+                .flatMap(originUrl -> redirect(request, shortUri, fullShortUrl, null, originUrl))
+                .switchIfEmpty(Mono.defer(() -> restoreUrlOnCacheMiss(request, shortUri, fullShortUrl)))
+                .doFinally(signal -> shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_REACTIVE, startTime));
+    }
+
+    private Mono<String> getOriginUrl(String fullShortUrl) {
+        boolean hot = shortLinkHotKeyDetector.record(fullShortUrl);
+        if (hot) {
+            String pinnedOriginUrl = shortLinkHotKeyDetector.getLocal(fullShortUrl);
+            if (pinnedOriginUrl != null) {
+                return Mono.just(pinnedOriginUrl);
+            }
+        }
+        return reactiveStringRedisTemplate.opsForValue().get(ShortLinkGotoCache.cacheKey(fullShortUrl))
+                .mapNotNull(ShortLinkGotoCache::decode)
+                .map(cacheValue -> {
+                    if (cacheValue.isStale()) {
+                        shortLinkGotoCache.refreshAsync(fullShortUrl);
+                    }
+                    if (hot) {
+                        shortLinkHotKeyDetector.pin(fullShortUrl, cacheValue.getOriginUrl());
+                    }
+                    return cacheValue;
+                })
+                .map(ShortLinkGotoCacheValue::getOriginUrl);
+    }
+
+    private Mono<ServerResponse> restoreUrlOnCacheMiss(ServerRequest request, String shortUri, String fullShortUrl) {
+        // 本地副本同步其他节点新增元素存在延迟，只在缓存未命中后代替 Redis 布隆过滤器使用
+        Mono<Boolean> contains = shortLinkBloomFilterLocalReplica.isReady()
+                ? Mono.just(shortLinkBloomFilterLocalReplica.contains(fullShortUrl))
+                : Mono.fromCallable(() -> {
+                    long bloomStartTime = System.nanoTime();
+                    boolean result = shortLinkScalableBloomFilter.contains(fullShortUrl);
+                    shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_BLOOM, bloomStartTime);
+                    return result;
+                }).subscribeOn(Schedulers.boundedElastic());
+        return contains.flatMap(each -> {
+            if (!each) {
+                return notFound();
+            }
+            return load(request, shortUri, fullShortUrl);
+        });
+    }
+
+    private Mono<ServerResponse> load(ServerRequest request, String shortUri, String fullShortUrl) {
+        return Mono.fromCallable(() -> Optional.ofNullable(shortLinkGotoCache.load(fullShortUrl)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(shortLinkDO -> shortLinkDO
+                        .map(each -> redirect(request, shortUri, fullShortUrl, each.getGid(), each.getOriginUrl()))
+                        .orElseGet(this::notFound));
+    }
+
+    private Mono<ServerResponse> redirect(ServerRequest request, String shortUri, String fullShortUrl, String gid, String originUrl) {
+        HttpCookie uvCookie = request.cookies().getFirst("uv");
+        boolean newUv = uvCookie == null;
+        String uv = newUv ? UUID.fastUUID().toString() : uvCookie.getValue();
+        String remoteAddr = LinkUtil.getActualIp(
+                request.headers().asHttpHeaders()::getFirst,
+                request.remoteAddress().map(each -> each.getAddress().getHostAddress()).orElse(null)
+        );
+        String userAgent = StrUtil.nullToEmpty(request.headers().firstHeader(HttpHeaders.USER_AGENT));
+        Mono<Long> uvAdded = reactiveStringRedisTemplate.opsForSet().add(SHORT_LINK_STATS_UV_KEY + fullShortUrl, uv);
+        Mono<Long> uipAdded = reactiveStringRedisTemplate.opsForSet().add(SHORT_LINK_STATS_UIP_KEY + fullShortUrl, remoteAddr);
+        return Mono.zip(uvAdded, uipAdded).flatMap(added -> {
+            ShortLinkStatsRecordDTO statsRecord = ShortLinkStatsRecordDTO.builder()
+                    .fullShortUrl(fullShortUrl)
+                    .uv(uv)
+                    .uvFirstFlag(newUv || added.getT1() > 0L)
+                    .uipFirstFlag(added.getT2() > 0L)
+                    .remoteAddr(remoteAddr)
+                    .os(LinkUtil.getOs(userAgent))
+                    .browser(LinkUtil.getBrowser(userAgent))
+                    .device(LinkUtil.getDevice(userAgent))
+                    .network(LinkUtil.getNetwork(remoteAddr))
+                    .build();
+            Mono.fromRunnable(() -> shortLinkService.shortLinkStats(fullShortUrl, gid, statsRecord))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(null, ex -> {
+                        shortLinkMetrics.increment(ShortLinkCounterEnum.STATS_DROPPED_SEND);
+                        log.error("[响应式跳转] 短链接：{} 监控消息投递失败", fullShortUrl, ex);
+                    });
+            ServerResponse.BodyBuilder responseBuilder = ServerResponse.status(HttpStatus.FOUND).header(HttpHeaders.LOCATION, originUrl);
+            if (newUv) {
+                responseBuilder.cookie(ResponseCookie.from("uv", uv).maxAge(Duration.ofDays(30)).path("/" + shortUri).build());
+            }
+            return responseBuilder.build();
+        });
+    }
+
+    private Mono<ServerResponse> notFound() {
+        return ServerResponse.status(HttpStatus.FOUND).header(HttpHeaders.LOCATION, shortLinkReactiveRedirectConfiguration.getNotFoundUrl()).build();
+    }
+}
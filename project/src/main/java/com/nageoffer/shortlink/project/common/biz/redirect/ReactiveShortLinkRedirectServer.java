@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.redirect;
+
+import com.nageoffer.shortlink.project.config.ShortLinkReactiveRedirectConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * 响应式短链接跳转服务
+ * 应用主体仍运行在 Servlet 容器上，开启后在独立端口额外启动 Reactor Netty 服务，仅处理短链接跳转请求
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveShortLinkRedirectServer implements SmartLifecycle {
+
+    private final ReactiveShortLinkRedirectHandler reactiveShortLinkRedirectHandler;
+    private final ShortLinkReactiveRedirectConfiguration shortLinkReactiveRedirectConfiguration;
+
+    private volatile DisposableServer disposableServer;
+
+    @Override
+    public void start() {
+        if (!shortLinkReactiveRedirectConfiguration.getEnable()) {
+            return;
+        }
+        RouterFunction<ServerResponse> router = RouterFunctions.route(GET("/{short-uri}"), reactiveShortLinkRedirectHandler::restoreUrl);
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(router);
+        disposableServer = HttpServer.create()
+                .port(shortLinkReactiveRedirectConfiguration.getPort())
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("[响应式跳转] 服务已启动，端口：{}", disposableServer.port());
+    }
+
+    @Override
+    public void stop() {
+        if (disposableServer != null) {
+            disposableServer.disposeNow();
+            disposableServer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return disposableServer != null;
+    }
+}
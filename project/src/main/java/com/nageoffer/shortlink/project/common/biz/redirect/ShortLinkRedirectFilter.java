@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.redirect;
+
+import com.nageoffer.shortlink.project.service.ShortLinkService;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 短链接跳转过滤器
+ * 在 DispatcherServlet 之前匹配单级路径且仅包含数字与大小写字母的 GET 请求，直接完成跳转，
+ * 省去 MVC 的处理器映射与路径变量绑定；完整短链接使用线程内复用的缓冲区拼接，其余请求继续交由 MVC 处理；
+ * 虚拟线程模式下每个请求一个新线程，线程内缓冲区无法复用，改为按长度一次分配
+ */
+public class ShortLinkRedirectFilter implements Filter {
+
+    private static final ThreadLocal<StringBuilder> FULL_SHORT_URL_BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final ShortLinkService shortLinkService;
+    private final Set<String> excludePaths;
+    private final boolean reuseBuilder;
+
+    public ShortLinkRedirectFilter(ShortLinkService shortLinkService, List<String> excludePaths, boolean reuseBuilder) {
+        this.shortLinkService = shortLinkService;
+        this.excludePaths = new HashSet<>(excludePaths);
+        this.reuseBuilder = reuseBuilder;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+        String requestUri = httpServletRequest.getRequestURI();
+        if (!"GET".equals(httpServletRequest.getMethod()) || !isShortUri(requestUri) || excludePaths.contains(requestUri.substring(1))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String fullShortUrl = reuseBuilder
+                ? buildFullShortUrl(request.getServerName(), request.getServerPort(), requestUri)
+                : appendFullShortUrl(new StringBuilder(request.getServerName().length() + requestUri.length() + 6), request.getServerName(), request.getServerPort(), requestUri);
+        shortLinkService.restoreFullShortUrl(fullShortUrl, request, response);
+    }
+
+    /**
+     * 拼接完整短链接，端口为 80 时省略，与 {@link ShortLinkService#restoreUrl} 规则一致
+     *
+     * @param serverName 请求域名
+     * @param serverPort 请求端口
+     * @param requestUri 以 / 开头的短链接路径
+     * @return 完整短链接
+     */
+    public static String buildFullShortUrl(String serverName, int serverPort, String requestUri) {
+        StringBuilder builder = FULL_SHORT_URL_BUILDER.get();
+        builder.setLength(0);
+        return appendFullShortUrl(builder, serverName, serverPort, requestUri);
+    }
+
+    private static String appendFullShortUrl(StringBuilder builder, String serverName, int serverPort, String requestUri) {
+        builder.append(serverName);
+        if (serverPort != 80) {
+            builder.append(':').append(serverPort);
+        }
+        return builder.append(requestUri).toString();
+    }
+
+    /**
+     * 是否为单级且仅包含数字与大小写字母的路径
+     */
+    public static boolean isShortUri(String requestUri) {
+        int length = requestUri.length();
+        if (length < 2 || requestUri.charAt(0) != '/') {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char each = requestUri.charAt(i);
+            if (!((each >= '0' && each <= '9') || (each >= 'a' && each <= 'z') || (each >= 'A' && each <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.sharding;
+
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.config.ShardingBatchWriteConfiguration;
+import com.nageoffer.shortlink.project.toolkit.ShardingUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 分片感知批量写入器
+ * 按 HASH_MOD 分片算法在应用侧将记录分组，每个分片的记录作为一个 JDBC 批次写入，不同分片在有界线程池中并发执行；
+ * 各分片使用独立连接写入，不处于同一事务中，调用方需自行处理单个分片失败
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardingBatchWriter implements InitializingBean, DisposableBean {
+
+    private final ShardingBatchWriteConfiguration shardingBatchWriteConfiguration;
+    private final ShortLinkThreadFactories shortLinkThreadFactories;
+
+    private ThreadPoolExecutor shardingBatchWriteExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        shardingBatchWriteExecutor = new ThreadPoolExecutor(
+                shardingBatchWriteConfiguration.getThreadCount(),
+                shardingBatchWriteConfiguration.getThreadCount(),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(shardingBatchWriteConfiguration.getQueueCapacity()),
+                shortLinkThreadFactories.newThreadFactory("short-link-sharding-batch-write-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        shardingBatchWriteExecutor.shutdown();
+    }
+
+    /**
+     * 按分片分组并发写入
+     *
+     * @param records             待写入记录
+     * @param shardingValueGetter 分片键获取方法
+     * @param shardWriter         单个分片写入逻辑，入参为同一分片的记录，返回写入成功的记录
+     * @return 写入成功的记录
+     */
+    public <T> List<T> write(List<T> records, Function<T, ?> shardingValueGetter, Function<List<T>, List<T>> shardWriter) {
+        return executeByShard(records, shardingValueGetter, shardWriter);
+    }
+
+    /**
+     * 按分片分组并发执行，适用于按分片键批量读取或写入
+     *
+     * @param records             待处理记录
+     * @param shardingValueGetter 分片键获取方法
+     * @param shardTask           单个分片处理逻辑，入参为同一分片的记录
+     * @return 各分片处理结果合并
+     */
+    public <T, R> List<R> executeByShard(List<T> records, Function<T, ?> shardingValueGetter, Function<List<T>, List<R>> shardTask) {
+        Collection<List<T>> shardRecords = ShardingUtil.groupByShard(records, shardingValueGetter).values();
+        if (shardRecords.size() <= 1) {
+            return shardRecords.isEmpty() ? new ArrayList<>() : new ArrayList<>(shardTask.apply(shardRecords.iterator().next()));
+        }
+        List<CompletableFuture<List<R>>> futures = shardRecords.stream()
+                .map(each -> CompletableFuture.supplyAsync(() -> shardTask.apply(each), shardingBatchWriteExecutor))
+                .toList();
+        List<R> result = new ArrayList<>(records.size());
+        try {
+            futures.forEach(each -> result.addAll(each.join()));
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+        return result;
+    }
+
+    /**
+     * 单个 JDBC 批次的最大行数
+     */
+    public int getBatchSize() {
+        return shardingBatchWriteConfiguration.getBatchSize();
+    }
+}
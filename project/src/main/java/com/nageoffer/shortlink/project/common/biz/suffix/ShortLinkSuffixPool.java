@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.suffix;
+
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkBloomFilterLocalReplica;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkScalableBloomFilter;
+import com.nageoffer.shortlink.project.config.ShortLinkSuffixConfiguration;
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 哈希模式短链接后缀预生成池
+ * 每个节点在本地无锁队列中维护一批已通过布隆过滤器判重的后缀，创建短链接时直接弹出，O(1) 且不访问 Redis；
+ * 后台线程在池水位低于低水位线或定时检查时批量生成候选后缀，通过管道一次性完成布隆过滤器判断后补充入池；
+ * 池内剩余数量与低水位、取空、补充、判重冲突次数注册为 Micrometer 指标
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkSuffixPool implements InitializingBean, DisposableBean, MeterBinder {
+
+    private final ShortLinkSuffixConfiguration shortLinkSuffixConfiguration;
+    private final ShortLinkScalableBloomFilter shortLinkScalableBloomFilter;
+    private final ShortLinkBloomFilterLocalReplica shortLinkBloomFilterLocalReplica;
+
+    @Value("${short-link.domain.default}")
+    private String createShortLinkDefaultDomain;
+
+    private final ConcurrentLinkedQueue<String> pool = new ConcurrentLinkedQueue<>();
+
+    /**
+     * ConcurrentLinkedQueue#size 需要遍历队列，单独维护池大小
+     */
+    private final AtomicInteger poolSize = new AtomicInteger();
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    /**
+     * 低水位指标：跌破低水位次数、池空回退次数、累计补充数量、布隆过滤器判重丢弃数量
+     */
+    private final AtomicLong lowWatermarkCount = new AtomicLong();
+    private final AtomicLong emptyCount = new AtomicLong();
+    private final AtomicLong refillCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+
+    private ScheduledExecutorService refillExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isEnable()) {
+            return;
+        }
+        refillExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-suffix-pool-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = shortLinkSuffixConfiguration.getPoolRefillInterval();
+        refillExecutor.scheduleWithFixedDelay(this::refill, 0L, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("short-link.suffix.pool.size", this, ShortLinkSuffixPool::size).register(registry);
+        registerEventCounter(registry, "low-watermark", ShortLinkSuffixPool::getLowWatermarkCount);
+        registerEventCounter(registry, "empty", ShortLinkSuffixPool::getEmptyCount);
+        registerEventCounter(registry, "refill", ShortLinkSuffixPool::getRefillCount);
+        registerEventCounter(registry, "conflict", ShortLinkSuffixPool::getConflictCount);
+    }
+
+    private void registerEventCounter(MeterRegistry registry, String event, ToDoubleFunction<ShortLinkSuffixPool> countFunction) {
+        FunctionCounter.builder("short-link.suffix.pool.events", this, countFunction)
+                .tag("event", event)
+                .register(registry);
+    }
+
+    /**
+     * 是否启用预生成池，仅哈希模式生效
+     */
+    public boolean isEnable() {
+        return Boolean.TRUE.equals(shortLinkSuffixConfiguration.getPoolEnable())
+                && "hash".equals(shortLinkSuffixConfiguration.getType());
+    }
+
+    /**
+     * 弹出一个预生成后缀
+     *
+     * @return 短链接后缀，池为空时返回 null，由调用方回退到实时生成
+     */
+    public String poll() {
+        String suffix = pool.poll();
+        if (suffix == null) {
+            emptyCount.incrementAndGet();
+            triggerRefill();
+            return null;
+        }
+        int remaining = poolSize.decrementAndGet();
+        if (remaining < lowWatermark()) {
+            lowWatermarkCount.incrementAndGet();
+            triggerRefill();
+        }
+        return suffix;
+    }
+
+    /**
+     * 当前池内后缀数量
+     */
+    public int size() {
+        return poolSize.get();
+    }
+
+    public long getLowWatermarkCount() {
+        return lowWatermarkCount.get();
+    }
+
+    public long getEmptyCount() {
+        return emptyCount.get();
+    }
+
+    public long getRefillCount() {
+        return refillCount.get();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    private void triggerRefill() {
+        if (refillExecutor != null && !refilling.get()) {
+            refillExecutor.execute(this::refill);
+        }
+    }
+
+    private int lowWatermark() {
+        return (int) (shortLinkSuffixConfiguration.getPoolSize() * shortLinkSuffixConfiguration.getPoolLowWatermarkRatio());
+    }
+
+    private void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int batchSize = shortLinkSuffixConfiguration.getPoolRefillBatchSize();
+            int missing;
+            while ((missing = shortLinkSuffixConfiguration.getPoolSize() - poolSize.get()) > 0) {
+                int count = Math.min(missing, batchSize);
+                List<String> candidates = new ArrayList<>(count);
+                List<String> fullShortUrls = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String suffix = HashUtil.hashToBase62(UUID.randomUUID().toString());
+                    candidates.add(suffix);
+                    fullShortUrls.add(createShortLinkDefaultDomain + "/" + suffix);
+                }
+                boolean[] exists = shortLinkBloomFilterLocalReplica.isReady()
+                        ? shortLinkBloomFilterLocalReplica.containsAll(fullShortUrls)
+                        : shortLinkScalableBloomFilter.containsAll(fullShortUrls);
+                int added = 0;
+                for (int i = 0; i < candidates.size(); i++) {
+                    if (exists[i]) {
+                        conflictCount.incrementAndGet();
+                        continue;
+                    }
+                    pool.offer(candidates.get(i));
+                    added++;
+                }
+                poolSize.addAndGet(added);
+                refillCount.addAndGet(added);
+                if (added == 0) {
+                    log.warn("[短链接后缀池] 本批候选后缀全部命中布隆过滤器，暂停补充，当前池大小：{}", poolSize.get());
+                    break;
+                }
+            }
+        } catch (Throwable ex) {
+            log.error("[短链接后缀池] 补充后缀失败，当前池大小：{}", poolSize.get(), ex);
+        } finally {
+            refilling.set(false);
+        }
+    }
+}
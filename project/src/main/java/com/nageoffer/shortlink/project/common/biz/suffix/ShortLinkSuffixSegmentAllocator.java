@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.suffix;
+
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.common.convention.exception.ServiceException;
+import com.nageoffer.shortlink.project.config.ShortLinkSuffixConfiguration;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkSuffixSegmentMapper;
+import com.nageoffer.shortlink.project.toolkit.HashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.SHORT_LINK_SUFFIX_SEGMENT_KEY;
+
+/**
+ * 号段模式短链接后缀分配器
+ * 通过 Redis INCRBY 从中心计数器租用一段连续 ID，在本地内存中依次发放，并编码为定长 7 位 62 进制后缀。
+ * 哈希模式生成的后缀最长 6 位，因此两种模式生成的短链接不会相互冲突，号段内 ID 唯一，创建时无需再查询布隆过滤器；
+ * 每个号段租用后先将上界写入 t_link_suffix_segment 再发放，Redis 计数器丢失时按该水位恢复，不会从 0 重新发号
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkSuffixSegmentAllocator implements InitializingBean, DisposableBean {
+
+    /**
+     * 号段后缀长度
+     */
+    public static final int SEGMENT_SUFFIX_LENGTH = 7;
+
+    private static final long MAX_SEGMENT_ID = HashUtil.pow62(SEGMENT_SUFFIX_LENGTH);
+
+    private static final String SEGMENT_BIZ_TAG = "short-link-suffix";
+    private static final String SUFFIX_SEGMENT_LEASE_LUA_SCRIPT_PATH = "lua/suffix_segment_lease.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShortLinkSuffixSegmentMapper shortLinkSuffixSegmentMapper;
+    private final ShortLinkSuffixConfiguration shortLinkSuffixConfiguration;
+    private final ShortLinkThreadFactories shortLinkThreadFactories;
+
+    private DefaultRedisScript<Long> leaseScript;
+    private ThreadPoolExecutor prefetchExecutor;
+
+    /**
+     * 当前号段下一个可发放 ID 与号段上界（不含）
+     */
+    private long cursor;
+    private long max;
+
+    /**
+     * 预取中的下一个号段，返回号段上界（不含）
+     */
+    private CompletableFuture<Long> nextSegment;
+
+    @Override
+    public void afterPropertiesSet() {
+        leaseScript = new DefaultRedisScript<>();
+        leaseScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(SUFFIX_SEGMENT_LEASE_LUA_SCRIPT_PATH)));
+        leaseScript.setResultType(Long.class);
+        // 同一时刻最多只有一个预取任务
+        prefetchExecutor = new ThreadPoolExecutor(
+                1,
+                1,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(1),
+                shortLinkThreadFactories.newThreadFactory("short-link-suffix-segment-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        prefetchExecutor.shutdown();
+    }
+
+    /**
+     * 获取下一个短链接后缀
+     */
+    public String nextSuffix() {
+        return encode(nextId());
+    }
+
+    /**
+     * 批量获取连续号段内的短链接后缀，供批量创建一次性预留
+     *
+     * @param count 获取数量
+     */
+    public synchronized String[] nextSuffixes(int count) {
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = encode(nextId());
+        }
+        return result;
+    }
+
+    private synchronized long nextId() {
+        if (cursor >= max) {
+            switchSegment();
+        }
+        long id = cursor++;
+        int step = shortLinkSuffixConfiguration.getSegmentStep();
+        if (nextSegment == null && max - cursor < step * shortLinkSuffixConfiguration.getSegmentPrefetchRatio()) {
+            nextSegment = CompletableFuture.supplyAsync(this::leaseSegment, prefetchExecutor);
+        }
+        return id;
+    }
+
+    private void switchSegment() {
+        long segmentMax;
+        if (nextSegment != null) {
+            try {
+                segmentMax = nextSegment.join();
+            } catch (Throwable ex) {
+                log.warn("[号段发号] 预取号段失败，同步重新租用", ex);
+                segmentMax = leaseSegment();
+            } finally {
+                nextSegment = null;
+            }
+        } else {
+            segmentMax = leaseSegment();
+        }
+        max = segmentMax;
+        cursor = segmentMax - shortLinkSuffixConfiguration.getSegmentStep();
+    }
+
+    private long leaseSegment() {
+        int step = shortLinkSuffixConfiguration.getSegmentStep();
+        Long segmentMax = executeLease(step);
+        if (segmentMax != null && segmentMax < 0) {
+            restoreCounter();
+            segmentMax = executeLease(step);
+        }
+        if (segmentMax == null || segmentMax < 0) {
+            throw new ServiceException("短链接号段租用失败");
+        }
+        if (segmentMax > MAX_SEGMENT_ID) {
+            throw new ServiceException("短链接号段已耗尽");
+        }
+        // 水位写入成功后才发放号段，计数器随后丢失也能从该水位之后继续发号
+        shortLinkSuffixSegmentMapper.saveMaxId(SEGMENT_BIZ_TAG, segmentMax);
+        log.info("[号段发号] 租用号段：[{}, {})", segmentMax - shortLinkSuffixConfiguration.getSegmentStep(), segmentMax);
+        return segmentMax;
+    }
+
+    private Long executeLease(int step) {
+        return stringRedisTemplate.execute(leaseScript, List.of(SHORT_LINK_SUFFIX_SEGMENT_KEY), String.valueOf(step));
+    }
+
+    /**
+     * 计数器不存在时按数据库水位恢复，多个节点同时恢复时只有一个写入生效
+     */
+    private void restoreCounter() {
+        Long persistedMax = shortLinkSuffixSegmentMapper.selectMaxId(SEGMENT_BIZ_TAG);
+        long restoredMax = persistedMax == null ? 0L : persistedMax;
+        Boolean restored = stringRedisTemplate.opsForValue().setIfAbsent(SHORT_LINK_SUFFIX_SEGMENT_KEY, String.valueOf(restoredMax));
+        if (Boolean.TRUE.equals(restored)) {
+            log.warn("[号段发号] 号段计数器不存在，按数据库水位恢复为：{}", restoredMax);
+        }
+    }
+
+    private String encode(long id) {
+        long actualId = Boolean.TRUE.equals(shortLinkSuffixConfiguration.getSegmentShuffle())
+                ? HashUtil.shuffle(id, SEGMENT_SUFFIX_LENGTH)
+                : id;
+        return HashUtil.encodeToBase62(actualId, SEGMENT_SUFFIX_LENGTH);
+    }
+}
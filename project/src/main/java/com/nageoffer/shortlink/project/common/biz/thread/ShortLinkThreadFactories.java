@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.thread;
+
+import com.nageoffer.shortlink.project.config.VirtualThreadConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 短链接线程工厂
+ * 项目按 Java 17 编译，虚拟线程 API 通过反射获取：运行在 JDK 21 及以上且开启虚拟线程配置时创建虚拟线程，
+ * 否则创建平台线程；内部线程池仍保持原有的并发上限与队列容量，虚拟线程只降低阻塞等待时的线程开销
+ */
+@Slf4j
+@Component
+public class ShortLinkThreadFactories {
+
+    private static final Method OF_VIRTUAL_METHOD;
+    private static final Method BUILDER_NAME_METHOD;
+    private static final Method BUILDER_FACTORY_METHOD;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method builderNameMethod = null;
+        Method builderFactoryMethod = null;
+        Method newThreadPerTaskExecutorMethod = null;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builderNameMethod = builderClass.getMethod("name", String.class, long.class);
+            builderFactoryMethod = builderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // JDK 19、20 中虚拟线程为预览特性，未开启预览时调用会抛出异常
+            ofVirtualMethod.invoke(null);
+        } catch (Throwable ignored) {
+            ofVirtualMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        BUILDER_NAME_METHOD = builderNameMethod;
+        BUILDER_FACTORY_METHOD = builderFactoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+
+    private final boolean virtualThreadEnabled;
+
+    public ShortLinkThreadFactories(VirtualThreadConfiguration virtualThreadConfiguration) {
+        boolean enable = virtualThreadConfiguration.getEnable();
+        if (enable && !isVirtualThreadSupported()) {
+            log.warn("[虚拟线程] 当前 JDK {} 不支持虚拟线程，回退为平台线程", Runtime.version());
+        }
+        this.virtualThreadEnabled = enable && isVirtualThreadSupported();
+    }
+
+    /**
+     * 当前运行时 JDK 是否支持虚拟线程
+     */
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL_METHOD != null;
+    }
+
+    /**
+     * 是否使用虚拟线程
+     */
+    public boolean isVirtualThreadEnabled() {
+        return virtualThreadEnabled;
+    }
+
+    /**
+     * 创建线程工厂，线程名称为前缀加自增序号
+     *
+     * @param namePrefix 线程名称前缀
+     * @return 线程工厂
+     */
+    public ThreadFactory newThreadFactory(String namePrefix) {
+        return virtualThreadEnabled ? newVirtualThreadFactory(namePrefix) : newPlatformThreadFactory(namePrefix);
+    }
+
+    /**
+     * 创建每个任务一个虚拟线程的执行器，不支持虚拟线程时返回 null
+     *
+     * @param namePrefix 线程名称前缀
+     * @return 执行器
+     */
+    public ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        if (!virtualThreadEnabled) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, newVirtualThreadFactory(namePrefix));
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("创建虚拟线程执行器失败", ex);
+        }
+    }
+
+    /**
+     * 创建虚拟线程工厂
+     *
+     * @param namePrefix 线程名称前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = OF_VIRTUAL_METHOD.invoke(null);
+            builder = BUILDER_NAME_METHOD.invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) BUILDER_FACTORY_METHOD.invoke(builder);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("创建虚拟线程工厂失败", ex);
+        }
+    }
+
+    /**
+     * 创建平台线程工厂
+     *
+     * @param namePrefix 线程名称前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory newPlatformThreadFactory(String namePrefix) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return runnable -> new Thread(runnable, namePrefix + threadIndex.incrementAndGet());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.biz.warmup;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkGotoCache;
+import com.nageoffer.shortlink.project.common.biz.sharding.ShardingBatchWriter;
+import com.nageoffer.shortlink.project.common.convention.exception.ClientException;
+import com.nageoffer.shortlink.project.config.ShortLinkCacheWarmUpConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.LinkStatsTodayDO;
+import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
+import com.nageoffer.shortlink.project.dao.mapper.LinkStatsTodayMapper;
+import com.nageoffer.shortlink.project.dao.mapper.ShortLinkMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 短链接跳转缓存预热
+ * 在 Web 容器启动前执行，此时节点尚未注册到注册中心，预热完成后再对外提供跳转服务；
+ * 热点短链接取今日访问量或历史总访问量 TopN，按 gid 分片并发回表读取原始链接，通过管道批量写入 Redis，
+ * 已存在的缓存不会被覆盖
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShortLinkCacheWarmUp implements SmartLifecycle {
+
+    /**
+     * 早于 Web 容器启动阶段执行
+     */
+    private static final int WARM_UP_PHASE = 0;
+
+    private final ShortLinkCacheWarmUpConfiguration shortLinkCacheWarmUpConfiguration;
+    private final LinkStatsTodayMapper linkStatsTodayMapper;
+    private final ShortLinkMapper shortLinkMapper;
+    private final ShardingBatchWriter shardingBatchWriter;
+    private final ShortLinkGotoCache shortLinkGotoCache;
+
+    private final AtomicBoolean warmingUp = new AtomicBoolean();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        if (!shortLinkCacheWarmUpConfiguration.getEnable()) {
+            return;
+        }
+        CompletableFuture<Integer> future = CompletableFuture.supplyAsync(this::warmUp);
+        try {
+            Integer count = future.get(shortLinkCacheWarmUpConfiguration.getMaxWaitMillis(), TimeUnit.MILLISECONDS);
+            log.info("[跳转缓存预热] 启动预热完成，写入 {} 条", count);
+        } catch (TimeoutException ex) {
+            log.warn("[跳转缓存预热] 启动预热超过 {}ms，剩余部分在后台继续执行", shortLinkCacheWarmUpConfiguration.getMaxWaitMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.error("[跳转缓存预热] 启动预热失败，跳转将回源加载", ex.getCause());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WARM_UP_PHASE;
+    }
+
+    /**
+     * 手动触发预热，适用于 Redis 清空或故障切换后
+     *
+     * @return 写入缓存的短链接数量
+     */
+    public int warmUp() {
+        if (!warmingUp.compareAndSet(false, true)) {
+            throw new ClientException("跳转缓存预热正在执行");
+        }
+        try {
+            return doWarmUp();
+        } finally {
+            warmingUp.set(false);
+        }
+    }
+
+    private int doWarmUp() {
+        long startTime = System.currentTimeMillis();
+        List<ShortLinkDO> hotShortLinks = Objects.equals(shortLinkCacheWarmUpConfiguration.getSource(), "total")
+                ? listTopTotalPv()
+                : listTopTodayPv();
+        int count = writeCache(hotShortLinks);
+        log.info("[跳转缓存预热] 来源：{}，候选 {} 条，写入 {} 条，耗时 {}ms",
+                shortLinkCacheWarmUpConfiguration.getSource(), hotShortLinks.size(), count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private List<ShortLinkDO> listTopTotalPv() {
+        LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
+                .select(ShortLinkDO::getFullShortUrl, ShortLinkDO::getOriginUrl, ShortLinkDO::getValidDate)
+                .eq(ShortLinkDO::getEnableStatus, 0)
+                .eq(ShortLinkDO::getDelFlag, 0)
+                .orderByDesc(ShortLinkDO::getTotalPv)
+                .last("limit " + shortLinkCacheWarmUpConfiguration.getTopN());
+        return shortLinkMapper.selectList(queryWrapper);
+    }
+
+    private List<ShortLinkDO> listTopTodayPv() {
+        List<LinkStatsTodayDO> topStats = linkStatsTodayMapper.listTopTodayPv(shortLinkCacheWarmUpConfiguration.getTopN());
+        int batchSize = shardingBatchWriter.getBatchSize();
+        return shardingBatchWriter.executeByShard(topStats, LinkStatsTodayDO::getGid, shardStats -> {
+            List<ShortLinkDO> result = new ArrayList<>(shardStats.size());
+            for (int i = 0; i < shardStats.size(); i += batchSize) {
+                List<LinkStatsTodayDO> chunk = shardStats.subList(i, Math.min(i + batchSize, shardStats.size()));
+                LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
+                        .select(ShortLinkDO::getFullShortUrl, ShortLinkDO::getOriginUrl, ShortLinkDO::getValidDate)
+                        .in(ShortLinkDO::getGid, chunk.stream().map(LinkStatsTodayDO::getGid).distinct().toList())
+                        .in(ShortLinkDO::getFullShortUrl, chunk.stream().map(LinkStatsTodayDO::getFullShortUrl).toList())
+                        .eq(ShortLinkDO::getEnableStatus, 0)
+                        .eq(ShortLinkDO::getDelFlag, 0);
+                result.addAll(shortLinkMapper.selectList(queryWrapper));
+            }
+            return result;
+        });
+    }
+
+    private int writeCache(List<ShortLinkDO> shortLinks) {
+        Date now = new Date();
+        List<ShortLinkDO> validShortLinks = shortLinks.stream()
+                .filter(each -> each.getValidDate() == null || each.getValidDate().after(now))
+                .toList();
+        int batchSize = shortLinkCacheWarmUpConfiguration.getPipelineBatchSize();
+        for (int i = 0; i < validShortLinks.size(); i += batchSize) {
+            shortLinkGotoCache.putAll(validShortLinks.subList(i, Math.min(i + batchSize, validShortLinks.size())), true);
+        }
+        return validShortLinks.size();
+    }
+}
@@ -29,15 +29,41 @@ public class RedisKeyConstant {
     public static final String GOTO_SHORT_LINK_KEY = "short-link:goto:%s";
 
     /**
-     * 短链接空值跳转前缀 Key
+     * 热点短链接跳转缓存副本 Key，参数依次为完整短链接、副本下标
      */
-    public static final String GOTO_IS_NULL_SHORT_LINK_KEY = "short-link:is-null:goto_%s";
+    public static final String GOTO_SHORT_LINK_REPLICA_KEY = "short-link:goto:%s:replica:%s";
+
+    /**
+     * 短链接空值跳转时间窗口位图 Key，参数依次为分桶下标、时间窗口序号
+     * 同一分桶各窗口位图与写入次数 Key 使用相同哈希标签，落在 Redis Cluster 同一槽位，供 Lua 脚本同时访问；不同分桶分散到不同槽位
+     */
+    public static final String GOTO_IS_NULL_WINDOW_KEY = "short-link:is-null:{goto-window-%s}:%s";
+
+    /**
+     * 短链接空值跳转时间窗口写入次数 Key，参数依次为分桶下标、时间窗口序号
+     */
+    public static final String GOTO_IS_NULL_WINDOW_COUNT_KEY = "short-link:is-null:{goto-window-%s}:%s:count";
 
     /**
      * 短链接跳转锁前缀 Key
      */
     public static final String LOCK_GOTO_SHORT_LINK_KEY = "short-link:lock:goto:%s";
 
+    /**
+     * 短链接跳转缓存未命中回源租约前缀 Key
+     */
+    public static final String LEASE_GOTO_SHORT_LINK_KEY = "short-link:lease:goto:%s";
+
+    /**
+     * 短链接跳转限流集群对账计数 Key，参数依次为限流维度、对账周期序号
+     */
+    public static final String SHORT_LINK_REDIRECT_RATE_LIMIT_KEY = "short-link:redirect-rate-limit:%s:%s";
+
+    /**
+     * 短链接跳转缓存后台刷新锁前缀 Key
+     */
+    public static final String LOCK_GOTO_REFRESH_SHORT_LINK_KEY = "short-link:lock:goto-refresh:%s";
+
     /**
      * 短链接修改分组 ID 锁前缀 Key
      */
@@ -72,4 +98,74 @@ public class RedisKeyConstant {
      * 创建短链接锁标识
      */
     public static final String SHORT_LINK_CREATE_LOCK_KEY = "short-link:lock:create";
+
+    /**
+     * 短链接修改分组异步迁移任务 Key
+     */
+    public static final String GID_MIGRATE_JOB_KEY = "short-link:gid-migrate:job:%s";
+
+    /**
+     * 短链接修改分组进行中迁移任务 Key，参数为完整短链接，值为任务ID，任务完成后删除
+     */
+    public static final String GID_MIGRATE_ACTIVE_JOB_KEY = "short-link:gid-migrate:active:%s";
+
+    /**
+     * 短链接修改分组未完成迁移任务集合 Key
+     */
+    public static final String GID_MIGRATE_JOB_UNFINISHED_KEY = "short-link:gid-migrate:unfinished";
+
+    /**
+     * 短链接修改分组异步迁移任务执行锁前缀 Key
+     */
+    public static final String LOCK_GID_MIGRATE_JOB_KEY = "short-link:lock:gid-migrate:%s";
+
+    /**
+     * 访问日志分区维护任务分布式锁 Key
+     */
+    public static final String LOCK_ACCESS_LOGS_PARTITION_KEY = "short-link:lock:access-logs-partition";
+
+    /**
+     * 短链接后缀号段中心计数器 Key
+     */
+    public static final String SHORT_LINK_SUFFIX_SEGMENT_KEY = "short-link:suffix:segment";
+
+    /**
+     * 原始链接页面元数据缓存 Key，Hash 结构存储标题与网站图标
+     */
+    public static final String PAGE_METADATA_URL_KEY = "short-link:page-metadata:url:%s";
+
+    /**
+     * 原始链接域名网站图标缓存 Key
+     */
+    public static final String PAGE_METADATA_DOMAIN_FAVICON_KEY = "short-link:page-metadata:domain-favicon:%s";
+
+    /**
+     * 短链接布隆过滤器新增元素广播流 Key，各节点据此同步本地布隆过滤器副本
+     */
+    public static final String SHORT_LINK_BLOOM_FILTER_ADD_STREAM_KEY = "short-link:bloom-filter:add-stream";
+
+    /**
+     * 可扩展布隆过滤器元数据 Key，Hash 结构记录当前代、分片数量与重建中的代
+     */
+    public static final String SHORT_LINK_BLOOM_FILTER_META_KEY = "short-link:bloom-filter:meta";
+
+    /**
+     * 可扩展布隆过滤器分片 Key，参数依次为代、分片下标
+     */
+    public static final String SHORT_LINK_BLOOM_FILTER_SLICE_KEY = "short-link:bloom-filter:slice:%s:%s";
+
+    /**
+     * 布隆过滤器分片元素计数 Key
+     */
+    public static final String SHORT_LINK_BLOOM_FILTER_COUNTER_KEY = "short-link:bloom-filter:count:%s";
+
+    /**
+     * 布隆过滤器追加分片分布式锁 Key
+     */
+    public static final String LOCK_BLOOM_FILTER_GROW_KEY = "short-link:lock:bloom-filter:grow";
+
+    /**
+     * 布隆过滤器重建任务分布式锁 Key
+     */
+    public static final String LOCK_BLOOM_FILTER_REBUILD_KEY = "short-link:lock:bloom-filter:rebuild";
 }
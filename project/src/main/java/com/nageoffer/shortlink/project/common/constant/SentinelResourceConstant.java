@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.constant;
+
+/**
+ * Sentinel 资源名常量类
+ */
+public class SentinelResourceConstant {
+
+    /**
+     * 创建短链接
+     */
+    public static final String CREATE_SHORT_LINK = "create_short-link";
+
+    /**
+     * 批量创建短链接
+     */
+    public static final String BATCH_CREATE_SHORT_LINK = "batch-create_short-link";
+
+    /**
+     * 分页查询短链接
+     */
+    public static final String PAGE_SHORT_LINK = "page_short-link";
+
+    /**
+     * 短链接监控查询，单链接与分组的监控数据、访问记录共用同一资源
+     */
+    public static final String STATS_SHORT_LINK = "stats_short-link";
+}
@@ -28,6 +28,11 @@ public class ShortLinkConstant {
      */
     public static final long DEFAULT_CACHE_VALID_TIME = 2626560000L;
 
+    /**
+     * 永久短链接缓存有效时间随机抖动比例，避免批量创建的短链接在同一时刻集中过期
+     */
+    public static final double DEFAULT_CACHE_VALID_TIME_JITTER_RATIO = 0.1D;
+
     /**
      * 高德获取地区接口地址
      */
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 短链接修改分组异步迁移任务状态
+ */
+@RequiredArgsConstructor
+public enum GidMigrateJobStatusEnum {
+
+    /**
+     * 已受理，等待执行
+     */
+    PENDING(0),
+
+    /**
+     * 迁移中
+     */
+    RUNNING(1),
+
+    /**
+     * 迁移完成
+     */
+    SUCCESS(2),
+
+    /**
+     * 迁移失败，可重新调度从检查点继续
+     */
+    FAILED(3);
+
+    @Getter
+    private final int status;
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sentinel 租户流控维度
+ * 受保护接口的第一个参数为携带分组标识的请求对象，第二个参数为请求头中的用户名
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SentinelTenantDimensionEnum {
+
+    /**
+     * 按分组标识限流
+     */
+    GID(0),
+
+    /**
+     * 按用户名限流
+     */
+    USERNAME(1);
+
+    /**
+     * 热点参数在接口参数列表中的下标
+     */
+    private final int paramIdx;
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 短链接业务计数器
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ShortLinkCounterEnum {
+
+    /**
+     * 跳转缓存命中
+     */
+    REDIRECT_CACHE_HIT("short-link.redirect.cache", "result", "hit"),
+
+    /**
+     * 跳转缓存未命中
+     */
+    REDIRECT_CACHE_MISS("short-link.redirect.cache", "result", "miss"),
+
+    /**
+     * 空值缓存命中，短链接不存在且已被缓存
+     */
+    REDIRECT_NULL_CACHE_HIT("short-link.redirect.null-cache.hit", null, null),
+
+    /**
+     * 布隆过滤器误判，判断存在但数据库中不存在可跳转的短链接
+     */
+    REDIRECT_BLOOM_FALSE_POSITIVE("short-link.redirect.bloom.false-positive", null, null),
+
+    /**
+     * 客户端 IP 超出跳转限流被拒绝
+     */
+    REDIRECT_THROTTLED_IP("short-link.redirect.throttled", "dimension", "ip"),
+
+    /**
+     * 短链接超出跳转限流被拒绝
+     */
+    REDIRECT_THROTTLED_LINK("short-link.redirect.throttled", "dimension", "link"),
+
+    /**
+     * 投递失败的监控消息
+     */
+    STATS_DROPPED_SEND("short-link.stats.dropped", "reason", "send"),
+
+    /**
+     * 消费时入库失败的监控消息
+     */
+    STATS_DROPPED_CONSUME("short-link.stats.dropped", "reason", "consume");
+
+    /**
+     * 指标名称
+     */
+    private final String metricName;
+
+    /**
+     * 标签名，无标签时为 null
+     */
+    private final String tagKey;
+
+    /**
+     * 标签值，无标签时为 null
+     */
+    private final String tagValue;
+}
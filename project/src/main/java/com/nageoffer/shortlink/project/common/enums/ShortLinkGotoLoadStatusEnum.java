@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 跳转缓存未命中检查脚本返回状态
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ShortLinkGotoLoadStatusEnum {
+
+    /**
+     * 跳转缓存已被其他请求写入
+     */
+    HIT("hit"),
+
+    /**
+     * 命中空值缓存，短链接不存在
+     */
+    NULL("null"),
+
+    /**
+     * 抢占到回源租约，由当前请求查询数据库并回填缓存
+     */
+    ELECTED("elected"),
+
+    /**
+     * 其他请求正在回源，等待后重新检查
+     */
+    WAIT("wait");
+
+    private final String status;
+
+    /**
+     * 根据脚本返回值获取状态
+     */
+    public static ShortLinkGotoLoadStatusEnum of(String status) {
+        for (ShortLinkGotoLoadStatusEnum each : values()) {
+            if (each.status.equals(status)) {
+                return each;
+            }
+        }
+        throw new IllegalArgumentException("未知的跳转缓存回源状态：" + status);
+    }
+}
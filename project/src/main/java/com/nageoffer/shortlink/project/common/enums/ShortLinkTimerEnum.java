@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 短链接业务计时器，同名计时器通过标签区分入口或阶段
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ShortLinkTimerEnum {
+
+    /**
+     * Servlet 入口跳转总耗时
+     */
+    REDIRECT_SERVLET("short-link.redirect", "entry", "servlet"),
+
+    /**
+     * 响应式入口跳转总耗时
+     */
+    REDIRECT_REACTIVE("short-link.redirect", "entry", "reactive"),
+
+    /**
+     * 跳转缓存读取，包括热点本地缓存、副本与主缓存
+     */
+    REDIRECT_CACHE("short-link.redirect.stage", "stage", "cache"),
+
+    /**
+     * 布隆过滤器判断
+     */
+    REDIRECT_BLOOM("short-link.redirect.stage", "stage", "bloom"),
+
+    /**
+     * 空值缓存读取
+     */
+    REDIRECT_NULL_CACHE("short-link.redirect.stage", "stage", "null-cache"),
+
+    /**
+     * 未命中检查脚本，一次往返完成缓存读取、空值判断与回源租约抢占
+     */
+    REDIRECT_LOAD_SCRIPT("short-link.redirect.stage", "stage", "load-script"),
+
+    /**
+     * 回源分布式锁或回源租约等待
+     */
+    REDIRECT_LOCK_WAIT("short-link.redirect.stage", "stage", "lock-wait"),
+
+    /**
+     * 回源数据库查询
+     */
+    REDIRECT_DB_LOAD("short-link.redirect.stage", "stage", "db-load"),
+
+    /**
+     * 创建短链接总耗时
+     */
+    CREATE("short-link.create", "stage", "total"),
+
+    /**
+     * 创建短链接后缀生成与判重
+     */
+    CREATE_SUFFIX("short-link.create", "stage", "suffix"),
+
+    /**
+     * 创建短链接写入数据库
+     */
+    CREATE_DB_INSERT("short-link.create", "stage", "db-insert"),
+
+    /**
+     * 监控消息投递
+     */
+    STATS_SEND("short-link.stats.send", null, null),
+
+    /**
+     * 监控消息消费总耗时
+     */
+    STATS_CONSUME("short-link.stats.consume", null, null),
+
+    /**
+     * 监控消息消费地区查询
+     */
+    STATS_LOCALE("short-link.stats.consume.locale", null, null);
+
+    /**
+     * 指标名称
+     */
+    private final String metricName;
+
+    /**
+     * 标签名，无标签时为 null
+     */
+    private final String tagKey;
+
+    /**
+     * 标签值，无标签时为 null
+     */
+    private final String tagValue;
+}
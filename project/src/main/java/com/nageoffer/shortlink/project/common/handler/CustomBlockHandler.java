@@ -18,9 +18,20 @@
 package com.nageoffer.shortlink.project.common.handler;
 
 import com.alibaba.csp.sentinel.slots.block.BlockException;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.nageoffer.shortlink.project.common.convention.result.Result;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkBatchCreateReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkCreateReqDTO;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkGroupStatsAccessRecordReqDTO;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkGroupStatsReqDTO;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkPageReqDTO;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkStatsAccessRecordReqDTO;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkStatsReqDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkBatchCreateRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkCreateRespDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkPageRespDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkStatsAccessRecordRespDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkStatsRespDTO;
 
 /**
  * 自定义流控策略
@@ -30,7 +41,35 @@ import com.nageoffer.shortlink.project.dto.resp.ShortLinkCreateRespDTO;
  */
 public class CustomBlockHandler {
 
-    public static Result<ShortLinkCreateRespDTO> createShortLinkBlockHandlerMethod(ShortLinkCreateReqDTO requestParam, BlockException exception) {
-        return new Result<ShortLinkCreateRespDTO>().setCode("B100000").setMessage("当前访问网站人数过多，请稍后再试...");
+    public static Result<ShortLinkCreateRespDTO> createShortLinkBlockHandlerMethod(ShortLinkCreateReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<ShortLinkBatchCreateRespDTO> batchCreateShortLinkBlockHandlerMethod(ShortLinkBatchCreateReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<IPage<ShortLinkPageRespDTO>> pageShortLinkBlockHandlerMethod(ShortLinkPageReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<ShortLinkStatsRespDTO> shortLinkStatsBlockHandlerMethod(ShortLinkStatsReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<ShortLinkStatsRespDTO> groupShortLinkStatsBlockHandlerMethod(ShortLinkGroupStatsReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<IPage<ShortLinkStatsAccessRecordRespDTO>> shortLinkStatsAccessRecordBlockHandlerMethod(ShortLinkStatsAccessRecordReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    public static Result<IPage<ShortLinkStatsAccessRecordRespDTO>> groupShortLinkStatsAccessRecordBlockHandlerMethod(ShortLinkGroupStatsAccessRecordReqDTO requestParam, String username, BlockException exception) {
+        return blocked();
+    }
+
+    private static <T> Result<T> blocked() {
+        return new Result<T>().setCode("B100000").setMessage("当前访问网站人数过多，请稍后再试...");
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import com.nageoffer.shortlink.project.common.enums.LinkAccessLogsRetentionModeEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 访问日志按月分区配置文件
+ * 访问日志表按 create_time 建立 RANGE COLUMNS 分区，可由任务自动初始化，数据量较大时建议关闭自动初始化，
+ * 借助在线变更工具执行 sql/t_link_access_logs_partition.sql；访问日志分片后每张分片表各自分区
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.access-logs-partition")
+public class LinkAccessLogsPartitionConfiguration {
+
+    /**
+     * 是否开启分区维护任务
+     */
+    private Boolean enable = false;
+
+    /**
+     * 是否自动将尚未分区的访问日志表初始化为按月分区，初始化需重建表，执行期间阻塞写入
+     */
+    private Boolean autoInitialize = true;
+
+    /**
+     * 访问日志逻辑表名，配置了分片规则时维护其全部分片表
+     */
+    private String table = "t_link_access_logs";
+
+    /**
+     * 提前创建的未来月份分区数量，不含当月
+     */
+    private Integer preCreateMonths = 3;
+
+    /**
+     * 保留最近的自然月数量，含当月，更早的分区按 retentionMode 处理
+     */
+    private Integer retentionMonths = 12;
+
+    /**
+     * 过期分区处理方式，drop：直接删除；archive：交换到归档表后删除分区
+     */
+    private LinkAccessLogsRetentionModeEnum retentionMode = LinkAccessLogsRetentionModeEnum.DROP;
+
+    /**
+     * 分区维护检查间隔，单位毫秒
+     */
+    private Long checkInterval = 3600000L;
+}
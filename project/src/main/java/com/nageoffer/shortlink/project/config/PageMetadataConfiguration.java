@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 原始链接页面元数据获取配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.page-metadata")
+public class PageMetadataConfiguration {
+
+    /**
+     * 连接目标网站超时时间，单位：毫秒
+     */
+    private Integer connectTimeout = 2000;
+
+    /**
+     * 读取目标网站超时时间，单位：毫秒
+     */
+    private Integer readTimeout = 3000;
+
+    /**
+     * 最多读取的页面字节数，读到 </head> 或超过该值即停止
+     */
+    private Integer maxHeadBytes = 65536;
+
+    /**
+     * 同一原始链接标题与图标缓存时间，单位：分钟
+     */
+    private Integer urlCacheMinutes = 60;
+
+    /**
+     * 请求失败结果缓存时间，单位：秒，避免偶发超时长时间返回获取失败
+     */
+    private Integer failureCacheSeconds = 30;
+
+    /**
+     * 同一域名图标缓存时间，单位：小时
+     */
+    private Integer domainCacheHours = 24;
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import com.nageoffer.shortlink.project.common.biz.redirect.ShortLinkRedirectFilter;
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.service.ShortLinkService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 短链接跳转配置自动装配
+ */
+@Configuration
+public class RedirectConfiguration {
+
+    /**
+     * 短链接跳转过滤器，优先于其他过滤器执行
+     */
+    @Bean
+    @ConditionalOnProperty(name = "short-link.redirect-filter.enable", havingValue = "true")
+    public FilterRegistrationBean<ShortLinkRedirectFilter> shortLinkRedirectFilter(
+            ShortLinkService shortLinkService,
+            ShortLinkRedirectFilterConfiguration shortLinkRedirectFilterConfiguration,
+            ShortLinkThreadFactories shortLinkThreadFactories) {
+        FilterRegistrationBean<ShortLinkRedirectFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new ShortLinkRedirectFilter(
+                shortLinkService,
+                shortLinkRedirectFilterConfiguration.getExcludePaths(),
+                !shortLinkThreadFactories.isVirtualThreadEnabled()
+        ));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -17,30 +17,172 @@
 
 package com.nageoffer.shortlink.project.config;
 
+import com.alibaba.csp.sentinel.node.ClusterNode;
 import com.alibaba.csp.sentinel.slots.block.RuleConstant;
 import com.alibaba.csp.sentinel.slots.block.flow.FlowRule;
 import com.alibaba.csp.sentinel.slots.block.flow.FlowRuleManager;
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowItem;
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowRule;
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowRuleManager;
+import com.alibaba.csp.sentinel.slots.clusterbuilder.ClusterBuilderSlot;
+import com.alibaba.csp.sentinel.slots.system.SystemRuleManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 初始化限流配置
+ * 按 short-link.sentinel 配置加载接口整体流控规则与租户热点参数流控规则，配置刷新后重新加载；
+ * 监控查询另按 CPU 使用率与系统负载自适应收紧并发线程数，只作用于配置的资源，不影响短链接跳转
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
+@Slf4j
 @Component
-public class SentinelRuleConfig implements InitializingBean {
-//这是一个 Sentinel 限流规则初始化类。Spring 容器启动时会执行它，把一条“流控(/)限流”规则加载到 Sentinel 的内存规则管理器里，从而对指定资源做 QPS 限制
+@RequiredArgsConstructor
+public class SentinelRuleConfig implements InitializingBean, DisposableBean {
+
+    private final ShortLinkSentinelRuleConfiguration shortLinkSentinelRuleConfiguration;
+
+    /**
+     * 配置文件中的接口整体流控规则
+     */
+    private volatile List<FlowRule> configuredFlowRules = Collections.emptyList();
+
+    /**
+     * 自适应流控当前生效的并发线程数上限，键为资源名
+     */
+    private final Map<String, Integer> adaptiveConcurrency = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService adaptiveExecutor;
+
     @Override
     public void afterPropertiesSet() throws Exception {
-        List<FlowRule> rules = new ArrayList<>();
-        FlowRule createOrderRule = new FlowRule();
-        createOrderRule.setResource("create_short-link");
-        createOrderRule.setGrade(RuleConstant.FLOW_GRADE_QPS);
-        createOrderRule.setCount(1);
-        rules.add(createOrderRule);
-        FlowRuleManager.loadRules(rules);
+        loadRules();
+        adaptiveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "short-link-sentinel-adaptive-rule");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkInterval = shortLinkSentinelRuleConfiguration.getAdaptiveCheckInterval();
+        adaptiveExecutor.scheduleWithFixedDelay(this::adjustAdaptiveRules, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (adaptiveExecutor != null) {
+            adaptiveExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 配置刷新后配置类已重新绑定，按最新配置重新加载规则
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefresh() {
+        loadRules();
+    }
+
+    /**
+     * 按配置加载接口整体流控规则与租户流控规则
+     */
+    public synchronized void loadRules() {
+        List<FlowRule> flowRules = new ArrayList<>();
+        for (ShortLinkSentinelRuleConfiguration.ResourceRule each : shortLinkSentinelRuleConfiguration.getResourceRules()) {
+            FlowRule flowRule = new FlowRule(each.getResource());
+            flowRule.setGrade(RuleConstant.FLOW_GRADE_QPS);
+            flowRule.setCount(each.getQps());
+            flowRules.add(flowRule);
+        }
+        List<ParamFlowRule> paramFlowRules = new ArrayList<>();
+        for (ShortLinkSentinelRuleConfiguration.TenantRule each : shortLinkSentinelRuleConfiguration.getTenantRules()) {
+            List<ParamFlowItem> paramFlowItems = new ArrayList<>();
+            for (ShortLinkSentinelRuleConfiguration.TenantException exception : each.getExceptions()) {
+                paramFlowItems.add(new ParamFlowItem()
+                        .setObject(exception.getValue())
+                        .setClassType(String.class.getName())
+                        .setCount(exception.getQps().intValue()));
+            }
+            paramFlowRules.add(new ParamFlowRule(each.getResource())
+                    .setParamIdx(each.getDimension().getParamIdx())
+                    .setGrade(RuleConstant.FLOW_GRADE_QPS)
+                    .setCount(each.getQps())
+                    .setParamFlowItemList(paramFlowItems));
+        }
+        configuredFlowRules = flowRules;
+        ParamFlowRuleManager.loadRules(paramFlowRules);
+        if (shortLinkSentinelRuleConfiguration.getAdaptiveEnable()) {
+            adaptiveConcurrency.keySet().retainAll(shortLinkSentinelRuleConfiguration.getAdaptiveResources());
+        } else {
+            adaptiveConcurrency.clear();
+        }
+        publishFlowRules();
+        log.info("Sentinel 流控规则已加载，接口规则 {} 条，租户规则 {} 条", flowRules.size(), paramFlowRules.size());
+    }
+
+    /**
+     * 系统过载时按资源近期最大成功 QPS 与最小响应时间估算可承载的并发线程数，
+     * 以线程数流控规则收紧监控查询；系统恢复后撤销
+     */
+    private void adjustAdaptiveRules() {
+        try {
+            boolean overloaded = shortLinkSentinelRuleConfiguration.getAdaptiveEnable() && isOverloaded();
+            boolean changed = false;
+            for (String each : shortLinkSentinelRuleConfiguration.getAdaptiveResources()) {
+                if (!overloaded) {
+                    changed |= adaptiveConcurrency.remove(each) != null;
+                    continue;
+                }
+                ClusterNode clusterNode = ClusterBuilderSlot.getClusterNode(each);
+                if (clusterNode == null) {
+                    continue;
+                }
+                int concurrency = Math.max(
+                        shortLinkSentinelRuleConfiguration.getAdaptiveMinConcurrency(),
+                        (int) Math.ceil(clusterNode.maxSuccessQps() * clusterNode.minRt() / 1000)
+                );
+                changed |= !Objects.equals(adaptiveConcurrency.put(each, concurrency), concurrency);
+            }
+            if (changed) {
+                publishFlowRules();
+                log.info("Sentinel 自适应流控已调整，CPU 使用率 {}，系统负载 {}，并发线程数上限 {}",
+                        SystemRuleManager.getCurrentCpuUsage(), SystemRuleManager.getCurrentSystemAvgLoad(), adaptiveConcurrency);
+            }
+        } catch (Throwable ex) {
+            log.error("Sentinel 自适应流控调整异常", ex);
+        }
+    }
+
+    private boolean isOverloaded() {
+        double loadThreshold = shortLinkSentinelRuleConfiguration.getAdaptiveLoadThreshold();
+        return SystemRuleManager.getCurrentCpuUsage() > shortLinkSentinelRuleConfiguration.getAdaptiveCpuUsageThreshold()
+                || (loadThreshold >= 0 && SystemRuleManager.getCurrentSystemAvgLoad() > loadThreshold);
+    }
+
+    /**
+     * 合并配置规则与自适应规则后整体加载，两者作用于同一资源时同时生效
+     */
+    private synchronized void publishFlowRules() {
+        List<FlowRule> flowRules = new ArrayList<>(configuredFlowRules);
+        adaptiveConcurrency.forEach((resource, concurrency) -> {
+            FlowRule flowRule = new FlowRule(resource);
+            flowRule.setGrade(RuleConstant.FLOW_GRADE_THREAD);
+            flowRule.setCount(concurrency);
+            flowRules.add(flowRule);
+        });
+        FlowRuleManager.loadRules(flowRules);
     }
 }
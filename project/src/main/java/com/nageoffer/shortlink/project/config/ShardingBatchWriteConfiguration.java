@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 分片批量写入配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.sharding-batch")
+public class ShardingBatchWriteConfiguration {
+
+    /**
+     * 并发写入分片的线程数，同时占用同等数量的数据库连接
+     */
+    private Integer threadCount = 4;
+
+    /**
+     * 分片写入任务等待队列容量，超出后由调用线程直接写入
+     */
+    private Integer queueCapacity = 64;
+
+    /**
+     * 单个 JDBC 批次的最大行数
+     */
+    private Integer batchSize = 500;
+}
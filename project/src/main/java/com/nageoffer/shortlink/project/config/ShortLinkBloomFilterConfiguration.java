@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接布隆过滤器配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.bloom-filter")
+public class ShortLinkBloomFilterConfiguration {
+
+    /**
+     * 首个分片预期元素数量
+     */
+    private Long initialCapacity = 100000000L;
+
+    /**
+     * 首个分片误判率
+     */
+    private Double falseProbability = 0.001;
+
+    /**
+     * 后续分片预期元素数量相对上一分片的增长倍数，单个 Redis 位图上限 512MB，不宜过大
+     */
+    private Double growthFactor = 1.0;
+
+    /**
+     * 后续分片误判率相对上一分片的收紧比例，使总误判率收敛
+     */
+    private Double tighteningRatio = 0.5;
+
+    /**
+     * 各节点刷新分片元数据的间隔，单位：毫秒
+     */
+    private Long metaRefreshInterval = 5000L;
+
+    /**
+     * 重建时每次从 t_link_goto 读取的行数
+     */
+    private Integer rebuildPageSize = 2000;
+
+    /**
+     * 重建切换后旧代分片保留时间，单位：毫秒，期间尚未刷新元数据的节点仍可读取
+     */
+    private Long rebuildRetireDelay = 60000L;
+
+    /**
+     * 是否启用本地布隆过滤器副本，副本占用堆内存约为布隆过滤器位数 / 8 字节，默认容量下约 180MB
+     */
+    private Boolean localReplicaEnable = false;
+
+    /**
+     * 从 Redis 加载位图快照时每次 GETRANGE 读取的字节数，需为 8 的倍数
+     */
+    private Integer snapshotChunkBytes = 4 * 1024 * 1024;
+
+    /**
+     * 拉取新增元素广播流的间隔，单位：毫秒
+     */
+    private Long syncInterval = 100L;
+
+    /**
+     * 每次拉取新增元素广播流的最大条数
+     */
+    private Integer syncBatchSize = 1000;
+
+    /**
+     * 新增元素广播流保留的最大条数
+     */
+    private Long addStreamMaxLength = 1000000L;
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接跳转缓存预热配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.warm-up")
+public class ShortLinkCacheWarmUpConfiguration {
+
+    /**
+     * 是否在节点对外提供服务前预热跳转缓存
+     */
+    private Boolean enable = false;
+
+    /**
+     * 热点短链接来源，today：按今日访问量；total：按历史总访问量
+     */
+    private String source = "today";
+
+    /**
+     * 预热短链接数量
+     */
+    private Integer topN = 10000;
+
+    /**
+     * 单次管道写入 Redis 的命令数
+     */
+    private Integer pipelineBatchSize = 500;
+
+    /**
+     * 启动阶段最长等待时间，单位毫秒，超时后剩余预热在后台继续执行
+     */
+    private Long maxWaitMillis = 30000L;
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接网站图标异步补全配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.favicon")
+public class ShortLinkFaviconConfiguration {
+
+    /**
+     * 图标获取线程数
+     */
+    private Integer threadCount = 2;
+
+    /**
+     * 图标获取等待队列容量，超出后丢弃补全任务，短链接图标保持为空
+     */
+    private Integer queueCapacity = 1000;
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接跳转缓存配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.goto-cache")
+public class ShortLinkGotoCacheConfiguration {
+
+    /**
+     * 永久短链接逻辑过期后继续返回旧值的时间窗口，单位毫秒，期间由单个后台任务回源刷新
+     */
+    private Long staleWindow = 600000L;
+
+    /**
+     * 后台刷新线程数
+     */
+    private Integer refreshThreadCount = 2;
+
+    /**
+     * 后台刷新任务等待队列容量，超出后丢弃，由下一次访问重新触发
+     */
+    private Integer refreshQueueCapacity = 1000;
+
+    /**
+     * 刷新互斥锁有效期，单位毫秒，保证同一短链接同一时刻只有一个节点回源
+     */
+    private Long refreshLockTimeout = 10000L;
+
+    /**
+     * 是否通过 Lua 脚本回源，一次往返完成缓存读取、空值判断与回源租约抢占；
+     * 脚本访问的 Key 不在同一哈希槽，仅适用于单机或哨兵部署；配置了 Redis Cluster 时启动后自动回退为分布式锁回源
+     */
+    private Boolean loadScriptEnable = false;
+
+    /**
+     * 回源租约有效期，单位毫秒，持有请求异常退出时到期后由其他请求重新抢占
+     */
+    private Long loadLeaseTimeout = 3000L;
+
+    /**
+     * 未抢占到回源租约的请求重新检查间隔，单位毫秒
+     */
+    private Long loadPollInterval = 20L;
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接跳转热点 Key 探测配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.hot-key")
+public class ShortLinkHotKeyConfiguration {
+
+    /**
+     * 是否开启热点 Key 探测
+     */
+    private Boolean enable = true;
+
+    /**
+     * Count-Min Sketch 每行计数器数量
+     */
+    private Integer sketchWidth = 4096;
+
+    /**
+     * Count-Min Sketch 行数，即哈希函数个数
+     */
+    private Integer sketchDepth = 4;
+
+    /**
+     * 衰减周期，单位毫秒，每个周期结束时全部计数减半，形成近似滑动窗口
+     */
+    private Long decayInterval = 5000L;
+
+    /**
+     * 判定为热点的访问次数阈值，与衰减后的估计值比较
+     */
+    private Long threshold = 1000L;
+
+    /**
+     * 热点 Key 最大数量，超出后不再晋升新的热点
+     */
+    private Integer maxHotKeys = 1000;
+
+    /**
+     * 热点 Key 本地缓存时间，单位毫秒，到期时仍为热点则续期
+     */
+    private Long localCacheTtl = 60000L;
+
+    /**
+     * 是否将热点 Key 复制为多个 Redis Key 分散读取压力
+     */
+    private Boolean replicaEnable = false;
+
+    /**
+     * 热点 Key 副本数量
+     */
+    private Integer replicaCount = 4;
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接 JFR 录制配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.jfr")
+public class ShortLinkJfrConfiguration {
+
+    /**
+     * 是否在应用启动时开启 JFR 持续录制，关闭时仍可通过 jcmd 按需录制
+     */
+    private Boolean enable = false;
+
+    /**
+     * 录制模板路径，支持 classpath: 与 file: 前缀
+     */
+    private String settings = "classpath:jfr/short-link.jfc";
+
+    /**
+     * 录制数据最长保留时间，单位毫秒
+     */
+    private Long maxAge = 3600000L;
+
+    /**
+     * 录制数据最大占用空间，单位字节
+     */
+    private Long maxSize = 268435456L;
+
+    /**
+     * 应用关闭时转储录制数据的文件路径
+     */
+    private String dumpPath = "short-link.jfr";
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接空值缓存配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.negative-cache")
+public class ShortLinkNegativeCacheConfiguration {
+
+    /**
+     * 时间窗口长度，单位毫秒，空值记录保留一到两个窗口
+     */
+    private Long windowMillis = 900000L;
+
+    /**
+     * 每个时间窗口位图的位数，由各分桶均分，单个窗口占用 位数 / 8 字节 Redis 内存
+     */
+    private Long bitmapBits = 8388608L;
+
+    /**
+     * 位图分桶数，短链接按哈希落入其中一个分桶，各分桶 Key 使用不同哈希标签，Redis Cluster 下分散到不同节点
+     */
+    private Integer bucketCount = 16;
+
+    /**
+     * 每个短链接在位图中占用的位数
+     */
+    private Integer hashCount = 4;
+
+    /**
+     * 每个时间窗口最多写入的空值记录数，由各分桶均分，超出后不再写入 Redis 位图，避免位图过满导致真实短链接被误判为不存在；
+     * 默认位数下写满时误判率约为十万分之七
+     */
+    private Long windowCapacity = 200000L;
+
+    /**
+     * 本地空值缓存最大条目数
+     */
+    private Long localMaxSize = 100000L;
+
+    /**
+     * 本地空值缓存有效期，单位毫秒；移除空值记录不通知其他节点，短链接恢复后其他节点最多延迟一个周期生效
+     */
+    private Long localTtl = 30000L;
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 响应式短链接跳转服务配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.reactive-redirect")
+public class ShortLinkReactiveRedirectConfiguration {
+
+    /**
+     * 是否额外启动基于 Netty 的响应式跳转服务
+     */
+    private Boolean enable = false;
+
+    /**
+     * 响应式跳转服务监听端口，需由网关按原域名转发，短链接根据请求头 Host 还原
+     */
+    private Integer port = 8011;
+
+    /**
+     * 短链接不存在时的跳转地址
+     */
+    private String notFoundUrl = "/page/notfound";
+}
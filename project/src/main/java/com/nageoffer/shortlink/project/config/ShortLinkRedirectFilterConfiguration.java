@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 短链接跳转过滤器配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.redirect-filter")
+public class ShortLinkRedirectFilterConfiguration {
+
+    /**
+     * 是否在 Spring MVC 之前由过滤器直接处理短链接跳转
+     */
+    private Boolean enable = false;
+
+    /**
+     * 不作为短链接处理的单级路径，交由 Spring MVC 处理
+     */
+    private List<String> excludePaths = List.of("error");
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 短链接跳转限流配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.redirect-rate-limit")
+public class ShortLinkRedirectRateLimitConfiguration {
+
+    /**
+     * 是否开启跳转限流
+     */
+    private Boolean enable = false;
+
+    /**
+     * 可信代理，支持单个 IP 与 IPv4 CIDR 网段；连接对端为可信代理时才读取 X-Forwarded-For 解析客户端 IP，
+     * 为空时始终按连接对端地址限流，部署在负载均衡之后需配置负载均衡地址，否则所有请求按同一 IP 计数
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * 单节点每个客户端 IP 每秒允许的跳转次数
+     */
+    private Integer ipPermitsPerSecond = 50;
+
+    /**
+     * 单节点每个客户端 IP 允许的突发跳转次数
+     */
+    private Integer ipBurst = 100;
+
+    /**
+     * 单节点每个短链接每秒允许的跳转次数
+     */
+    private Integer linkPermitsPerSecond = 5000;
+
+    /**
+     * 单节点每个短链接允许的突发跳转次数
+     */
+    private Integer linkBurst = 10000;
+
+    /**
+     * 每个维度本地最多跟踪的令牌桶数量，超出后按访问频率淘汰，闲置令牌桶优先淘汰
+     */
+    private Long maxTrackedKeys = 100000L;
+
+    /**
+     * 是否开启集群对账，各节点定期上报放行次数，集群合计超出上限的 IP 或短链接在各节点本地封禁
+     */
+    private Boolean clusterEnable = true;
+
+    /**
+     * 集群每个客户端 IP 每秒允许的跳转次数
+     */
+    private Integer clusterIpPermitsPerSecond = 200;
+
+    /**
+     * 集群每个短链接每秒允许的跳转次数
+     */
+    private Integer clusterLinkPermitsPerSecond = 20000;
+
+    /**
+     * 集群对账周期，单位毫秒
+     */
+    private Long reconcileInterval = 1000L;
+
+    /**
+     * 一个对账周期内放行次数达到该值的 IP 或短链接才参与上报
+     */
+    private Integer reportMinCount = 10;
+
+    /**
+     * 集群合计超出上限后的本地封禁时间，单位毫秒
+     */
+    private Long blockMillis = 5000L;
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import com.nageoffer.shortlink.project.common.enums.SentinelTenantDimensionEnum;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sentinel 流控规则配置文件
+ * 配置变更后通过配置中心推送或调用管理端口（management.server.port）的 /actuator/refresh 刷新，规则无需重启即可生效
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.sentinel")
+public class ShortLinkSentinelRuleConfiguration {
+
+    /**
+     * 接口整体 QPS 流控规则
+     */
+    private List<ResourceRule> resourceRules = new ArrayList<>();
+
+    /**
+     * 租户 QPS 流控规则，按分组标识或用户名分别计数
+     */
+    private List<TenantRule> tenantRules = new ArrayList<>();
+
+    /**
+     * 是否开启监控查询自适应流控
+     */
+    private Boolean adaptiveEnable = true;
+
+    /**
+     * 自适应流控保护的资源
+     */
+    private List<String> adaptiveResources = new ArrayList<>();
+
+    /**
+     * 触发自适应流控的 CPU 使用率阈值，取值 0 到 1
+     */
+    private Double adaptiveCpuUsageThreshold = 0.8D;
+
+    /**
+     * 触发自适应流控的系统负载阈值，小于 0 表示不按系统负载判断
+     */
+    private Double adaptiveLoadThreshold = -1D;
+
+    /**
+     * 自适应流控检查间隔，单位毫秒，修改后重启生效
+     */
+    private Long adaptiveCheckInterval = 1000L;
+
+    /**
+     * 自适应流控下每个资源至少允许的并发线程数
+     */
+    private Integer adaptiveMinConcurrency = 1;
+
+    /**
+     * 接口整体流控规则
+     */
+    @Data
+    public static class ResourceRule {
+
+        /**
+         * Sentinel 资源名
+         */
+        private String resource;
+
+        /**
+         * 每秒允许通过的请求数
+         */
+        private Double qps;
+    }
+
+    /**
+     * 租户流控规则
+     */
+    @Data
+    public static class TenantRule {
+
+        /**
+         * Sentinel 资源名
+         */
+        private String resource;
+
+        /**
+         * 限流维度，gid 或 username
+         */
+        private SentinelTenantDimensionEnum dimension = SentinelTenantDimensionEnum.GID;
+
+        /**
+         * 每个租户每秒允许通过的请求数
+         */
+        private Double qps;
+
+        /**
+         * 单独指定配额的租户
+         */
+        private List<TenantException> exceptions = new ArrayList<>();
+    }
+
+    /**
+     * 单独指定配额的租户
+     */
+    @Data
+    public static class TenantException {
+
+        /**
+         * 分组标识或用户名
+         */
+        private String value;
+
+        /**
+         * 该租户每秒允许通过的请求数
+         */
+        private Double qps;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 短链接后缀生成配置文件
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "short-link.suffix")
+public class ShortLinkSuffixConfiguration {
+
+    /**
+     * 后缀生成方式 hash：原始链接哈希并通过布隆过滤器判重 segment：号段发号，无需判重
+     */
+    private String type = "hash";
+
+    /**
+     * 每次从中心计数器租用的号段大小
+     */
+    private Integer segmentStep = 1000;
+
+    /**
+     * 当前号段剩余比例低于该值时异步预取下一个号段
+     */
+    private Double segmentPrefetchRatio = 0.2;
+
+    /**
+     * 是否对号段 ID 做双射置换，开启后生成的短链接不可被顺序猜测，上线后不可切换
+     */
+    private Boolean segmentShuffle = true;
+
+    /**
+     * 哈希模式下是否启用本地预生成后缀池
+     */
+    private Boolean poolEnable = false;
+
+    /**
+     * 预生成后缀池容量
+     */
+    private Integer poolSize = 10000;
+
+    /**
+     * 池内后缀数量低于容量的该比例时触发后台补充
+     */
+    private Double poolLowWatermarkRatio = 0.3;
+
+    /**
+     * 每次管道批量判重的候选后缀数量
+     */
+    private Integer poolRefillBatchSize = 500;
+
+    /**
+     * 后台定时检查补充间隔，单位毫秒
+     */
+    private Long poolRefillInterval = 1000L;
+}
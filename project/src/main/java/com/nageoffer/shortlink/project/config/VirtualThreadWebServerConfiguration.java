@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.config;
+
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 虚拟线程 Web 容器配置类
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "short-link.virtual-thread", name = "enable", havingValue = "true")
+public class VirtualThreadWebServerConfiguration {
+
+    /**
+     * Tomcat 请求处理线程池替换为每个请求一个虚拟线程，不支持虚拟线程时保留原有线程池
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ShortLinkThreadFactories shortLinkThreadFactories) {
+        return protocolHandler -> {
+            ExecutorService executor = shortLinkThreadFactories.newVirtualThreadPerTaskExecutor("short-link-tomcat-virtual-");
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        };
+    }
+}
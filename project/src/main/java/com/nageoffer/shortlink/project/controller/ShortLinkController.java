@@ -19,13 +19,17 @@ package com.nageoffer.shortlink.project.controller;
 
 import com.alibaba.csp.sentinel.annotation.SentinelResource;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.nageoffer.shortlink.project.common.constant.SentinelResourceConstant;
 import com.nageoffer.shortlink.project.common.convention.result.Result;
 import com.nageoffer.shortlink.project.common.convention.result.Results;
 import com.nageoffer.shortlink.project.common.handler.CustomBlockHandler;
+import com.nageoffer.shortlink.project.dto.req.ShortLinkBatchCreateReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkCreateReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkPageReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkUpdateReqDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkBatchCreateRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkCreateRespDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkGidMigrateJobRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkGroupCountQueryRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkPageRespDTO;
 import com.nageoffer.shortlink.project.service.ShortLinkService;
@@ -53,18 +57,39 @@ public class ShortLinkController {
      */
     @PostMapping("/api/short-link/v1/create")
     @SentinelResource(
-            value = "create_short-link",
+            value = SentinelResourceConstant.CREATE_SHORT_LINK,
             blockHandler = "createShortLinkBlockHandlerMethod",
             blockHandlerClass = CustomBlockHandler.class
     )
-    public Result<ShortLinkCreateRespDTO> createShortLink(@RequestBody ShortLinkCreateReqDTO requestParam) {
+    public Result<ShortLinkCreateRespDTO> createShortLink(@RequestBody ShortLinkCreateReqDTO requestParam,
+                                                          @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkService.createShortLink(requestParam));
     }
+
+    /**
+     * 批量创建短链接
+     */
+    @PostMapping("/api/short-link/v1/create/batch")
+    @SentinelResource(
+            value = SentinelResourceConstant.BATCH_CREATE_SHORT_LINK,
+            blockHandler = "batchCreateShortLinkBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<ShortLinkBatchCreateRespDTO> batchCreateShortLink(@RequestBody ShortLinkBatchCreateReqDTO requestParam,
+                                                                    @RequestHeader(value = "username", required = false) String username) {
+        return Results.success(shortLinkService.batchCreateShortLink(requestParam));
+    }
     /**
      * 分页查询短链接
      */
     @GetMapping("/api/short-link/v1/page")
-    public Result<IPage<ShortLinkPageRespDTO>> pageShortLink(ShortLinkPageReqDTO requestParam) {
+    @SentinelResource(
+            value = SentinelResourceConstant.PAGE_SHORT_LINK,
+            blockHandler = "pageShortLinkBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<IPage<ShortLinkPageRespDTO>> pageShortLink(ShortLinkPageReqDTO requestParam,
+                                                             @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkService.pageShortLink(requestParam));
     }
     /**
@@ -83,6 +108,22 @@ public class ShortLinkController {
         return Results.success();
     }
 
+    /**
+     * 异步修改短链接，跨分组修改时返回监控数据迁移任务ID
+     */
+    @PostMapping("/api/short-link/v1/update/async")
+    public Result<String> updateShortLinkAsync(@RequestBody ShortLinkUpdateReqDTO requestParam) {
+        return Results.success(shortLinkService.updateShortLinkAsync(requestParam));
+    }
+
+    /**
+     * 查询短链接修改分组迁移任务
+     */
+    @GetMapping("/api/short-link/v1/update/job")
+    public Result<ShortLinkGidMigrateJobRespDTO> queryGidMigrateJob(@RequestParam("jobId") String jobId) {
+        return Results.success(shortLinkService.queryGidMigrateJob(jobId));
+    }
+
 
 
 }
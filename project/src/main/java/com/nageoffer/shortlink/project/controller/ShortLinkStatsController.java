@@ -1,8 +1,11 @@
 package com.nageoffer.shortlink.project.controller;
 
+import com.alibaba.csp.sentinel.annotation.SentinelResource;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.nageoffer.shortlink.project.common.constant.SentinelResourceConstant;
 import com.nageoffer.shortlink.project.common.convention.result.Result;
 import com.nageoffer.shortlink.project.common.convention.result.Results;
+import com.nageoffer.shortlink.project.common.handler.CustomBlockHandler;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkGroupStatsAccessRecordReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkGroupStatsReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkStatsAccessRecordReqDTO;
@@ -12,6 +15,7 @@ import com.nageoffer.shortlink.project.dto.resp.ShortLinkStatsRespDTO;
 import com.nageoffer.shortlink.project.service.ShortLinkStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -27,14 +31,26 @@ public class ShortLinkStatsController {
      * 访问单个短链接指定时间内监控数据
      */
     @GetMapping("/api/short-link/v1/stats")
-    public Result<ShortLinkStatsRespDTO> shortLinkStats(ShortLinkStatsReqDTO requestParam) {
+    @SentinelResource(
+            value = SentinelResourceConstant.STATS_SHORT_LINK,
+            blockHandler = "shortLinkStatsBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<ShortLinkStatsRespDTO> shortLinkStats(ShortLinkStatsReqDTO requestParam,
+                                                       @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkStatsService.oneShortLinkStats(requestParam));
     }
     /**
      * 访问分组短链接指定时间内监控数据
      */
     @GetMapping("/api/short-link/v1/stats/group")
-    public Result<ShortLinkStatsRespDTO> groupShortLinkStats(ShortLinkGroupStatsReqDTO requestParam) {
+    @SentinelResource(
+            value = SentinelResourceConstant.STATS_SHORT_LINK,
+            blockHandler = "groupShortLinkStatsBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<ShortLinkStatsRespDTO> groupShortLinkStats(ShortLinkGroupStatsReqDTO requestParam,
+                                                            @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkStatsService.groupShortLinkStats(requestParam));
     }
 
@@ -42,7 +58,13 @@ public class ShortLinkStatsController {
      * 访问单个短链接指定时间内访问记录监控数据
      */
     @GetMapping("/api/short-link/v1/stats/access-record")
-    public Result<IPage<ShortLinkStatsAccessRecordRespDTO>> shortLinkStatsAccessRecord(ShortLinkStatsAccessRecordReqDTO requestParam) {
+    @SentinelResource(
+            value = SentinelResourceConstant.STATS_SHORT_LINK,
+            blockHandler = "shortLinkStatsAccessRecordBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<IPage<ShortLinkStatsAccessRecordRespDTO>> shortLinkStatsAccessRecord(ShortLinkStatsAccessRecordReqDTO requestParam,
+                                                                                      @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkStatsService.shortLinkStatsAccessRecord(requestParam));
     }
 
@@ -50,7 +72,13 @@ public class ShortLinkStatsController {
      * 访问分组短链接指定时间内访问记录监控数据
      */
     @GetMapping("/api/short-link/v1/stats/access-record/group")
-    public Result<IPage<ShortLinkStatsAccessRecordRespDTO>> groupShortLinkStatsAccessRecord(ShortLinkGroupStatsAccessRecordReqDTO requestParam) {
+    @SentinelResource(
+            value = SentinelResourceConstant.STATS_SHORT_LINK,
+            blockHandler = "groupShortLinkStatsAccessRecordBlockHandlerMethod",
+            blockHandlerClass = CustomBlockHandler.class
+    )
+    public Result<IPage<ShortLinkStatsAccessRecordRespDTO>> groupShortLinkStatsAccessRecord(ShortLinkGroupStatsAccessRecordReqDTO requestParam,
+                                                                                           @RequestHeader(value = "username", required = false) String username) {
         return Results.success(shortLinkStatsService.groupShortLinkStatsAccessRecord(requestParam));
     }
 }
@@ -22,6 +22,7 @@ import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
 import com.nageoffer.shortlink.project.dao.entity.LinkAccessStatsDO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkGroupStatsReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkStatsReqDTO;
+import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
@@ -31,6 +32,8 @@ import java.util.Map;
 
 /**
  * 访问日志监控持久层
+ * 访问日志表按 create_time 分区，查询均需带上时间条件以便只扫描相关月份分区；
+ * 新老访客判断需要查询范围之前的历史访问，仅以结束日期为上界
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
 public interface LinkAccessLogsMapper extends BaseMapper<LinkAccessLogsDO> {
@@ -87,6 +90,7 @@ public interface LinkAccessLogsMapper extends BaseMapper<LinkAccessLogsDO> {
             "    WHERE " +
             "        full_short_url = #{param.fullShortUrl} " +
             "        AND gid = #{param.gid} " +
+            "        AND create_time < DATE_ADD(#{param.endDate}, INTERVAL 1 DAY) " +
             "    GROUP BY " +
             "        user " +
             ") AS user_counts;")
@@ -107,6 +111,7 @@ public interface LinkAccessLogsMapper extends BaseMapper<LinkAccessLogsDO> {
             "WHERE " +
             "    full_short_url = #{fullShortUrl} " +
             "    AND gid = #{gid} " +
+            "    AND create_time < DATE_ADD(#{endDate}, INTERVAL 1 DAY) " +
             "    AND user IN " +
             "    <foreach item='item' index='index' collection='userAccessLogsList' open='(' separator=',' close=')'> " +
             "        #{item} " +
@@ -137,6 +142,7 @@ public interface LinkAccessLogsMapper extends BaseMapper<LinkAccessLogsDO> {
             "    t_link_access_logs " +
             "WHERE " +
             "    gid = #{gid} " +
+            "    AND create_time < DATE_ADD(#{endDate}, INTERVAL 1 DAY) " +
             "    AND user IN " +
             "    <foreach item='item' index='index' collection='userAccessLogsList' open='(' separator=',' close=')'> " +
             "        #{item} " +
@@ -184,4 +190,21 @@ public interface LinkAccessLogsMapper extends BaseMapper<LinkAccessLogsDO> {
             "GROUP BY " +
             "    gid;")
     LinkAccessStatsDO findPvUvUidStatsByGroup(@Param("param") ShortLinkGroupStatsReqDTO requestParam);
+
+    /**
+     * 获取短链接在指定分组下一批待迁移的访问日志
+     */
+    @Select("SELECT * FROM t_link_access_logs WHERE full_short_url = #{fullShortUrl} AND gid = #{gid} AND del_flag = 0 LIMIT #{limit}")
+    List<LinkAccessLogsDO> listMigrateChunk(@Param("fullShortUrl") String fullShortUrl, @Param("gid") String gid, @Param("limit") int limit);
+
+    /**
+     * 按分组标识与 ID 删除访问日志，带分组标识只路由到该分组所在分片
+     */
+    @Delete("<script> " +
+            "DELETE FROM t_link_access_logs WHERE gid = #{gid} AND id IN " +
+            "    <foreach item='item' collection='ids' open='(' separator=',' close=')'> " +
+            "        #{item} " +
+            "    </foreach> " +
+            "</script>")
+    void deleteByGidAndIds(@Param("gid") String gid, @Param("ids") List<Long> ids);
 }
@@ -4,6 +4,9 @@ import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.nageoffer.shortlink.project.dao.entity.LinkStatsTodayDO;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
 
 /**
  * 短链接今日统计持久层
@@ -18,4 +21,15 @@ public interface LinkStatsTodayMapper extends BaseMapper<LinkStatsTodayDO> {
             "VALUES( #{linkTodayStats.fullShortUrl}, #{linkTodayStats.gid}, #{linkTodayStats.date}, #{linkTodayStats.todayUv}, #{linkTodayStats.todayPv}, #{linkTodayStats.todayUip}, NOW(), NOW(), 0) " +
             "ON DUPLICATE KEY UPDATE today_uv = today_uv +  #{linkTodayStats.todayUv}, today_pv = today_pv +  #{linkTodayStats.todayPv}, today_uip = today_uip +  #{linkTodayStats.todayUip};")
     void shortLinkTodayState(@Param("linkTodayStats") LinkStatsTodayDO linkStatsTodayDO);
+
+    /**
+     * 查询今日访问量最高的短链接
+     */
+    @Select("SELECT gid, full_short_url, SUM(today_pv) AS today_pv " +
+            "FROM t_link_stats_today " +
+            "WHERE date = CURDATE() AND del_flag = 0 " +
+            "GROUP BY gid, full_short_url " +
+            "ORDER BY today_pv DESC " +
+            "LIMIT #{limit};")
+    List<LinkStatsTodayDO> listTopTodayPv(@Param("limit") Integer limit);
 }
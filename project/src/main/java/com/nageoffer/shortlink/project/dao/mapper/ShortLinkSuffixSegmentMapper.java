@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.dao.mapper;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * 短链接后缀号段水位持久层
+ */
+public interface ShortLinkSuffixSegmentMapper {
+
+    /**
+     * 查询业务已租出号段的最大上界
+     */
+    @Select("SELECT max_id FROM t_link_suffix_segment WHERE biz_tag = #{bizTag}")
+    Long selectMaxId(@Param("bizTag") String bizTag);
+
+    /**
+     * 记录已租出号段的上界，只向前推进
+     */
+    @Insert("INSERT INTO t_link_suffix_segment (biz_tag, max_id, create_time, update_time) " +
+            "VALUES (#{bizTag}, #{maxId}, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE max_id = GREATEST(max_id, VALUES(max_id)), update_time = NOW();")
+    void saveMaxId(@Param("bizTag") String bizTag, @Param("maxId") long maxId);
+}
@@ -17,6 +17,7 @@
 
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Data;
 
@@ -28,7 +29,7 @@ import java.util.List;
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
 @Data
-public class ShortLinkBatchCreateReqDTO {
+public class ShortLinkBatchCreateReqDTO implements ParamFlowArgument {
 
     /**
      * 原始链接集合
@@ -60,4 +61,12 @@ public class ShortLinkBatchCreateReqDTO {
      */
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "GMT+8")
     private Date validDate;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
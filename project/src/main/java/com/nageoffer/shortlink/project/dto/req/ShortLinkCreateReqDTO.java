@@ -17,6 +17,7 @@
 
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,7 +34,7 @@ import java.util.Date;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ShortLinkCreateReqDTO {
+public class ShortLinkCreateReqDTO implements ParamFlowArgument {
 
     /**
      * 域名
@@ -70,4 +71,12 @@ public class ShortLinkCreateReqDTO {
      * 描述
      */
     private String describe;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
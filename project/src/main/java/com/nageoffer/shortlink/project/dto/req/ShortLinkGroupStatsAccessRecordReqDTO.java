@@ -17,6 +17,7 @@
 
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
 import lombok.Data;
@@ -26,7 +27,7 @@ import lombok.Data;
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
 @Data
-public class ShortLinkGroupStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO> {
+public class ShortLinkGroupStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO> implements ParamFlowArgument {
 
     /**
      * 分组标识
@@ -42,4 +43,12 @@ public class ShortLinkGroupStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO
      * 结束日期
      */
     private String endDate;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
@@ -1,5 +1,6 @@
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.nageoffer.shortlink.project.dao.entity.ShortLinkDO;
 import lombok.Data;
@@ -9,7 +10,7 @@ import lombok.Data;
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
 @Data
-public class ShortLinkPageReqDTO extends Page<ShortLinkDO> {
+public class ShortLinkPageReqDTO extends Page<ShortLinkDO> implements ParamFlowArgument {
 
     /**
      * 分组标识
@@ -20,4 +21,12 @@ public class ShortLinkPageReqDTO extends Page<ShortLinkDO> {
      * 排序标识
      */
     private String orderTag;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
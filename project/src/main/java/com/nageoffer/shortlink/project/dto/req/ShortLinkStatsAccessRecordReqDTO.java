@@ -1,5 +1,6 @@
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
 import lombok.Data;
@@ -8,7 +9,7 @@ import lombok.Data;
  * 短链接监控访问记录请求参数
  */
 @Data
-public class ShortLinkStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO> {
+public class ShortLinkStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO> implements ParamFlowArgument {
 
     /**
      * 完整短链接
@@ -29,4 +30,12 @@ public class ShortLinkStatsAccessRecordReqDTO extends Page<LinkAccessLogsDO> {
      * 结束日期
      */
     private String endDate;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
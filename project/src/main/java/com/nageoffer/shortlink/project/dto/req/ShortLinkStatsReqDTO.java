@@ -1,12 +1,13 @@
 package com.nageoffer.shortlink.project.dto.req;
 
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowArgument;
 import lombok.Data;
 
 /**
  * 短链接监控请求参数
  */
 @Data
-public class ShortLinkStatsReqDTO {
+public class ShortLinkStatsReqDTO implements ParamFlowArgument {
 
     /**
      * 完整短链接
@@ -27,4 +28,12 @@ public class ShortLinkStatsReqDTO {
      * 结束日期
      */
     private String endDate;
+
+    /**
+     * Sentinel 按分组标识限流时的热点参数
+     */
+    @Override
+    public Object paramFlowKey() {
+        return gid;
+    }
 }
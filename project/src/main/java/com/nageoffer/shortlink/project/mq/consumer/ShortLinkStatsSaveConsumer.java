@@ -25,7 +25,12 @@ import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONObject;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.biz.jfr.ShortLinkStatsSaveEvent;
+import com.nageoffer.shortlink.project.common.biz.jfr.ShortLinkStatsStageEvent;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
 import com.nageoffer.shortlink.project.common.convention.exception.ServiceException;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
 import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
 import com.nageoffer.shortlink.project.dao.entity.LinkAccessStatsDO;
 import com.nageoffer.shortlink.project.dao.entity.LinkBrowserStatsDO;
@@ -90,6 +95,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
     private final LinkNetworkStatsMapper linkNetworkStatsMapper;
     private final LinkStatsTodayMapper linkStatsTodayMapper;
     private final MessageQueueIdempotentHandler messageQueueIdempotentHandler;
+    private final ShortLinkMetrics shortLinkMetrics;
 
     @Value("${short-link.stats.locale.amap-key}")
     private String statsLocaleAmapKey;
@@ -104,6 +110,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
             }
             throw new ServiceException("消息未完成流程，需要消息队列重试");
         }
+        long startTime = System.nanoTime();
         try {
             String fullShortUrl = producerMap.get("fullShortUrl");
             if (StrUtil.isNotBlank(fullShortUrl)) {
@@ -114,12 +121,16 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
         } catch (Throwable ex) {
             log.error("记录短链接监控消费异常", ex);
             throw ex;
+        } finally {
+            shortLinkMetrics.record(ShortLinkTimerEnum.STATS_CONSUME, startTime);
         }
         messageQueueIdempotentHandler.setAccomplish(keys);
     }
 
     public void actualSaveShortLinkStats(String fullShortUrl, String gid, ShortLinkStatsRecordDTO statsRecord) {
         fullShortUrl = Optional.ofNullable(fullShortUrl).orElse(statsRecord.getFullShortUrl());
+        ShortLinkStatsSaveEvent saveEvent = ShortLinkStatsSaveEvent.start();
+        boolean success = false;
         RReadWriteLock readWriteLock = redissonClient.getReadWriteLock(String.format(LOCK_GID_UPDATE_KEY, fullShortUrl));
         RLock rLock = readWriteLock.readLock();
         rLock.lock();
@@ -127,7 +138,9 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
             if (StrUtil.isBlank(gid)) {
                 LambdaQueryWrapper<ShortLinkGotoDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
                         .eq(ShortLinkGotoDO::getFullShortUrl, fullShortUrl);
+                ShortLinkStatsStageEvent gidLookupEvent = ShortLinkStatsStageEvent.start();
                 ShortLinkGotoDO shortLinkGotoDO = shortLinkGotoMapper.selectOne(queryWrapper);
+                gidLookupEvent.finish(fullShortUrl, ShortLinkStatsStageEvent.STAGE_GID_LOOKUP, null);
                 gid = shortLinkGotoDO.getGid();
             }
             int hour = DateUtil.hour(new Date(), true);
@@ -143,11 +156,15 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .gid(gid)
                     .date(new Date())
                     .build();
-            linkAccessStatsMapper.shortLinkStats(linkAccessStatsDO);
+            recordStatsUpsert("t_link_access_stats", fullShortUrl, () -> linkAccessStatsMapper.shortLinkStats(linkAccessStatsDO));
             Map<String, Object> localeParamMap = new HashMap<>();
             localeParamMap.put("key", statsLocaleAmapKey);
             localeParamMap.put("ip", statsRecord.getRemoteAddr());
+            long localeStartTime = System.nanoTime();
+            ShortLinkStatsStageEvent localeEvent = ShortLinkStatsStageEvent.start();
             String localeResultStr = HttpUtil.get(AMAP_REMOTE_URL, localeParamMap);
+            localeEvent.finish(fullShortUrl, ShortLinkStatsStageEvent.STAGE_LOCALE, null);
+            shortLinkMetrics.record(ShortLinkTimerEnum.STATS_LOCALE, localeStartTime);
             JSONObject localeResultObj = JSON.parseObject(localeResultStr);
             String infoCode = localeResultObj.getString("infocode");
             String actualProvince = "未知";
@@ -165,7 +182,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                         .gid(gid)
                         .date(new Date())
                         .build();
-                linkLocaleStatsMapper.shortLinkLocaleState(linkLocaleStatsDO);
+                recordStatsUpsert("t_link_locale_stats", fullShortUrl, () -> linkLocaleStatsMapper.shortLinkLocaleState(linkLocaleStatsDO));
             }
             LinkOsStatsDO linkOsStatsDO = LinkOsStatsDO.builder()
                     .os(statsRecord.getOs())
@@ -174,7 +191,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .fullShortUrl(fullShortUrl)
                     .date(new Date())
                     .build();
-            linkOsStatsMapper.shortLinkOsState(linkOsStatsDO);
+            recordStatsUpsert("t_link_os_stats", fullShortUrl, () -> linkOsStatsMapper.shortLinkOsState(linkOsStatsDO));
             LinkBrowserStatsDO linkBrowserStatsDO = LinkBrowserStatsDO.builder()
                     .browser(statsRecord.getBrowser())
                     .cnt(1)
@@ -182,7 +199,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .fullShortUrl(fullShortUrl)
                     .date(new Date())
                     .build();
-            linkBrowserStatsMapper.shortLinkBrowserState(linkBrowserStatsDO);
+            recordStatsUpsert("t_link_browser_stats", fullShortUrl, () -> linkBrowserStatsMapper.shortLinkBrowserState(linkBrowserStatsDO));
             LinkDeviceStatsDO linkDeviceStatsDO = LinkDeviceStatsDO.builder()
                     .device(statsRecord.getDevice())
                     .cnt(1)
@@ -190,7 +207,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .fullShortUrl(fullShortUrl)
                     .date(new Date())
                     .build();
-            linkDeviceStatsMapper.shortLinkDeviceState(linkDeviceStatsDO);
+            recordStatsUpsert("t_link_device_stats", fullShortUrl, () -> linkDeviceStatsMapper.shortLinkDeviceState(linkDeviceStatsDO));
             LinkNetworkStatsDO linkNetworkStatsDO = LinkNetworkStatsDO.builder()
                     .network(statsRecord.getNetwork())
                     .cnt(1)
@@ -198,7 +215,7 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .fullShortUrl(fullShortUrl)
                     .date(new Date())
                     .build();
-            linkNetworkStatsMapper.shortLinkNetworkState(linkNetworkStatsDO);
+            recordStatsUpsert("t_link_network_stats", fullShortUrl, () -> linkNetworkStatsMapper.shortLinkNetworkState(linkNetworkStatsDO));
             LinkAccessLogsDO linkAccessLogsDO = LinkAccessLogsDO.builder()
                     .user(statsRecord.getUv())
                     .ip(statsRecord.getRemoteAddr())
@@ -210,8 +227,10 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .gid(gid)
                     .fullShortUrl(fullShortUrl)
                     .build();
-            linkAccessLogsMapper.insert(linkAccessLogsDO);
-            shortLinkMapper.incrementStats(gid, fullShortUrl, 1, statsRecord.getUvFirstFlag() ? 1 : 0, statsRecord.getUipFirstFlag() ? 1 : 0);
+            recordStatsUpsert("t_link_access_logs", fullShortUrl, () -> linkAccessLogsMapper.insert(linkAccessLogsDO));
+            String statsGid = gid;
+            String statsFullShortUrl = fullShortUrl;
+            recordStatsUpsert("t_link", statsFullShortUrl, () -> shortLinkMapper.incrementStats(statsGid, statsFullShortUrl, 1, statsRecord.getUvFirstFlag() ? 1 : 0, statsRecord.getUipFirstFlag() ? 1 : 0));
             LinkStatsTodayDO linkStatsTodayDO = LinkStatsTodayDO.builder()
                     .todayPv(1)
                     .todayUv(statsRecord.getUvFirstFlag() ? 1 : 0)
@@ -220,11 +239,26 @@ public class ShortLinkStatsSaveConsumer implements RocketMQListener<Map<String,
                     .fullShortUrl(fullShortUrl)
                     .date(new Date())
                     .build();
-            linkStatsTodayMapper.shortLinkTodayState(linkStatsTodayDO);
+            recordStatsUpsert("t_link_stats_today", fullShortUrl, () -> linkStatsTodayMapper.shortLinkTodayState(linkStatsTodayDO));
+            success = true;
         } catch (Throwable ex) {
             log.error("短链接访问量统计异常", ex);
+            shortLinkMetrics.increment(ShortLinkCounterEnum.STATS_DROPPED_CONSUME);
         } finally {
             rLock.unlock();
+            saveEvent.finish(fullShortUrl, gid, success);
+        }
+    }
+
+    /**
+     * 写入统计表，同时记录 Micrometer 指标与 JFR 阶段事件
+     */
+    private void recordStatsUpsert(String table, String fullShortUrl, Runnable upsert) {
+        ShortLinkStatsStageEvent upsertEvent = ShortLinkStatsStageEvent.start();
+        try {
+            shortLinkMetrics.recordStatsUpsert(table, upsert);
+        } finally {
+            upsertEvent.finish(fullShortUrl, ShortLinkStatsStageEvent.STAGE_UPSERT, table);
         }
     }
 }
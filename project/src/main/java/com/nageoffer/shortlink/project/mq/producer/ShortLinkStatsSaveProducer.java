@@ -18,6 +18,9 @@
 package com.nageoffer.shortlink.project.mq.producer;
 
 import com.alibaba.fastjson2.JSON;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkCounterEnum;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.client.producer.SendResult;
@@ -64,6 +67,11 @@ public class ShortLinkStatsSaveProducer {
      */
     private final RocketMQTemplate rocketMQTemplate;
 
+    /**
+     * 短链接业务指标：记录投递耗时，投递失败时累加丢弃的监控消息数量。
+     */
+    private final ShortLinkMetrics shortLinkMetrics;
+
     /**
      * statsSaveTopic：要发送到的 Topic 名称。
      *
@@ -120,6 +128,8 @@ public class ShortLinkStatsSaveProducer {
         // 常用字段包括：sendStatus（发送状态）、msgId（消息唯一 ID）、queue 等。
         SendResult sendResult;
 
+        // 投递开始时间，finally 中统一记录投递耗时（成功与失败都计入）。
+        long startTime = System.nanoTime();
         try {
             // syncSend(destination, message, timeout)：同步发送。
             // - destination：目标地址，通常是 "topic" 或 "topic:tag"。这里直接用 topic。
@@ -147,6 +157,7 @@ public class ShortLinkStatsSaveProducer {
             // JSON.toJSONString(producerMap)：将 Map 序列化成 JSON 字符串，便于日志中完整打印消息体。
             // log.error(..., ex)：带异常栈打印。
             log.error("[消息访问统计监控] 消息发送失败，消息体：{}", JSON.toJSONString(producerMap), ex);
+            shortLinkMetrics.increment(ShortLinkCounterEnum.STATS_DROPPED_SEND);
 
             // 自定义行为...
             // 常见做法：
@@ -154,6 +165,8 @@ public class ShortLinkStatsSaveProducer {
             // 2) 发送到另一个告警 Topic
             // 3) 打点监控（Prometheus/Micrometer）
             // 4) 降级：直接忽略（对统计链路来说是可接受的）
+        } finally {
+            shortLinkMetrics.record(ShortLinkTimerEnum.STATS_SEND, startTime);
         }
     }
 }
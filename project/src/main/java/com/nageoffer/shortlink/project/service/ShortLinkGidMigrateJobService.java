@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.service;
+
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkGidMigrateJobRespDTO;
+
+/**
+ * 短链接修改分组异步迁移任务接口层
+ */
+public interface ShortLinkGidMigrateJobService {
+
+    /**
+     * 创建监控数据迁移任务，当前事务提交后由后台线程分批执行；
+     * 同一短链接同时只允许一个进行中的任务，任务完成前再次修改分组会被拒绝
+     *
+     * @param fullShortUrl 完整短链接
+     * @param originGid    原始分组标识
+     * @param gid          目标分组标识
+     * @return 任务ID
+     */
+    String createJob(String fullShortUrl, String originGid, String gid);
+
+    /**
+     * 校验短链接没有进行中的迁移任务，进行中的任务会继续把数据迁入原目标分组，此时再次修改分组会遗留数据
+     *
+     * @param fullShortUrl 完整短链接
+     */
+    void checkNoActiveJob(String fullShortUrl);
+
+    /**
+     * 在调用方事务内同步迁移全部监控数据，适用于同步修改分组
+     *
+     * @param fullShortUrl 完整短链接
+     * @param originGid    原始分组标识
+     * @param gid          目标分组标识
+     */
+    void migrate(String fullShortUrl, String originGid, String gid);
+
+    /**
+     * 查询迁移任务状态
+     *
+     * @param jobId 任务ID
+     * @return 迁移任务状态
+     */
+    ShortLinkGidMigrateJobRespDTO queryJob(String jobId);
+}
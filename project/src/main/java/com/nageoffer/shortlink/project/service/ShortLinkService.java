@@ -27,6 +27,7 @@ import com.nageoffer.shortlink.project.dto.req.ShortLinkPageReqDTO;
 import com.nageoffer.shortlink.project.dto.req.ShortLinkUpdateReqDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkBatchCreateRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkCreateRespDTO;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkGidMigrateJobRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkGroupCountQueryRespDTO;
 import com.nageoffer.shortlink.project.dto.resp.ShortLinkPageRespDTO;
 import jakarta.servlet.ServletRequest;
@@ -50,7 +51,32 @@ public interface ShortLinkService extends IService<ShortLinkDO> {
 
     void updateShortLink(ShortLinkUpdateReqDTO requestParam);
 
+    /**
+     * 异步修改短链接，跨分组修改时监控数据由后台任务分批迁移
+     *
+     * @param requestParam 修改短链接请求参数
+     * @return 监控数据迁移任务ID，未修改分组时返回 null
+     */
+    String updateShortLinkAsync(ShortLinkUpdateReqDTO requestParam);
+
+    /**
+     * 查询短链接修改分组迁移任务
+     *
+     * @param jobId 任务ID
+     * @return 迁移任务状态
+     */
+    ShortLinkGidMigrateJobRespDTO queryGidMigrateJob(String jobId);
+
     void restoreUrl(String shortUri, ServletRequest request, ServletResponse response);
 
+    /**
+     * 根据完整短链接跳转原始链接
+     *
+     * @param fullShortUrl 完整短链接
+     * @param request      HTTP 请求
+     * @param response     HTTP 响应
+     */
+    void restoreFullShortUrl(String fullShortUrl, ServletRequest request, ServletResponse response);
+
     void shortLinkStats(String fullShortUrl, String gid, ShortLinkStatsRecordDTO statsRecord);
 }
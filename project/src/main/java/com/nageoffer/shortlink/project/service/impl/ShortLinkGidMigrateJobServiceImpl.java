@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.service.impl;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+import com.nageoffer.shortlink.project.common.convention.exception.ClientException;
+import com.nageoffer.shortlink.project.common.convention.exception.ServiceException;
+import com.nageoffer.shortlink.project.common.enums.GidMigrateJobStatusEnum;
+import com.nageoffer.shortlink.project.config.GidMigrateJobConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkAccessStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkBrowserStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkDeviceStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkLocaleStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkNetworkStatsDO;
+import com.nageoffer.shortlink.project.dao.entity.LinkOsStatsDO;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessLogsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkBrowserStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkDeviceStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkLocaleStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkNetworkStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkOsStatsMapper;
+import com.nageoffer.shortlink.project.dto.resp.ShortLinkGidMigrateJobRespDTO;
+import com.nageoffer.shortlink.project.service.ShortLinkGidMigrateJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GID_MIGRATE_ACTIVE_JOB_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GID_MIGRATE_JOB_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.GID_MIGRATE_JOB_UNFINISHED_KEY;
+import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.LOCK_GID_MIGRATE_JOB_KEY;
+
+/**
+ * 短链接修改分组异步迁移任务接口实现层
+ * 任务状态与检查点保存在 Redis Hash 中，按监控表顺序分批迁移，服务重启后从检查点继续执行；
+ * 每个短链接记录一个进行中的任务，任务成功后清除，期间拒绝再次修改分组，避免后续修改只迁移已迁入中间分组的数据
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShortLinkGidMigrateJobServiceImpl implements ShortLinkGidMigrateJobService, InitializingBean, DisposableBean {
+
+    /**
+     * 迁移阶段，按顺序执行，检查点记录当前阶段下标
+     */
+    private static final List<String> MIGRATE_STAGES = List.of(
+            "t_link_access_stats",
+            "t_link_locale_stats",
+            "t_link_os_stats",
+            "t_link_browser_stats",
+            "t_link_device_stats",
+            "t_link_network_stats",
+            "t_link_access_logs"
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final LinkAccessStatsMapper linkAccessStatsMapper;
+    private final LinkLocaleStatsMapper linkLocaleStatsMapper;
+    private final LinkOsStatsMapper linkOsStatsMapper;
+    private final LinkBrowserStatsMapper linkBrowserStatsMapper;
+    private final LinkDeviceStatsMapper linkDeviceStatsMapper;
+    private final LinkNetworkStatsMapper linkNetworkStatsMapper;
+    private final LinkAccessLogsMapper linkAccessLogsMapper;
+    private final GidMigrateJobConfiguration gidMigrateJobConfiguration;
+    private final ShortLinkThreadFactories shortLinkThreadFactories;
+
+    private ThreadPoolExecutor gidMigrateExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        gidMigrateExecutor = new ThreadPoolExecutor(
+                gidMigrateJobConfiguration.getThreadCount(),
+                gidMigrateJobConfiguration.getThreadCount(),
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(gidMigrateJobConfiguration.getQueueCapacity()),
+                shortLinkThreadFactories.newThreadFactory("short-link-gid-migrate-")
+        );
+    }
+
+    @Override
+    public void destroy() {
+        gidMigrateExecutor.shutdown();
+    }
+
+    @Override
+    public String createJob(String fullShortUrl, String originGid, String gid) {
+        if (gidMigrateExecutor.getQueue().remainingCapacity() == 0) {
+            throw new ServiceException("短链接分组迁移任务繁忙，请稍后再试");
+        }
+        String jobId = IdUtil.fastSimpleUUID();
+        String activeJobKey = String.format(GID_MIGRATE_ACTIVE_JOB_KEY, fullShortUrl);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(activeJobKey, jobId))) {
+            throw new ClientException("短链接分组迁移任务执行中，请等待完成后再修改分组");
+        }
+        String now = DateUtil.now();
+        Map<String, String> job = new HashMap<>();
+        job.put("jobId", jobId);
+        job.put("fullShortUrl", fullShortUrl);
+        job.put("originGid", originGid);
+        job.put("gid", gid);
+        job.put("status", String.valueOf(GidMigrateJobStatusEnum.PENDING.getStatus()));
+        job.put("stageIndex", "0");
+        job.put("stage", MIGRATE_STAGES.get(0));
+        job.put("migratedCount", "0");
+        job.put("createTime", now);
+        job.put("updateTime", now);
+        stringRedisTemplate.opsForHash().putAll(String.format(GID_MIGRATE_JOB_KEY, jobId), job);
+        stringRedisTemplate.opsForSet().add(GID_MIGRATE_JOB_UNFINISHED_KEY, jobId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submitJob(jobId);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        stringRedisTemplate.delete(activeJobKey);
+                        stringRedisTemplate.delete(String.format(GID_MIGRATE_JOB_KEY, jobId));
+                        stringRedisTemplate.opsForSet().remove(GID_MIGRATE_JOB_UNFINISHED_KEY, jobId);
+                    }
+                }
+            });
+        } else {
+            submitJob(jobId);
+        }
+        return jobId;
+    }
+
+    @Override
+    public void checkNoActiveJob(String fullShortUrl) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(String.format(GID_MIGRATE_ACTIVE_JOB_KEY, fullShortUrl)))) {
+            throw new ClientException("短链接分组迁移任务执行中，请等待完成后再修改分组");
+        }
+    }
+
+    @Override
+    public void migrate(String fullShortUrl, String originGid, String gid) {
+        int chunkSize = gidMigrateJobConfiguration.getChunkSize();
+        for (String stage : MIGRATE_STAGES) {
+            int migrated;
+            do {
+                migrated = migrateChunk(stage, fullShortUrl, originGid, gid, chunkSize);
+            } while (migrated >= chunkSize);
+        }
+    }
+
+    @Override
+    public ShortLinkGidMigrateJobRespDTO queryJob(String jobId) {
+        Map<Object, Object> job = stringRedisTemplate.opsForHash().entries(String.format(GID_MIGRATE_JOB_KEY, jobId));
+        if (CollUtil.isEmpty(job)) {
+            throw new ClientException("短链接分组迁移任务不存在");
+        }
+        return ShortLinkGidMigrateJobRespDTO.builder()
+                .jobId(jobId)
+                .fullShortUrl((String) job.get("fullShortUrl"))
+                .originGid((String) job.get("originGid"))
+                .gid((String) job.get("gid"))
+                .status(Integer.parseInt((String) job.get("status")))
+                .stage((String) job.get("stage"))
+                .migratedCount(Long.parseLong((String) job.get("migratedCount")))
+                .message((String) job.get("message"))
+                .createTime((String) job.get("createTime"))
+                .updateTime((String) job.get("updateTime"))
+                .build();
+    }
+
+    /**
+     * 服务启动后重新调度未完成的迁移任务，由执行锁保证同一任务只在一个节点上运行
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        Set<String> unfinishedJobIds = stringRedisTemplate.opsForSet().members(GID_MIGRATE_JOB_UNFINISHED_KEY);
+        if (CollUtil.isEmpty(unfinishedJobIds)) {
+            return;
+        }
+        log.info("[短链接分组迁移] 恢复未完成任务：{}", unfinishedJobIds);
+        unfinishedJobIds.forEach(this::submitJob);
+    }
+
+    private void submitJob(String jobId) {
+        try {
+            gidMigrateExecutor.execute(() -> runJob(jobId));
+        } catch (RejectedExecutionException ex) {
+            log.error("[短链接分组迁移] 任务提交被拒绝，等待下次启动恢复，任务ID：{}", jobId);
+            updateJob(jobId, GidMigrateJobStatusEnum.FAILED, "迁移线程池已满");
+        }
+    }
+
+    private void runJob(String jobId) {
+        RLock lock = redissonClient.getLock(String.format(LOCK_GID_MIGRATE_JOB_KEY, jobId));
+        if (!lock.tryLock()) {
+            return;
+        }
+        String jobKey = String.format(GID_MIGRATE_JOB_KEY, jobId);
+        try {
+            Map<Object, Object> job = stringRedisTemplate.opsForHash().entries(jobKey);
+            if (CollUtil.isEmpty(job)) {
+                stringRedisTemplate.opsForSet().remove(GID_MIGRATE_JOB_UNFINISHED_KEY, jobId);
+                return;
+            }
+            String fullShortUrl = (String) job.get("fullShortUrl");
+            if (StrUtil.equals((String) job.get("status"), String.valueOf(GidMigrateJobStatusEnum.SUCCESS.getStatus()))) {
+                clearActiveJob(fullShortUrl, jobId);
+                stringRedisTemplate.opsForSet().remove(GID_MIGRATE_JOB_UNFINISHED_KEY, jobId);
+                return;
+            }
+            String originGid = (String) job.get("originGid");
+            String gid = (String) job.get("gid");
+            int stageIndex = Integer.parseInt(Optional.ofNullable((String) job.get("stageIndex")).orElse("0"));
+            int chunkSize = gidMigrateJobConfiguration.getChunkSize();
+            updateJob(jobId, GidMigrateJobStatusEnum.RUNNING, null);
+            for (int i = stageIndex; i < MIGRATE_STAGES.size(); i++) {
+                String stage = MIGRATE_STAGES.get(i);
+                stringRedisTemplate.opsForHash().put(jobKey, "stageIndex", String.valueOf(i));
+                stringRedisTemplate.opsForHash().put(jobKey, "stage", stage);
+                Integer migrated;
+                do {
+                    migrated = transactionTemplate.execute(status -> migrateChunk(stage, fullShortUrl, originGid, gid, chunkSize));
+                    migrated = Optional.ofNullable(migrated).orElse(0);
+                    if (migrated > 0) {
+                        stringRedisTemplate.opsForHash().increment(jobKey, "migratedCount", migrated);
+                        stringRedisTemplate.opsForHash().put(jobKey, "updateTime", DateUtil.now());
+                    }
+                } while (migrated >= chunkSize);
+            }
+            stringRedisTemplate.opsForHash().put(jobKey, "stage", "");
+            updateJob(jobId, GidMigrateJobStatusEnum.SUCCESS, null);
+            clearActiveJob(fullShortUrl, jobId);
+            stringRedisTemplate.opsForSet().remove(GID_MIGRATE_JOB_UNFINISHED_KEY, jobId);
+            stringRedisTemplate.expire(jobKey, gidMigrateJobConfiguration.getRetentionDays(), TimeUnit.DAYS);
+            log.info("[短链接分组迁移] 任务完成，任务ID：{}，短链接：{}", jobId, fullShortUrl);
+        } catch (Throwable ex) {
+            log.error("[短链接分组迁移] 任务执行异常，任务ID：{}", jobId, ex);
+            updateJob(jobId, GidMigrateJobStatusEnum.FAILED, ex.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 清除短链接进行中的任务记录，只清除当前任务写入的记录
+     */
+    private void clearActiveJob(String fullShortUrl, String jobId) {
+        String activeJobKey = String.format(GID_MIGRATE_ACTIVE_JOB_KEY, fullShortUrl);
+        if (Objects.equals(stringRedisTemplate.opsForValue().get(activeJobKey), jobId)) {
+            stringRedisTemplate.delete(activeJobKey);
+        }
+    }
+
+    private void updateJob(String jobId, GidMigrateJobStatusEnum status, String message) {
+        String jobKey = String.format(GID_MIGRATE_JOB_KEY, jobId);
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", String.valueOf(status.getStatus()));
+        fields.put("message", StrUtil.nullToEmpty(message));
+        fields.put("updateTime", DateUtil.now());
+        stringRedisTemplate.opsForHash().putAll(jobKey, fields);
+    }
+
+    /**
+     * 迁移一个批次的监控数据
+     *
+     * @return 本批次迁移行数，小于批次大小时表示当前阶段已迁移完成
+     */
+    private int migrateChunk(String stage, String fullShortUrl, String originGid, String gid, int chunkSize) {
+        return switch (stage) {
+            case "t_link_access_stats" -> mergeChunk(linkAccessStatsMapper, fullShortUrl, originGid, chunkSize, LinkAccessStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkAccessStatsMapper.shortLinkStats(each);
+            });
+            case "t_link_locale_stats" -> mergeChunk(linkLocaleStatsMapper, fullShortUrl, originGid, chunkSize, LinkLocaleStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkLocaleStatsMapper.shortLinkLocaleState(each);
+            });
+            case "t_link_os_stats" -> mergeChunk(linkOsStatsMapper, fullShortUrl, originGid, chunkSize, LinkOsStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkOsStatsMapper.shortLinkOsState(each);
+            });
+            case "t_link_browser_stats" -> mergeChunk(linkBrowserStatsMapper, fullShortUrl, originGid, chunkSize, LinkBrowserStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkBrowserStatsMapper.shortLinkBrowserState(each);
+            });
+            case "t_link_device_stats" -> mergeChunk(linkDeviceStatsMapper, fullShortUrl, originGid, chunkSize, LinkDeviceStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkDeviceStatsMapper.shortLinkDeviceState(each);
+            });
+            case "t_link_network_stats" -> mergeChunk(linkNetworkStatsMapper, fullShortUrl, originGid, chunkSize, LinkNetworkStatsDO::getId, each -> {
+                each.setGid(gid);
+                linkNetworkStatsMapper.shortLinkNetworkState(each);
+            });
+            case "t_link_access_logs" -> migrateAccessLogsChunk(fullShortUrl, originGid, gid, chunkSize);
+            default -> throw new ServiceException("未知的短链接分组迁移阶段：" + stage);
+        };
+    }
+
+    /**
+     * 聚合类监控表按唯一键合并到目标分组：新分组下可能已有迁移期间产生的同日期数据，
+     * 因此复用 ON DUPLICATE KEY 累加写入后再删除原分组数据，而不是直接修改 gid；
+     * 监控表按 gid 分片，读取与删除均带原分组标识，只路由到原分组所在分片
+     */
+    private <T> int mergeChunk(BaseMapper<T> mapper, String fullShortUrl, String originGid, int chunkSize,
+                               Function<T, Long> idGetter, Consumer<T> merger) {
+        QueryWrapper<T> queryWrapper = Wrappers.<T>query()
+                .eq("full_short_url", fullShortUrl)
+                .eq("gid", originGid)
+                .eq("del_flag", 0)
+                .last("LIMIT " + chunkSize);
+        List<T> chunk = mapper.selectList(queryWrapper);
+        if (CollUtil.isEmpty(chunk)) {
+            return 0;
+        }
+        chunk.forEach(merger);
+        QueryWrapper<T> deleteWrapper = Wrappers.<T>query()
+                .eq("gid", originGid)
+                .in("id", chunk.stream().map(idGetter).toList());
+        mapper.delete(deleteWrapper);
+        return chunk.size();
+    }
+
+    /**
+     * 访问日志按 gid 分片，修改分组可能跨分片，不能直接更新分片键；
+     * 保留原 ID 与访问时间从原分组所在分片删除后，再写入目标分组所在分片：新旧分组可能落在同一张分片表，
+     * 先写入会与原记录主键冲突；删除与写入处于同一事务，写入失败时一并回滚
+     */
+    private int migrateAccessLogsChunk(String fullShortUrl, String originGid, String gid, int chunkSize) {
+        List<LinkAccessLogsDO> chunk = linkAccessLogsMapper.listMigrateChunk(fullShortUrl, originGid, chunkSize);
+        if (CollUtil.isEmpty(chunk)) {
+            return 0;
+        }
+        List<Long> ids = chunk.stream()
+                .map(LinkAccessLogsDO::getId)
+                .toList();
+        linkAccessLogsMapper.deleteByGidAndIds(originGid, ids);
+        chunk.forEach(each -> {
+            each.setGid(gid);
+            linkAccessLogsMapper.insert(each);
+        });
+        return chunk.size();
+    }
+}
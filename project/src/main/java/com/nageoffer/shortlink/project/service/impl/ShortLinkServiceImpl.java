@@ -30,10 +30,25 @@ import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.baomidou.mybatisplus.extension.toolkit.Db;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkBloomFilterLocalReplica;
+import com.nageoffer.shortlink.project.common.biz.bloom.ShortLinkScalableBloomFilter;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkGotoCache;
+import com.nageoffer.shortlink.project.common.biz.cache.ShortLinkNegativeCache;
+import com.nageoffer.shortlink.project.common.biz.favicon.ShortLinkFaviconEnricher;
+import com.nageoffer.shortlink.project.common.biz.jfr.ShortLinkRedirectEvent;
+import com.nageoffer.shortlink.project.common.biz.jfr.ShortLinkRedirectStageEvent;
+import com.nageoffer.shortlink.project.common.biz.metrics.ShortLinkMetrics;
+import com.nageoffer.shortlink.project.common.biz.ratelimit.ShortLinkRedirectRateLimiter;
+import com.nageoffer.shortlink.project.common.biz.sharding.ShardingBatchWriter;
+import com.nageoffer.shortlink.project.common.biz.suffix.ShortLinkSuffixPool;
+import com.nageoffer.shortlink.project.common.biz.suffix.ShortLinkSuffixSegmentAllocator;
 import com.nageoffer.shortlink.project.common.convention.exception.ClientException;
 import com.nageoffer.shortlink.project.common.convention.exception.ServiceException;
+import com.nageoffer.shortlink.project.common.enums.ShortLinkTimerEnum;
 import com.nageoffer.shortlink.project.common.enums.VailDateTypeEnum;
 import com.nageoffer.shortlink.project.config.GotoDomainWhiteListConfiguration;
+import com.nageoffer.shortlink.project.config.ShortLinkSuffixConfiguration;
 import com.nageoffer.shortlink.project.dao.entity.*;
 import com.nageoffer.shortlink.project.dao.mapper.*;
 import com.nageoffer.shortlink.project.dto.biz.ShortLinkStatsRecordDTO;
@@ -44,6 +59,7 @@ import com.nageoffer.shortlink.project.dto.req.ShortLinkUpdateReqDTO;
 import com.nageoffer.shortlink.project.dto.resp.*;
 import com.nageoffer.shortlink.project.mq.producer.ShortLinkStatsSaveProducer;
 import com.nageoffer.shortlink.project.service.LinkStatsTodayService;
+import com.nageoffer.shortlink.project.service.ShortLinkGidMigrateJobService;
 import com.nageoffer.shortlink.project.service.ShortLinkService;
 import com.nageoffer.shortlink.project.toolkit.HashUtil;
 import com.nageoffer.shortlink.project.toolkit.LinkUtil;
@@ -53,27 +69,24 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.redisson.api.RBloomFilter;
 import org.redisson.api.RLock;
 import org.redisson.api.RReadWriteLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.*;
 
@@ -86,29 +99,44 @@ import static com.nageoffer.shortlink.project.common.constant.RedisKeyConstant.*
 @RequiredArgsConstructor
 public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLinkDO> implements ShortLinkService {
 
-    private final RBloomFilter<String> shortUriCreateCachePenetrationBloomFilter;
     private final ShortLinkGotoMapper shortLinkGotoMapper;
     private final StringRedisTemplate stringRedisTemplate;
     private final RedissonClient redissonClient;
-    private final LinkAccessStatsMapper linkAccessStatsMapper;
-    private final LinkLocaleStatsMapper linkLocaleStatsMapper;
-    private final LinkOsStatsMapper linkOsStatsMapper;
-    private final LinkBrowserStatsMapper linkBrowserStatsMapper;
-    private final LinkAccessLogsMapper linkAccessLogsMapper;
-    private final LinkDeviceStatsMapper linkDeviceStatsMapper;
-    private final LinkNetworkStatsMapper linkNetworkStatsMapper;
     private final LinkStatsTodayMapper linkStatsTodayMapper;
     private final LinkStatsTodayService linkStatsTodayService;
     private final ShortLinkStatsSaveProducer shortLinkStatsSaveProducer;
     private final GotoDomainWhiteListConfiguration gotoDomainWhiteListConfiguration;
+    private final ShortLinkGidMigrateJobService shortLinkGidMigrateJobService;
+    private final ShortLinkSuffixConfiguration shortLinkSuffixConfiguration;
+    private final ShortLinkSuffixSegmentAllocator shortLinkSuffixSegmentAllocator;
+    private final ShortLinkSuffixPool shortLinkSuffixPool;
+    private final ShortLinkFaviconEnricher shortLinkFaviconEnricher;
+    private final ShortLinkGotoCache shortLinkGotoCache;
+    private final ShortLinkNegativeCache shortLinkNegativeCache;
+    private final ShortLinkRedirectRateLimiter shortLinkRedirectRateLimiter;
+    private final ShortLinkScalableBloomFilter shortLinkScalableBloomFilter;
+    private final ShortLinkBloomFilterLocalReplica shortLinkBloomFilterLocalReplica;
+    private final ShardingBatchWriter shardingBatchWriter;
+    private final ShortLinkMetrics shortLinkMetrics;
 
     @Value("${short-link.domain.default}")
     private String createShortLinkDefaultDomain;
 
     @Override
     public ShortLinkCreateRespDTO createShortLink(ShortLinkCreateReqDTO requestParam) {
+        long startTime = System.nanoTime();
+        try {
+            return doCreateShortLink(requestParam);
+        } finally {
+            shortLinkMetrics.record(ShortLinkTimerEnum.CREATE, startTime);
+        }
+    }
+
+    private ShortLinkCreateRespDTO doCreateShortLink(ShortLinkCreateReqDTO requestParam) {
         verificationWhitelist(requestParam.getOriginUrl());
+        long suffixStartTime = System.nanoTime();
         String shortLinkSuffix = generateSuffix(requestParam);
+        shortLinkMetrics.record(ShortLinkTimerEnum.CREATE_SUFFIX, suffixStartTime);
         String fullShortUrl = StrBuilder.create(createShortLinkDefaultDomain)
                 .append("/")
                 .append(shortLinkSuffix)
@@ -127,12 +155,12 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
                 .totalUv(0)
                 .totalUip(0)
                 .fullShortUrl(fullShortUrl)
-                .favicon(getFavicon(requestParam.getOriginUrl()))
                 .build();
         ShortLinkGotoDO linkGotoDO = ShortLinkGotoDO.builder()
                 .fullShortUrl(fullShortUrl)
                 .gid(requestParam.getGid())
                 .build();
+        long insertStartTime = System.nanoTime();
         try {
             baseMapper.insert(shortLinkDO);
             shortLinkGotoMapper.insert(linkGotoDO);
@@ -144,13 +172,13 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
                 log.warn("短链接：{} 重复入库", fullShortUrl);
                 throw new ServiceException("短链接生成重复");
             }
+        } finally {
+            shortLinkMetrics.record(ShortLinkTimerEnum.CREATE_DB_INSERT, insertStartTime);
         }
-        stringRedisTemplate.opsForValue().set(
-                String.format(GOTO_SHORT_LINK_KEY, fullShortUrl),
-                requestParam.getOriginUrl(),
-                LinkUtil.getLinkCacheValidTime(requestParam.getValidDate()), TimeUnit.MILLISECONDS
-        );
-        shortUriCreateCachePenetrationBloomFilter.add(fullShortUrl);
+        shortLinkGotoCache.put(fullShortUrl, requestParam.getOriginUrl(), requestParam.getValidDate());
+        shortLinkScalableBloomFilter.add(fullShortUrl);
+        shortLinkBloomFilterLocalReplica.add(fullShortUrl);
+        shortLinkFaviconEnricher.enrichAsync(requestParam.getGid(), fullShortUrl, requestParam.getOriginUrl());
         return ShortLinkCreateRespDTO.builder()
                 .fullShortUrl("http://" + shortLinkDO.getFullShortUrl())
                 .originUrl(requestParam.getOriginUrl())
@@ -162,26 +190,64 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
     public ShortLinkBatchCreateRespDTO batchCreateShortLink(ShortLinkBatchCreateReqDTO requestParam) {
         List<String> originUrls = requestParam.getOriginUrls();
         List<String> describes = requestParam.getDescribes();
-        List<ShortLinkBaseInfoRespDTO> result = new ArrayList<>();
+        List<ShortLinkBatchCreateFailRespDTO> failLinkInfos = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> validIndexes = new ArrayList<>(originUrls.size());
         for (int i = 0; i < originUrls.size(); i++) {
-            ShortLinkCreateReqDTO shortLinkCreateReqDTO = BeanUtil.toBean(requestParam, ShortLinkCreateReqDTO.class);
-            shortLinkCreateReqDTO.setOriginUrl(originUrls.get(i));
-            shortLinkCreateReqDTO.setDescribe(describes.get(i));
             try {
-                ShortLinkCreateRespDTO shortLink = createShortLink(shortLinkCreateReqDTO);
-                ShortLinkBaseInfoRespDTO linkBaseInfoRespDTO = ShortLinkBaseInfoRespDTO.builder()
-                        .fullShortUrl(shortLink.getFullShortUrl())
-                        .originUrl(shortLink.getOriginUrl())
-                        .describe(describes.get(i))
-                        .build();
-                result.add(linkBaseInfoRespDTO);
+                verificationWhitelist(originUrls.get(i));
+                validIndexes.add(i);
             } catch (Throwable ex) {
-                log.error("批量创建短链接失败，原始参数：{}", originUrls.get(i));
+                failLinkInfos.add(buildBatchCreateFail(i, originUrls, describes, ex.getMessage()));
             }
         }
+        String[] shortLinkSuffixes = generateSuffixes(validIndexes.stream().map(originUrls::get).toList());
+        Map<String, Integer> indexMap = new HashMap<>(validIndexes.size() * 2);
+        List<ShortLinkDO> shortLinkDOList = new ArrayList<>(validIndexes.size());
+        for (int i = 0; i < validIndexes.size(); i++) {
+            int index = validIndexes.get(i);
+            if (shortLinkSuffixes[i] == null) {
+                failLinkInfos.add(buildBatchCreateFail(index, originUrls, describes, "短链接频繁生成，请稍后再试"));
+                continue;
+            }
+            String fullShortUrl = createShortLinkDefaultDomain + "/" + shortLinkSuffixes[i];
+            indexMap.put(fullShortUrl, index);
+            shortLinkDOList.add(ShortLinkDO.builder()
+                    .domain(createShortLinkDefaultDomain)
+                    .originUrl(originUrls.get(index))
+                    .gid(requestParam.getGid())
+                    .createdType(requestParam.getCreatedType())
+                    .validDateType(requestParam.getValidDateType())
+                    .validDate(requestParam.getValidDate())
+                    .describe(describes.get(index))
+                    .shortUri(shortLinkSuffixes[i])
+                    .enableStatus(0)
+                    .totalPv(0)
+                    .totalUv(0)
+                    .totalUip(0)
+                    .fullShortUrl(fullShortUrl)
+                    .build());
+        }
+        List<ShortLinkDO> insertedShortLinkDOList = insertShortLinkBatch(shortLinkDOList, (shortLinkDO, reason) ->
+                failLinkInfos.add(buildBatchCreateFail(indexMap.get(shortLinkDO.getFullShortUrl()), originUrls, describes, reason))
+        );
+        shortLinkGotoCache.putAll(insertedShortLinkDOList, false);
+        List<String> insertedFullShortUrls = insertedShortLinkDOList.stream().map(ShortLinkDO::getFullShortUrl).toList();
+        shortLinkScalableBloomFilter.addAll(insertedFullShortUrls);
+        shortLinkBloomFilterLocalReplica.addAll(insertedFullShortUrls);
+        List<ShortLinkBaseInfoRespDTO> result = new ArrayList<>(insertedShortLinkDOList.size());
+        for (ShortLinkDO each : insertedShortLinkDOList) {
+            shortLinkFaviconEnricher.enrichAsync(each.getGid(), each.getFullShortUrl(), each.getOriginUrl());
+            result.add(ShortLinkBaseInfoRespDTO.builder()
+                    .fullShortUrl("http://" + each.getFullShortUrl())
+                    .originUrl(each.getOriginUrl())
+                    .describe(each.getDescribe())
+                    .build());
+        }
+        failLinkInfos.sort(Comparator.comparing(ShortLinkBatchCreateFailRespDTO::getIndex));
         return ShortLinkBatchCreateRespDTO.builder()
                 .total(result.size())
                 .baseLinkInfos(result)
+                .failLinkInfos(failLinkInfos)
                 .build();
     }
 
@@ -189,6 +255,58 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
     @Override
     public void updateShortLink(ShortLinkUpdateReqDTO requestParam) {
         verificationWhitelist(requestParam.getOriginUrl());
+        ShortLinkDO hasShortLinkDO = getUpdatableShortLink(requestParam);
+        if (Objects.equals(hasShortLinkDO.getGid(), requestParam.getGid())) {
+            updateShortLinkInGroup(hasShortLinkDO, requestParam);
+        } else {
+            RReadWriteLock readWriteLock = redissonClient.getReadWriteLock(String.format(LOCK_GID_UPDATE_KEY, requestParam.getFullShortUrl()));
+            RLock rLock = readWriteLock.writeLock();
+            if (!rLock.tryLock()) {
+                throw new ServiceException("短链接正在被访问，请稍后再试...");
+            }
+            try {
+                shortLinkGidMigrateJobService.checkNoActiveJob(requestParam.getFullShortUrl());
+                moveShortLinkBaseRecords(hasShortLinkDO, requestParam);
+                moveShortLinkStatsRecords(hasShortLinkDO, requestParam);
+            } finally {
+                rLock.unlock();
+            }
+        }
+        refreshGotoCacheIfValidDateChanged(hasShortLinkDO, requestParam);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public String updateShortLinkAsync(ShortLinkUpdateReqDTO requestParam) {
+        verificationWhitelist(requestParam.getOriginUrl());
+        ShortLinkDO hasShortLinkDO = getUpdatableShortLink(requestParam);
+        if (Objects.equals(hasShortLinkDO.getGid(), requestParam.getGid())) {
+            updateShortLinkInGroup(hasShortLinkDO, requestParam);
+            refreshGotoCacheIfValidDateChanged(hasShortLinkDO, requestParam);
+            return null;
+        }
+        String jobId;
+        RReadWriteLock readWriteLock = redissonClient.getReadWriteLock(String.format(LOCK_GID_UPDATE_KEY, requestParam.getFullShortUrl()));
+        RLock rLock = readWriteLock.writeLock();
+        if (!rLock.tryLock()) {
+            throw new ServiceException("短链接正在被访问，请稍后再试...");
+        }
+        try {
+            moveShortLinkBaseRecords(hasShortLinkDO, requestParam);
+            jobId = shortLinkGidMigrateJobService.createJob(requestParam.getFullShortUrl(), hasShortLinkDO.getGid(), requestParam.getGid());
+        } finally {
+            rLock.unlock();
+        }
+        refreshGotoCacheIfValidDateChanged(hasShortLinkDO, requestParam);
+        return jobId;
+    }
+
+    @Override
+    public ShortLinkGidMigrateJobRespDTO queryGidMigrateJob(String jobId) {
+        return shortLinkGidMigrateJobService.queryJob(jobId);
+    }
+
+    private ShortLinkDO getUpdatableShortLink(ShortLinkUpdateReqDTO requestParam) {
         LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
                 .eq(ShortLinkDO::getGid, requestParam.getOriginGid())
                 .eq(ShortLinkDO::getFullShortUrl, requestParam.getFullShortUrl())
@@ -198,144 +316,101 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
         if (hasShortLinkDO == null) {
             throw new ClientException("短链接记录不存在");
         }
-        if (Objects.equals(hasShortLinkDO.getGid(), requestParam.getGid())) {
-            LambdaUpdateWrapper<ShortLinkDO> updateWrapper = Wrappers.lambdaUpdate(ShortLinkDO.class)
-                    .eq(ShortLinkDO::getFullShortUrl, requestParam.getFullShortUrl())
-                    .eq(ShortLinkDO::getGid, requestParam.getGid())
-                    .eq(ShortLinkDO::getDelFlag, 0)
-                    .eq(ShortLinkDO::getEnableStatus, 0)
-                    .set(Objects.equals(requestParam.getValidDateType(), VailDateTypeEnum.PERMANENT.getType()), ShortLinkDO::getValidDate, null);
-            ShortLinkDO shortLinkDO = ShortLinkDO.builder()
-                    .domain(hasShortLinkDO.getDomain())
-                    .shortUri(hasShortLinkDO.getShortUri())
-                    .favicon(hasShortLinkDO.getFavicon())
-                    .createdType(hasShortLinkDO.getCreatedType())
-                    .gid(requestParam.getGid())
-                    .originUrl(requestParam.getOriginUrl())
-                    .describe(requestParam.getDescribe())
-                    .validDateType(requestParam.getValidDateType())
-                    .validDate(requestParam.getValidDate())
-                    .build();
-            baseMapper.update(shortLinkDO, updateWrapper);
-        } else {
-            RReadWriteLock readWriteLock = redissonClient.getReadWriteLock(String.format(LOCK_GID_UPDATE_KEY, requestParam.getFullShortUrl()));
-            RLock rLock = readWriteLock.writeLock();
-            if (!rLock.tryLock()) {
-                throw new ServiceException("短链接正在被访问，请稍后再试...");
-            }
-            try {
-                LambdaUpdateWrapper<ShortLinkDO> linkUpdateWrapper = Wrappers.lambdaUpdate(ShortLinkDO.class)
-                        .eq(ShortLinkDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(ShortLinkDO::getGid, hasShortLinkDO.getGid())
-                        .eq(ShortLinkDO::getDelFlag, 0)
-                        .eq(ShortLinkDO::getEnableStatus, 0);
-                ShortLinkDO delShortLinkDO = ShortLinkDO.builder()
-                        .build();
-                delShortLinkDO.setDelFlag(1);
-                baseMapper.update(delShortLinkDO, linkUpdateWrapper);
-                ShortLinkDO shortLinkDO = ShortLinkDO.builder()
-                        .domain(createShortLinkDefaultDomain)
-                        .originUrl(requestParam.getOriginUrl())
-                        .gid(requestParam.getGid())
-                        .createdType(hasShortLinkDO.getCreatedType())
-                        .validDateType(requestParam.getValidDateType())
-                        .validDate(requestParam.getValidDate())
-                        .describe(requestParam.getDescribe())
-                        .shortUri(hasShortLinkDO.getShortUri())
-                        .enableStatus(hasShortLinkDO.getEnableStatus())
-                        .totalPv(hasShortLinkDO.getTotalPv())
-                        .totalUv(hasShortLinkDO.getTotalUv())
-                        .totalUip(hasShortLinkDO.getTotalUip())
-                        .fullShortUrl(hasShortLinkDO.getFullShortUrl())
-                        .favicon(getFavicon(requestParam.getOriginUrl()))
-                        .build();
-                baseMapper.insert(shortLinkDO);
-                LambdaQueryWrapper<LinkStatsTodayDO> statsTodayQueryWrapper = Wrappers.lambdaQuery(LinkStatsTodayDO.class)
-                        .eq(LinkStatsTodayDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkStatsTodayDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkStatsTodayDO::getDelFlag, 0);
-                List<LinkStatsTodayDO> linkStatsTodayDOList = linkStatsTodayMapper.selectList(statsTodayQueryWrapper);
-                if (CollUtil.isNotEmpty(linkStatsTodayDOList)) {
-                    linkStatsTodayMapper.deleteBatchIds(linkStatsTodayDOList.stream()
+        return hasShortLinkDO;
+    }
+
+    private void updateShortLinkInGroup(ShortLinkDO hasShortLinkDO, ShortLinkUpdateReqDTO requestParam) {
+        LambdaUpdateWrapper<ShortLinkDO> updateWrapper = Wrappers.lambdaUpdate(ShortLinkDO.class)
+                .eq(ShortLinkDO::getFullShortUrl, requestParam.getFullShortUrl())
+                .eq(ShortLinkDO::getGid, requestParam.getGid())
+                .eq(ShortLinkDO::getDelFlag, 0)
+                .eq(ShortLinkDO::getEnableStatus, 0)
+                .set(Objects.equals(requestParam.getValidDateType(), VailDateTypeEnum.PERMANENT.getType()), ShortLinkDO::getValidDate, null);
+        ShortLinkDO shortLinkDO = ShortLinkDO.builder()
+                .domain(hasShortLinkDO.getDomain())
+                .shortUri(hasShortLinkDO.getShortUri())
+                .favicon(hasShortLinkDO.getFavicon())
+                .createdType(hasShortLinkDO.getCreatedType())
+                .gid(requestParam.getGid())
+                .originUrl(requestParam.getOriginUrl())
+                .describe(requestParam.getDescribe())
+                .validDateType(requestParam.getValidDateType())
+                .validDate(requestParam.getValidDate())
+                .build();
+        baseMapper.update(shortLinkDO, updateWrapper);
+        refreshFaviconIfOriginUrlChanged(hasShortLinkDO, requestParam);
+    }
+
+    /**
+     * 迁移短链接主记录、今日统计与跳转记录到新分组，数据量固定且较小，在当前事务内同步完成
+     */
+    private void moveShortLinkBaseRecords(ShortLinkDO hasShortLinkDO, ShortLinkUpdateReqDTO requestParam) {
+        LambdaUpdateWrapper<ShortLinkDO> linkUpdateWrapper = Wrappers.lambdaUpdate(ShortLinkDO.class)
+                .eq(ShortLinkDO::getFullShortUrl, requestParam.getFullShortUrl())
+                .eq(ShortLinkDO::getGid, hasShortLinkDO.getGid())
+                .eq(ShortLinkDO::getDelFlag, 0)
+                .eq(ShortLinkDO::getEnableStatus, 0);
+        ShortLinkDO delShortLinkDO = ShortLinkDO.builder()
+                .build();
+        delShortLinkDO.setDelFlag(1);
+        baseMapper.update(delShortLinkDO, linkUpdateWrapper);
+        ShortLinkDO shortLinkDO = ShortLinkDO.builder()
+                .domain(createShortLinkDefaultDomain)
+                .originUrl(requestParam.getOriginUrl())
+                .gid(requestParam.getGid())
+                .createdType(hasShortLinkDO.getCreatedType())
+                .validDateType(requestParam.getValidDateType())
+                .validDate(requestParam.getValidDate())
+                .describe(requestParam.getDescribe())
+                .shortUri(hasShortLinkDO.getShortUri())
+                .enableStatus(hasShortLinkDO.getEnableStatus())
+                .totalPv(hasShortLinkDO.getTotalPv())
+                .totalUv(hasShortLinkDO.getTotalUv())
+                .totalUip(hasShortLinkDO.getTotalUip())
+                .fullShortUrl(hasShortLinkDO.getFullShortUrl())
+                .favicon(hasShortLinkDO.getFavicon())
+                .build();
+        baseMapper.insert(shortLinkDO);
+        refreshFaviconIfOriginUrlChanged(hasShortLinkDO, requestParam);
+        LambdaQueryWrapper<LinkStatsTodayDO> statsTodayQueryWrapper = Wrappers.lambdaQuery(LinkStatsTodayDO.class)
+                .eq(LinkStatsTodayDO::getFullShortUrl, requestParam.getFullShortUrl())
+                .eq(LinkStatsTodayDO::getGid, hasShortLinkDO.getGid())
+                .eq(LinkStatsTodayDO::getDelFlag, 0);
+        List<LinkStatsTodayDO> linkStatsTodayDOList = linkStatsTodayMapper.selectList(statsTodayQueryWrapper);
+        if (CollUtil.isNotEmpty(linkStatsTodayDOList)) {
+            LambdaQueryWrapper<LinkStatsTodayDO> statsTodayDeleteWrapper = Wrappers.lambdaQuery(LinkStatsTodayDO.class)
+                    .eq(LinkStatsTodayDO::getGid, hasShortLinkDO.getGid())
+                    .in(LinkStatsTodayDO::getId, linkStatsTodayDOList.stream()
                             .map(LinkStatsTodayDO::getId)
                             .toList()
                     );
-                    linkStatsTodayDOList.forEach(each -> each.setGid(requestParam.getGid()));
-                    linkStatsTodayService.saveBatch(linkStatsTodayDOList);
-                }
-                LambdaQueryWrapper<ShortLinkGotoDO> linkGotoQueryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
-                        .eq(ShortLinkGotoDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(ShortLinkGotoDO::getGid, hasShortLinkDO.getGid());
-                ShortLinkGotoDO shortLinkGotoDO = shortLinkGotoMapper.selectOne(linkGotoQueryWrapper);
-                shortLinkGotoMapper.deleteById(shortLinkGotoDO.getId());
-                shortLinkGotoDO.setGid(requestParam.getGid());
-                shortLinkGotoMapper.insert(shortLinkGotoDO);
-                LambdaUpdateWrapper<LinkAccessStatsDO> linkAccessStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkAccessStatsDO.class)
-                        .eq(LinkAccessStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkAccessStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkAccessStatsDO::getDelFlag, 0);
-                LinkAccessStatsDO linkAccessStatsDO = LinkAccessStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkAccessStatsMapper.update(linkAccessStatsDO, linkAccessStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkLocaleStatsDO> linkLocaleStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkLocaleStatsDO.class)
-                        .eq(LinkLocaleStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkLocaleStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkLocaleStatsDO::getDelFlag, 0);
-                LinkLocaleStatsDO linkLocaleStatsDO = LinkLocaleStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkLocaleStatsMapper.update(linkLocaleStatsDO, linkLocaleStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkOsStatsDO> linkOsStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkOsStatsDO.class)
-                        .eq(LinkOsStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkOsStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkOsStatsDO::getDelFlag, 0);
-                LinkOsStatsDO linkOsStatsDO = LinkOsStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkOsStatsMapper.update(linkOsStatsDO, linkOsStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkBrowserStatsDO> linkBrowserStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkBrowserStatsDO.class)
-                        .eq(LinkBrowserStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkBrowserStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkBrowserStatsDO::getDelFlag, 0);
-                LinkBrowserStatsDO linkBrowserStatsDO = LinkBrowserStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkBrowserStatsMapper.update(linkBrowserStatsDO, linkBrowserStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkDeviceStatsDO> linkDeviceStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkDeviceStatsDO.class)
-                        .eq(LinkDeviceStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkDeviceStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkDeviceStatsDO::getDelFlag, 0);
-                LinkDeviceStatsDO linkDeviceStatsDO = LinkDeviceStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkDeviceStatsMapper.update(linkDeviceStatsDO, linkDeviceStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkNetworkStatsDO> linkNetworkStatsUpdateWrapper = Wrappers.lambdaUpdate(LinkNetworkStatsDO.class)
-                        .eq(LinkNetworkStatsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkNetworkStatsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkNetworkStatsDO::getDelFlag, 0);
-                LinkNetworkStatsDO linkNetworkStatsDO = LinkNetworkStatsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkNetworkStatsMapper.update(linkNetworkStatsDO, linkNetworkStatsUpdateWrapper);
-                LambdaUpdateWrapper<LinkAccessLogsDO> linkAccessLogsUpdateWrapper = Wrappers.lambdaUpdate(LinkAccessLogsDO.class)
-                        .eq(LinkAccessLogsDO::getFullShortUrl, requestParam.getFullShortUrl())
-                        .eq(LinkAccessLogsDO::getGid, hasShortLinkDO.getGid())
-                        .eq(LinkAccessLogsDO::getDelFlag, 0);
-                LinkAccessLogsDO linkAccessLogsDO = LinkAccessLogsDO.builder()
-                        .gid(requestParam.getGid())
-                        .build();
-                linkAccessLogsMapper.update(linkAccessLogsDO, linkAccessLogsUpdateWrapper);
-            } finally {
-                rLock.unlock();
-            }
+            linkStatsTodayMapper.delete(statsTodayDeleteWrapper);
+            linkStatsTodayDOList.forEach(each -> each.setGid(requestParam.getGid()));
+            linkStatsTodayService.saveBatch(linkStatsTodayDOList);
         }
+        LambdaQueryWrapper<ShortLinkGotoDO> linkGotoQueryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
+                .eq(ShortLinkGotoDO::getFullShortUrl, requestParam.getFullShortUrl())
+                .eq(ShortLinkGotoDO::getGid, hasShortLinkDO.getGid());
+        ShortLinkGotoDO shortLinkGotoDO = shortLinkGotoMapper.selectOne(linkGotoQueryWrapper);
+        shortLinkGotoMapper.deleteById(shortLinkGotoDO.getId());
+        shortLinkGotoDO.setGid(requestParam.getGid());
+        shortLinkGotoMapper.insert(shortLinkGotoDO);
+    }
+
+    /**
+     * 同步迁移监控明细数据到新分组，监控表按 gid 分片，由迁移服务逐表读取原分组数据写入新分组后删除
+     */
+    private void moveShortLinkStatsRecords(ShortLinkDO hasShortLinkDO, ShortLinkUpdateReqDTO requestParam) {
+        shortLinkGidMigrateJobService.migrate(requestParam.getFullShortUrl(), hasShortLinkDO.getGid(), requestParam.getGid());
+    }
+
+    private void refreshGotoCacheIfValidDateChanged(ShortLinkDO hasShortLinkDO, ShortLinkUpdateReqDTO requestParam) {
         if (!Objects.equals(hasShortLinkDO.getValidDateType(), requestParam.getValidDateType())
                 || !Objects.equals(hasShortLinkDO.getValidDate(), requestParam.getValidDate())) {
-            stringRedisTemplate.delete(String.format(GOTO_SHORT_LINK_KEY, requestParam.getFullShortUrl()));
+            shortLinkGotoCache.evict(requestParam.getFullShortUrl());
             if (hasShortLinkDO.getValidDate() != null && hasShortLinkDO.getValidDate().before(new Date())) {
                 if (Objects.equals(requestParam.getValidDateType(), VailDateTypeEnum.PERMANENT.getType()) || requestParam.getValidDate().after(new Date())) {
-                    stringRedisTemplate.delete(String.format(GOTO_IS_NULL_SHORT_LINK_KEY, requestParam.getFullShortUrl()));
+                    shortLinkNegativeCache.remove(requestParam.getFullShortUrl());
                 }
             }
         }
@@ -364,7 +439,6 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
         return BeanUtil.copyToList(shortLinkDOList, ShortLinkGroupCountQueryRespDTO.class);
     }
 
-    @SneakyThrows
     @Override
     public void restoreUrl(String shortUri, ServletRequest request, ServletResponse response) {
         String serverName = request.getServerName();
@@ -374,63 +448,81 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
                 .map(each -> ":" + each)
                 .orElse("");
         String fullShortUrl = serverName + serverPort + "/" + shortUri;
-        String originalLink = stringRedisTemplate.opsForValue().get(String.format(GOTO_SHORT_LINK_KEY, fullShortUrl));
+        restoreFullShortUrl(fullShortUrl, request, response);
+    }
+
+    @Override
+    public void restoreFullShortUrl(String fullShortUrl, ServletRequest request, ServletResponse response) {
+        long startTime = System.nanoTime();
+        ShortLinkRedirectEvent redirectEvent = ShortLinkRedirectEvent.start();
+        String result = null;
+        try {
+            result = doRestoreFullShortUrl(fullShortUrl, request, response);
+        } finally {
+            shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_SERVLET, startTime);
+            redirectEvent.finish(fullShortUrl, result);
+        }
+    }
+
+    /**
+     * 执行跳转
+     *
+     * @return 跳转结果，用于 JFR 事件记录
+     */
+    private String doRestoreFullShortUrl(String fullShortUrl, ServletRequest request, ServletResponse response) {
+        HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+        if (!shortLinkRedirectRateLimiter.tryAcquire(httpServletRequest::getHeader, httpServletRequest.getRemoteAddr(), fullShortUrl)) {
+            tooManyRequests(response);
+            return ShortLinkRedirectEvent.RESULT_THROTTLED;
+        }
+        long cacheStartTime = System.nanoTime();
+        ShortLinkRedirectStageEvent cacheEvent = ShortLinkRedirectStageEvent.start();
+        String originalLink = shortLinkGotoCache.getOriginUrl(fullShortUrl);
+        cacheEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_CACHE);
+        shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_CACHE, cacheStartTime);
+        shortLinkMetrics.recordCacheLookup(StrUtil.isNotBlank(originalLink));
         if (StrUtil.isNotBlank(originalLink)) {
             ShortLinkStatsRecordDTO statsRecord = buildLinkStatsRecordAndSetUser(fullShortUrl, request, response);
             shortLinkStats(fullShortUrl, null, statsRecord);
-            ((HttpServletResponse) response).sendRedirect(originalLink);
-            return;
+            redirect(response, originalLink);
+            return ShortLinkRedirectEvent.RESULT_CACHE_HIT;
         }
-        boolean contains = shortUriCreateCachePenetrationBloomFilter.contains(fullShortUrl);
+        long bloomStartTime = System.nanoTime();
+        ShortLinkRedirectStageEvent bloomEvent = ShortLinkRedirectStageEvent.start();
+        boolean contains = bloomFilterContains(fullShortUrl);
+        bloomEvent.finish(fullShortUrl, ShortLinkRedirectStageEvent.STAGE_BLOOM);
+        shortLinkMetrics.record(ShortLinkTimerEnum.REDIRECT_BLOOM, bloomStartTime);
         if (!contains) {
-            ((HttpServletResponse) response).sendRedirect("/page/notfound");
-            return;
+            redirect(response, "/page/notfound");
+            return ShortLinkRedirectEvent.RESULT_NOT_FOUND;
         }
-        String gotoIsNullShortLink = stringRedisTemplate.opsForValue().get(String.format(GOTO_IS_NULL_SHORT_LINK_KEY, fullShortUrl));
-        if (StrUtil.isNotBlank(gotoIsNullShortLink)) {
-            ((HttpServletResponse) response).sendRedirect("/page/notfound");
-            return;
-        }
-        RLock lock = redissonClient.getLock(String.format(LOCK_GOTO_SHORT_LINK_KEY, fullShortUrl));
-        lock.lock();
-        try {
-            originalLink = stringRedisTemplate.opsForValue().get(String.format(GOTO_SHORT_LINK_KEY, fullShortUrl));
-            if (StrUtil.isNotBlank(originalLink)) {
-                ShortLinkStatsRecordDTO statsRecord = buildLinkStatsRecordAndSetUser(fullShortUrl, request, response);
-                shortLinkStats(fullShortUrl, null, statsRecord);
-                ((HttpServletResponse) response).sendRedirect(originalLink);
-                return;
-            }
-            LambdaQueryWrapper<ShortLinkGotoDO> linkGotoQueryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
-                    .eq(ShortLinkGotoDO::getFullShortUrl, fullShortUrl);
-            ShortLinkGotoDO shortLinkGotoDO = shortLinkGotoMapper.selectOne(linkGotoQueryWrapper);
-            if (shortLinkGotoDO == null) {
-                stringRedisTemplate.opsForValue().set(String.format(GOTO_IS_NULL_SHORT_LINK_KEY, fullShortUrl), "-", 30, TimeUnit.MINUTES);
-                ((HttpServletResponse) response).sendRedirect("/page/notfound");
-                return;
-            }
-            LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
-                    .eq(ShortLinkDO::getGid, shortLinkGotoDO.getGid())
-                    .eq(ShortLinkDO::getFullShortUrl, fullShortUrl)
-                    .eq(ShortLinkDO::getDelFlag, 0)
-                    .eq(ShortLinkDO::getEnableStatus, 0);
-            ShortLinkDO shortLinkDO = baseMapper.selectOne(queryWrapper);
-            if (shortLinkDO == null || (shortLinkDO.getValidDate() != null && shortLinkDO.getValidDate().before(new Date()))) {
-                stringRedisTemplate.opsForValue().set(String.format(GOTO_IS_NULL_SHORT_LINK_KEY, fullShortUrl), "-", 30, TimeUnit.MINUTES);
-                ((HttpServletResponse) response).sendRedirect("/page/notfound");
-                return;
-            }
-            stringRedisTemplate.opsForValue().set(
-                    String.format(GOTO_SHORT_LINK_KEY, fullShortUrl),
-                    shortLinkDO.getOriginUrl(),
-                    LinkUtil.getLinkCacheValidTime(shortLinkDO.getValidDate()), TimeUnit.MILLISECONDS
-            );
-            ShortLinkStatsRecordDTO statsRecord = buildLinkStatsRecordAndSetUser(fullShortUrl, request, response);
-            shortLinkStats(fullShortUrl, shortLinkDO.getGid(), statsRecord);
-            ((HttpServletResponse) response).sendRedirect(shortLinkDO.getOriginUrl());
-        } finally {
-            lock.unlock();
+        ShortLinkDO shortLinkDO = shortLinkGotoCache.load(fullShortUrl);
+        if (shortLinkDO == null) {
+            redirect(response, "/page/notfound");
+            return ShortLinkRedirectEvent.RESULT_NOT_FOUND;
         }
+        ShortLinkStatsRecordDTO statsRecord = buildLinkStatsRecordAndSetUser(fullShortUrl, request, response);
+        shortLinkStats(fullShortUrl, shortLinkDO.getGid(), statsRecord);
+        redirect(response, shortLinkDO.getOriginUrl());
+        return ShortLinkRedirectEvent.RESULT_LOADED;
+    }
+
+    /**
+     * 超出跳转限流时直接返回 429，客户端可在一秒后重试
+     */
+    private void tooManyRequests(ServletResponse response) {
+        HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+        httpServletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    }
+
+    /**
+     * 直接写入 302 状态码与 Location 响应头，不经过 sendRedirect 的相对路径转换
+     */
+    private void redirect(ServletResponse response, String location) {
+        HttpServletResponse httpServletResponse = (HttpServletResponse) response;
+        httpServletResponse.setStatus(HttpServletResponse.SC_FOUND);
+        httpServletResponse.setHeader("Location", location);
     }
 
     private ShortLinkStatsRecordDTO buildLinkStatsRecordAndSetUser(String fullShortUrl, ServletRequest request, ServletResponse response) {
@@ -488,7 +580,187 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
         shortLinkStatsSaveProducer.send(producerMap);
     }
 
+    /**
+     * 批量生成短链接后缀，哈希模式下所有候选后缀通过管道一次性完成布隆过滤器判重，冲突的后缀重新生成后再次批量判重
+     *
+     * @param originUrls 原始链接
+     * @return 与原始链接一一对应的后缀，多次重试仍冲突的位置为 null
+     */
+    private String[] generateSuffixes(List<String> originUrls) {
+        if (Objects.equals(shortLinkSuffixConfiguration.getType(), "segment")) {
+            return shortLinkSuffixSegmentAllocator.nextSuffixes(originUrls.size());
+        }
+        String[] result = new String[originUrls.size()];
+        Set<String> reservedSuffixes = new HashSet<>(originUrls.size() * 2);
+        List<Integer> pendingIndexes = new ArrayList<>(originUrls.size());
+        for (int i = 0; i < originUrls.size(); i++) {
+            String pooledSuffix = shortLinkSuffixPool.isEnable() ? shortLinkSuffixPool.poll() : null;
+            if (pooledSuffix != null && reservedSuffixes.add(pooledSuffix)) {
+                result[i] = pooledSuffix;
+            } else {
+                pendingIndexes.add(i);
+            }
+        }
+        int customGenerateCount = 0;
+        while (!pendingIndexes.isEmpty() && customGenerateCount++ <= 10) {
+            List<Integer> candidateIndexes = new ArrayList<>(pendingIndexes.size());
+            List<String> candidates = new ArrayList<>(pendingIndexes.size());
+            List<Integer> nextPendingIndexes = new ArrayList<>();
+            for (Integer each : pendingIndexes) {
+                String candidate = HashUtil.hashToBase62(originUrls.get(each) + UUID.fastUUID());
+                if (reservedSuffixes.add(candidate)) {
+                    candidateIndexes.add(each);
+                    candidates.add(candidate);
+                } else {
+                    nextPendingIndexes.add(each);
+                }
+            }
+            List<String> candidateFullShortUrls = candidates.stream().map(each -> createShortLinkDefaultDomain + "/" + each).toList();
+            boolean[] exists = shortLinkBloomFilterLocalReplica.isReady()
+                    ? shortLinkBloomFilterLocalReplica.containsAll(candidateFullShortUrls)
+                    : shortLinkScalableBloomFilter.containsAll(candidateFullShortUrls);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (exists[i]) {
+                    nextPendingIndexes.add(candidateIndexes.get(i));
+                } else {
+                    result[candidateIndexes.get(i)] = candidates.get(i);
+                }
+            }
+            pendingIndexes = nextPendingIndexes;
+        }
+        return result;
+    }
+
+    /**
+     * 按分片分组并发批量插入短链接与跳转记录，批次出现重复时回退为逐行插入以定位重复记录；
+     * 批次失败时部分记录可能已提交，逐行插入保留批次分配的 ID，重复时按完整短链接、分组与 ID 回查确认是否为本次写入；
+     * t_link 按 gid 分片，跳转记录是完整短链接唯一的全局校验，跳转记录重复的短链接删除已写入的 t_link 记录并按失败返回
+     *
+     * @param shortLinkDOList 待插入短链接
+     * @param failHandler     插入失败回调，可能被多个分片写入线程并发调用
+     * @return 插入成功的短链接
+     */
+    private List<ShortLinkDO> insertShortLinkBatch(List<ShortLinkDO> shortLinkDOList, BiConsumer<ShortLinkDO, String> failHandler) {
+        List<ShortLinkDO> insertedShortLinkDOList = shardingBatchWriter.write(shortLinkDOList, ShortLinkDO::getGid, shardShortLinkDOList -> {
+            List<ShortLinkDO> shardInsertedList = new ArrayList<>(shardShortLinkDOList.size());
+            for (List<ShortLinkDO> chunk : CollUtil.split(shardShortLinkDOList, shardingBatchWriter.getBatchSize())) {
+                try {
+                    Db.saveBatch(chunk, chunk.size());
+                    shardInsertedList.addAll(chunk);
+                } catch (DataIntegrityViolationException ex) {
+                    for (ShortLinkDO each : chunk) {
+                        try {
+                            baseMapper.insert(each);
+                            shardInsertedList.add(each);
+                        } catch (DuplicateKeyException duplicateKeyException) {
+                            if (isShortLinkInserted(each)) {
+                                shardInsertedList.add(each);
+                                continue;
+                            }
+                            log.warn("短链接：{} 重复入库", each.getFullShortUrl());
+                            failHandler.accept(each, "短链接生成重复");
+                        }
+                    }
+                }
+            }
+            return shardInsertedList;
+        });
+        List<ShortLinkGotoDO> linkGotoDOList = insertedShortLinkDOList.stream()
+                .map(each -> ShortLinkGotoDO.builder()
+                        .fullShortUrl(each.getFullShortUrl())
+                        .gid(each.getGid())
+                        .build())
+                .toList();
+        Set<String> duplicateGotoFullShortUrls = ConcurrentHashMap.newKeySet();
+        shardingBatchWriter.write(linkGotoDOList, ShortLinkGotoDO::getFullShortUrl, shardLinkGotoDOList -> {
+            for (List<ShortLinkGotoDO> chunk : CollUtil.split(shardLinkGotoDOList, shardingBatchWriter.getBatchSize())) {
+                try {
+                    Db.saveBatch(chunk, chunk.size());
+                } catch (DataIntegrityViolationException ex) {
+                    for (ShortLinkGotoDO each : chunk) {
+                        try {
+                            shortLinkGotoMapper.insert(each);
+                        } catch (DuplicateKeyException duplicateKeyException) {
+                            if (!isShortLinkGotoInserted(each)) {
+                                log.warn("短链接跳转记录：{} 已被其他短链接占用", each.getFullShortUrl());
+                                duplicateGotoFullShortUrls.add(each.getFullShortUrl());
+                            }
+                        }
+                    }
+                }
+            }
+            return shardLinkGotoDOList;
+        });
+        if (duplicateGotoFullShortUrls.isEmpty()) {
+            return insertedShortLinkDOList;
+        }
+        List<ShortLinkDO> result = new ArrayList<>(insertedShortLinkDOList.size());
+        for (ShortLinkDO each : insertedShortLinkDOList) {
+            if (!duplicateGotoFullShortUrls.contains(each.getFullShortUrl())) {
+                result.add(each);
+                continue;
+            }
+            LambdaQueryWrapper<ShortLinkDO> deleteWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
+                    .eq(ShortLinkDO::getGid, each.getGid())
+                    .eq(ShortLinkDO::getId, each.getId());
+            baseMapper.delete(deleteWrapper);
+            failHandler.accept(each, "短链接生成重复");
+        }
+        return result;
+    }
+
+    /**
+     * 回查短链接是否已由失败批次提交，ID 与批次分配的一致时视为本次写入
+     */
+    private boolean isShortLinkInserted(ShortLinkDO shortLinkDO) {
+        LambdaQueryWrapper<ShortLinkDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkDO.class)
+                .eq(ShortLinkDO::getGid, shortLinkDO.getGid())
+                .eq(ShortLinkDO::getFullShortUrl, shortLinkDO.getFullShortUrl())
+                .eq(ShortLinkDO::getDelFlag, 0);
+        ShortLinkDO hasShortLinkDO = baseMapper.selectOne(queryWrapper);
+        return hasShortLinkDO != null && Objects.equals(hasShortLinkDO.getId(), shortLinkDO.getId());
+    }
+
+    /**
+     * 回查跳转记录是否已由失败批次提交，ID 与批次分配的一致时视为本次写入
+     */
+    private boolean isShortLinkGotoInserted(ShortLinkGotoDO shortLinkGotoDO) {
+        LambdaQueryWrapper<ShortLinkGotoDO> queryWrapper = Wrappers.lambdaQuery(ShortLinkGotoDO.class)
+                .eq(ShortLinkGotoDO::getFullShortUrl, shortLinkGotoDO.getFullShortUrl())
+                .eq(ShortLinkGotoDO::getGid, shortLinkGotoDO.getGid());
+        ShortLinkGotoDO hasShortLinkGotoDO = shortLinkGotoMapper.selectOne(queryWrapper);
+        return hasShortLinkGotoDO != null && Objects.equals(hasShortLinkGotoDO.getId(), shortLinkGotoDO.getId());
+    }
+
+    private ShortLinkBatchCreateFailRespDTO buildBatchCreateFail(int index, List<String> originUrls, List<String> describes, String failReason) {
+        return ShortLinkBatchCreateFailRespDTO.builder()
+                .index(index)
+                .originUrl(originUrls.get(index))
+                .describe(describes.get(index))
+                .failReason(failReason)
+                .build();
+    }
+
+    /**
+     * 跳转缓存未命中时判断短链接是否可能存在，本地布隆过滤器副本就绪时不访问 Redis；
+     * 副本同步其他节点新增元素存在延迟，只在缓存未命中后使用，其他节点新建的短链接由创建时写入的跳转缓存保证立即可达
+     */
+    private boolean bloomFilterContains(String fullShortUrl) {
+        return shortLinkBloomFilterLocalReplica.isReady()
+                ? shortLinkBloomFilterLocalReplica.contains(fullShortUrl)
+                : shortLinkScalableBloomFilter.contains(fullShortUrl);
+    }
+
     private String generateSuffix(ShortLinkCreateReqDTO requestParam) {
+        if (Objects.equals(shortLinkSuffixConfiguration.getType(), "segment")) {
+            return shortLinkSuffixSegmentAllocator.nextSuffix();
+        }
+        if (shortLinkSuffixPool.isEnable()) {
+            String pooledSuffix = shortLinkSuffixPool.poll();
+            if (pooledSuffix != null) {
+                return pooledSuffix;
+            }
+        }
         int customGenerateCount = 0;
         String shorUri;
         while (true) {
@@ -498,7 +770,7 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
             String originUrl = requestParam.getOriginUrl();
             originUrl += System.currentTimeMillis();
             shorUri = HashUtil.hashToBase62(originUrl);
-            if (!shortUriCreateCachePenetrationBloomFilter.contains(createShortLinkDefaultDomain + "/" + shorUri)) {
+            if (!bloomFilterContains(createShortLinkDefaultDomain + "/" + shorUri)) {
                 break;
             }
             customGenerateCount++;
@@ -506,21 +778,10 @@ public class ShortLinkServiceImpl extends ServiceImpl<ShortLinkMapper, ShortLink
         return shorUri;
     }
 
-    @SneakyThrows
-    private String getFavicon(String url) {
-        URL targetUrl = new URL(url);
-        HttpURLConnection connection = (HttpURLConnection) targetUrl.openConnection();
-        connection.setRequestMethod("GET");
-        connection.connect();
-        int responseCode = connection.getResponseCode();
-        if (HttpURLConnection.HTTP_OK == responseCode) {
-            Document document = Jsoup.connect(url).get();
-            Element faviconLink = document.select("link[rel~=(?i)^(shortcut )?icon]").first();
-            if (faviconLink != null) {
-                return faviconLink.attr("abs:href");
-            }
+    private void refreshFaviconIfOriginUrlChanged(ShortLinkDO hasShortLinkDO, ShortLinkUpdateReqDTO requestParam) {
+        if (!Objects.equals(hasShortLinkDO.getOriginUrl(), requestParam.getOriginUrl())) {
+            shortLinkFaviconEnricher.enrichAsync(requestParam.getGid(), requestParam.getFullShortUrl(), requestParam.getOriginUrl());
         }
-        return null;
     }
 
     private void verificationWhitelist(String originUrl) {
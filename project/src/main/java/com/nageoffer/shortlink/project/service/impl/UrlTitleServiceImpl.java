@@ -17,33 +17,27 @@
 
 package com.nageoffer.shortlink.project.service.impl;
 
+import com.nageoffer.shortlink.project.common.biz.metadata.PageMetadata;
+import com.nageoffer.shortlink.project.common.biz.metadata.PageMetadataFetcher;
 import com.nageoffer.shortlink.project.service.UrlTitleService;
-import lombok.SneakyThrows;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
-
 /**
  * URL 标题接口实现层
  * 公众号：马丁玩编程，回复：加群，添加马哥微信（备注：link）获取项目资料
  */
 @Service
+@RequiredArgsConstructor
 public class UrlTitleServiceImpl implements UrlTitleService {
 
-    @SneakyThrows
+    private final PageMetadataFetcher pageMetadataFetcher;
+
     @Override
     public String getTitleByUrl(String url) {
-        URL targetUrl = new URL(url);
-        HttpURLConnection connection = (HttpURLConnection) targetUrl.openConnection();
-        connection.setRequestMethod("GET");
-        connection.connect();
-        int responseCode = connection.getResponseCode();
-        if (responseCode == HttpURLConnection.HTTP_OK) {
-            Document document = Jsoup.connect(url).get();
-            return document.title();
+        PageMetadata metadata = pageMetadataFetcher.getMetadata(url);
+        if (metadata.getSuccess()) {
+            return metadata.getTitle();
         }
         return "Error while fetching title.";
     }
@@ -34,6 +34,12 @@ public class HashUtil {
     };
     private static final int SIZE = CHARS.length;
 
+    /**
+     * 号段短链接置换使用的仿射参数，需与 62 互质，修改后已发放的短链接与新发放的会产生冲突，上线后不可变更
+     */
+    private static final long SHUFFLE_MULTIPLIER = 1000003L;
+    private static final long SHUFFLE_INCREMENT = 1234567L;
+
     private static String convertDecToBase62(long num) {
         StringBuilder sb = new StringBuilder();
         while (num > 0) {
@@ -49,4 +55,60 @@ public class HashUtil {
         long num = i < 0 ? Integer.MAX_VALUE - (long) i : i;
         return convertDecToBase62(num);
     }
+
+    /**
+     * 将数字编码为定长 62 进制字符串，高位补 0
+     *
+     * @param num    非负数字，需小于 62 的 length 次方
+     * @param length 编码长度
+     * @return 定长 62 进制字符串
+     */
+    public static String encodeToBase62(long num, int length) {
+        char[] result = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            result[i] = CHARS[(int) (num % SIZE)];
+            num /= SIZE;
+        }
+        return new String(result);
+    }
+
+    /**
+     * 在 [0, 62^length) 空间内对数字做双射置换，使连续号段编码后的短链接不可被顺序猜测
+     * 置换由 仿射变换 -> 62 进制位反转 -> 仿射变换 组成，每一步都是双射，因此不同输入必然得到不同输出
+     *
+     * @param num    非负数字，需小于 62 的 length 次方
+     * @param length 编码长度
+     * @return 置换后的数字
+     */
+    public static long shuffle(long num, int length) {
+        long modulus = pow62(length);
+        long result = affine(num, modulus);
+        result = reverseDigits(result, length);
+        return affine(result, modulus);
+    }
+
+    /**
+     * 计算 62 的 length 次方
+     */
+    public static long pow62(int length) {
+        long result = 1L;
+        for (int i = 0; i < length; i++) {
+            result = Math.multiplyExact(result, SIZE);
+        }
+        return result;
+    }
+
+    private static long affine(long num, long modulus) {
+        // 乘数较小，num 小于 62^7 时乘积不会溢出 long
+        return Math.floorMod(Math.addExact(Math.multiplyExact(num, SHUFFLE_MULTIPLIER), SHUFFLE_INCREMENT), modulus);
+    }
+
+    private static long reverseDigits(long num, int length) {
+        long result = 0L;
+        for (int i = 0; i < length; i++) {
+            result = result * SIZE + num % SIZE;
+            num /= SIZE;
+        }
+        return result;
+    }
 }
@@ -8,8 +8,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 import static com.nageoffer.shortlink.project.common.constant.ShortLinkConstant.DEFAULT_CACHE_VALID_TIME;
+import static com.nageoffer.shortlink.project.common.constant.ShortLinkConstant.DEFAULT_CACHE_VALID_TIME_JITTER_RATIO;
 
 /**
  * 短链接工具类
@@ -17,7 +20,7 @@ import static com.nageoffer.shortlink.project.common.constant.ShortLinkConstant.
 public class LinkUtil {
 
     /**
-     * 获取短链接缓存有效期时间
+     * 获取短链接缓存有效期时间，永久短链接在默认有效期基础上随机缩短，打散过期时间
      *
      * @param validDate 有效期时间
      * @return 有限期时间戳
@@ -25,7 +28,8 @@ public class LinkUtil {
     public static long getLinkCacheValidTime(Date validDate) {
         return Optional.ofNullable(validDate)
                 .map(each -> DateUtil.between(new Date(), each, DateUnit.MS))
-                .orElse(DEFAULT_CACHE_VALID_TIME);
+                .orElseGet(() -> DEFAULT_CACHE_VALID_TIME
+                        - ThreadLocalRandom.current().nextLong((long) (DEFAULT_CACHE_VALID_TIME * DEFAULT_CACHE_VALID_TIME_JITTER_RATIO)));
     }
 
     /**
@@ -35,21 +39,32 @@ public class LinkUtil {
      * @return 用户真实IP
      */
     public static String getActualIp(HttpServletRequest request) {
-        String ipAddress = request.getHeader("X-Forwarded-For");
+        return getActualIp(request::getHeader, request.getRemoteAddr());
+    }
+
+    /**
+     * 获取用户真实IP
+     *
+     * @param headerGetter 请求头获取方法
+     * @param remoteAddr   连接对端地址
+     * @return 用户真实IP
+     */
+    public static String getActualIp(Function<String, String> headerGetter, String remoteAddr) {
+        String ipAddress = headerGetter.apply("X-Forwarded-For");
         if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("Proxy-Client-IP");
+            ipAddress = headerGetter.apply("Proxy-Client-IP");
         }
         if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("WL-Proxy-Client-IP");
+            ipAddress = headerGetter.apply("WL-Proxy-Client-IP");
         }
         if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("HTTP_CLIENT_IP");
+            ipAddress = headerGetter.apply("HTTP_CLIENT_IP");
         }
         if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("HTTP_X_FORWARDED_FOR");
+            ipAddress = headerGetter.apply("HTTP_X_FORWARDED_FOR");
         }
         if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getRemoteAddr();
+            ipAddress = remoteAddr;
         }
         return ipAddress;
     }
@@ -61,7 +76,16 @@ public class LinkUtil {
      * @return 访问操作系统
      */
     public static String getOs(HttpServletRequest request) {
-        String userAgent = request.getHeader("User-Agent");
+        return getOs(request.getHeader("User-Agent"));
+    }
+
+    /**
+     * 根据 User-Agent 获取用户访问操作系统
+     *
+     * @param userAgent 请求头 User-Agent
+     * @return 访问操作系统
+     */
+    public static String getOs(String userAgent) {
         if (userAgent.toLowerCase().contains("windows")) {
             return "Windows";
         } else if (userAgent.toLowerCase().contains("mac")) {
@@ -84,7 +108,16 @@ public class LinkUtil {
      * @return 访问浏览器
      */
     public static String getBrowser(HttpServletRequest request) {
-        String userAgent = request.getHeader("User-Agent");
+        return getBrowser(request.getHeader("User-Agent"));
+    }
+
+    /**
+     * 根据 User-Agent 获取用户访问浏览器
+     *
+     * @param userAgent 请求头 User-Agent
+     * @return 访问浏览器
+     */
+    public static String getBrowser(String userAgent) {
         if (userAgent.toLowerCase().contains("edg")) {
             return "Microsoft Edge";
         } else if (userAgent.toLowerCase().contains("chrome")) {
@@ -109,7 +142,16 @@ public class LinkUtil {
      * @return 访问设备
      */
     public static String getDevice(HttpServletRequest request) {
-        String userAgent = request.getHeader("User-Agent");
+        return getDevice(request.getHeader("User-Agent"));
+    }
+
+    /**
+     * 根据 User-Agent 获取用户访问设备
+     *
+     * @param userAgent 请求头 User-Agent
+     * @return 访问设备
+     */
+    public static String getDevice(String userAgent) {
         if (userAgent.toLowerCase().contains("mobile")) {
             return "Mobile";
         }
@@ -123,7 +165,16 @@ public class LinkUtil {
      * @return 访问设备
      */
     public static String getNetwork(HttpServletRequest request) {
-        String actualIp = getActualIp(request);
+        return getNetwork(getActualIp(request));
+    }
+
+    /**
+     * 根据用户真实IP获取用户访问网络
+     *
+     * @param actualIp 用户真实IP
+     * @return 访问网络
+     */
+    public static String getNetwork(String actualIp) {
         // 这里简单判断IP地址范围，您可能需要更复杂的逻辑
         // 例如，通过调用IP地址库或调用第三方服务来判断网络类型
         return actualIp.startsWith("192.168.") || actualIp.startsWith("10.") ? "WIFI" : "Mobile";
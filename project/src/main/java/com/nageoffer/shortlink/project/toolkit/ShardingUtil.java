@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nageoffer.shortlink.project.toolkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 分片工具类
+ * 与 shardingsphere-config.yaml 中 HASH_MOD 分片算法保持一致，用于批量写入前在应用侧按目标分片分组
+ */
+public final class ShardingUtil {
+
+    /**
+     * 分片数量，需与 shardingsphere-config.yaml 中 sharding-count 保持一致
+     */
+    public static final int SHARDING_COUNT = 16;
+
+    /**
+     * 计算分片键对应的分片下标，算法同 ShardingSphere HashModShardingAlgorithm
+     *
+     * @param shardingValue 分片键
+     * @return 分片下标
+     */
+    public static int shardIndex(Object shardingValue) {
+        return (int) (Math.abs((long) shardingValue.hashCode()) % SHARDING_COUNT);
+    }
+
+    /**
+     * 按分片下标对记录分组
+     *
+     * @param records             记录
+     * @param shardingValueGetter  分片键获取方法
+     * @return 分片下标 -> 该分片记录
+     */
+    public static <T> Map<Integer, List<T>> groupByShard(List<T> records, Function<T, ?> shardingValueGetter) {
+        Map<Integer, List<T>> result = new TreeMap<>();
+        for (T each : records) {
+            result.computeIfAbsent(shardIndex(shardingValueGetter.apply(each)), key -> new ArrayList<>()).add(each);
+        }
+        return result;
+    }
+}
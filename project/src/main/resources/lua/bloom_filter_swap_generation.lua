@@ -0,0 +1,14 @@
+-- 布隆过滤器重建完成后原子切换到新一代分片
+local metaKey = KEYS[1]
+local rebuildGeneration = ARGV[1]
+
+-- 重建已被取消或被其他任务替换时不做切换
+if redis.call("HGET", metaKey, "rebuildGeneration") ~= rebuildGeneration then
+    return 0
+end
+
+local rebuildSliceCount = redis.call("HGET", metaKey, "rebuildSliceCount")
+redis.call("HSET", metaKey, "generation", rebuildGeneration, "sliceCount", rebuildSliceCount)
+redis.call("HDEL", metaKey, "rebuildGeneration", "rebuildSliceCount")
+redis.call("HINCRBY", metaKey, "version", 1)
+return 1
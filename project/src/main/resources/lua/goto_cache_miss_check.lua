@@ -0,0 +1,30 @@
+-- 跳转缓存未命中时一次往返完成：读取跳转缓存、判断空值位图、抢占回源租约
+-- KEYS：跳转缓存、回源租约、各时间窗口空值位图；ARGV：租约标识、租约有效期、短链接对应的位偏移
+local gotoKey = KEYS[1]
+local leaseKey = KEYS[2]
+local leaseToken = ARGV[1]
+local leaseTimeout = ARGV[2]
+
+local value = redis.call("GET", gotoKey)
+if value then
+    return {"hit", value}
+end
+
+for i = 3, #KEYS do
+    local matched = true
+    for j = 3, #ARGV do
+        if redis.call("GETBIT", KEYS[i], ARGV[j]) == 0 then
+            matched = false
+            break
+        end
+    end
+    if matched then
+        return {"null"}
+    end
+end
+
+-- 租约到期后由下一次检查的请求重新当选，避免回源请求异常退出后其他请求一直等待
+if redis.call("SET", leaseKey, leaseToken, "NX", "PX", leaseTimeout) then
+    return {"elected"}
+end
+return {"wait"}
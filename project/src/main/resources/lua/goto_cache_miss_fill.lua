@@ -0,0 +1,17 @@
+-- 回源完成后一次往返完成：写入跳转缓存、释放本请求持有的回源租约
+local targetKey = KEYS[1]
+local leaseKey = KEYS[2]
+local value = ARGV[1]
+local expireMillis = ARGV[2]
+local leaseToken = ARGV[3]
+
+-- 回源失败时值为空，仅释放租约
+if value ~= "" then
+    redis.call("SET", targetKey, value, "PX", expireMillis)
+end
+
+-- 租约已过期并被其他请求抢占时不做释放
+if redis.call("GET", leaseKey) == leaseToken then
+    redis.call("DEL", leaseKey)
+end
+return 1
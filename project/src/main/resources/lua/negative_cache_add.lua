@@ -0,0 +1,19 @@
+-- 将短链接写入当前时间窗口的空值位图，窗口写入次数达到上限后不再写入
+local bitmapKey = KEYS[1]
+local countKey = KEYS[2]
+local capacity = tonumber(ARGV[1])
+local expireAt = ARGV[2]
+
+local count = redis.call("INCR", countKey)
+if count == 1 then
+    redis.call("PEXPIREAT", countKey, expireAt)
+end
+if count > capacity then
+    return 0
+end
+
+for i = 3, #ARGV do
+    redis.call("SETBIT", bitmapKey, ARGV[i], 1)
+end
+redis.call("PEXPIREAT", bitmapKey, expireAt)
+return 1
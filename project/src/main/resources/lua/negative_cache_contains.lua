@@ -0,0 +1,15 @@
+-- 判断短链接是否存在于任一时间窗口的空值位图中
+-- KEYS：各时间窗口位图；ARGV：短链接对应的位偏移
+for i = 1, #KEYS do
+    local matched = true
+    for j = 1, #ARGV do
+        if redis.call("GETBIT", KEYS[i], ARGV[j]) == 0 then
+            matched = false
+            break
+        end
+    end
+    if matched then
+        return 1
+    end
+end
+return 0
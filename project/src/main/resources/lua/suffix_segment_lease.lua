@@ -0,0 +1,7 @@
+-- 从号段中心计数器租用一个号段，返回号段上界（不含）
+-- 计数器不存在时返回 -1，由调用方按数据库中持久化的号段水位恢复计数器后重试，避免从 0 重新发号
+-- KEYS[1]：号段计数器；ARGV[1]：号段大小
+if redis.call("EXISTS", KEYS[1]) == 0 then
+    return -1
+end
+return redis.call("INCRBY", KEYS[1], ARGV[1])
@@ -0,0 +1,18 @@
+-- 访问日志表按月分区，分区维护任务（LinkAccessLogsPartitionJob）依赖以下分区命名：
+--   p{yyyyMM}：对应自然月的分区；p_future：兜底分区，新月份分区由其拆分得到
+-- 开启 short-link.access-logs-partition.auto-initialize 时任务会自动执行以下变更；数据量较大时建议关闭自动初始化，
+-- 借助 pt-online-schema-change 等工具在线执行
+-- 访问日志按 gid 分为 t_link_access_logs_0 ~ t_link_access_logs_15，每张分片表各自分区，以下语句需对每张分片表执行，${index} 替换为分片下标
+-- MySQL 要求分区键包含在主键及所有唯一索引中，因此主键调整为 (id, create_time)；按 t_link_stats_sharding.sql 创建的分片表主键已为 (id, create_time)，跳过该语句
+
+ALTER TABLE t_link_access_logs_${index} DROP PRIMARY KEY, ADD PRIMARY KEY (id, create_time);
+
+-- 首个分区为执行当月，上界为下月一日，此前的历史数据全部落在首个分区，随保留期到期一并处理；后续月份分区由维护任务创建
+SET @first_partition = DATE_FORMAT(NOW(), 'p%Y%m');
+SET @first_partition_bound = DATE_FORMAT(DATE_ADD(LAST_DAY(NOW()), INTERVAL 1 DAY), '%Y-%m-%d 00:00:00');
+SET @partition_ddl = CONCAT('ALTER TABLE t_link_access_logs_${index} PARTITION BY RANGE COLUMNS (create_time) (',
+                            'PARTITION ', @first_partition, ' VALUES LESS THAN (''', @first_partition_bound, '''), ',
+                            'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_stmt FROM @partition_ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,231 @@
+-- 监控表与访问日志按 gid 分片：建表及历史数据回填
+-- shardingsphere-config.yaml 将以下 7 张表改为按 gid HASH_MOD 16 分片，与 t_link、t_link_stats_today 绑定：
+--   t_link_access_stats、t_link_locale_stats、t_link_os_stats、t_link_browser_stats、t_link_device_stats、t_link_network_stats、t_link_access_logs
+-- 分片规则上线后逻辑表只路由到 {表名}_0 ~ {表名}_15，原单表中的历史数据不再可见，需按以下步骤切换：
+--   1. 发布新版本前执行「一、建表」，${index} 替换为分片下标 0~15 逐一执行；新表此时无读写，可提前执行
+--   2. 滚动发布新版本。发布期间旧实例仍写原单表、新实例写分片表，监控页面只展示切换后的增量数据，历史数据在第 4 步回填后恢复
+--   3. 旧实例全部下线后原单表不再有写入，执行「二、重命名原单表」冻结历史数据
+--   4. 执行「三、回填」，${index} 替换为分片下标 0~15 逐一执行。统计表按唯一键累加合并（切换后分片表已有增量数据），
+--      访问日志按主键去重插入；每条语句为单条 INSERT … SELECT，在 InnoDB 中原子执行。统计表合并为累加，同一张表同一分片回填成功后不可重复执行，
+--      失败的语句整体回滚，可直接重试
+--   5. 执行「四、校验」确认原单表数据均已落入分片表，确认无误后删除分片函数，*_legacy 表按需保留一段时间用于回滚
+-- 分片下标算法同 ShardingSphere HashModShardingAlgorithm 与 ShardingUtil#shardIndex：abs((long) gid.hashCode()) % 16
+-- gid 由字母与数字组成，按单字节字符计算 Java String#hashCode；ID 由雪花算法生成，跨分片唯一，回填时保留原 ID
+
+-- 一、建表
+-- 访问日志主键为 (id, create_time)，满足按月分区要求，分区方式见 t_link_access_logs_partition.sql
+
+CREATE TABLE IF NOT EXISTS t_link_access_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    pv             INT          DEFAULT 0 COMMENT '访问量',
+    uv             INT          DEFAULT 0 COMMENT '独立访客数',
+    uip            INT          DEFAULT 0 COMMENT '独立IP数',
+    `hour`         INT          DEFAULT NULL COMMENT '小时',
+    weekday        INT          DEFAULT NULL COMMENT '星期',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_access_stats (full_short_url, gid, `date`, `hour`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_locale_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    cnt            INT          DEFAULT 0 COMMENT '访问量',
+    country        VARCHAR(64)  DEFAULT NULL COMMENT '国家标识',
+    province       VARCHAR(64)  DEFAULT NULL COMMENT '省份名称',
+    city           VARCHAR(64)  DEFAULT NULL COMMENT '市名称',
+    adcode         VARCHAR(64)  DEFAULT NULL COMMENT '城市编码',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_locale_stats (full_short_url, gid, `date`, adcode, province)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_os_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    cnt            INT          DEFAULT 0 COMMENT '访问量',
+    os             VARCHAR(64)  DEFAULT NULL COMMENT '操作系统',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_os_stats (full_short_url, gid, `date`, os)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_browser_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    cnt            INT          DEFAULT 0 COMMENT '访问量',
+    browser        VARCHAR(64)  DEFAULT NULL COMMENT '浏览器',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_browser_stats (full_short_url, gid, `date`, browser)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_device_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    cnt            INT          DEFAULT 0 COMMENT '访问量',
+    device         VARCHAR(64)  DEFAULT NULL COMMENT '访问设备',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_device_stats (full_short_url, gid, `date`, device)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_network_stats_${index}
+(
+    id             BIGINT      NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `date`         DATE         DEFAULT NULL COMMENT '日期',
+    cnt            INT          DEFAULT 0 COMMENT '访问量',
+    network        VARCHAR(64)  DEFAULT NULL COMMENT '访问网络',
+    create_time    DATETIME     DEFAULT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_network_stats (full_short_url, gid, `date`, network)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE IF NOT EXISTS t_link_access_logs_${index}
+(
+    id             BIGINT       NOT NULL COMMENT 'ID',
+    full_short_url VARCHAR(128) DEFAULT NULL COMMENT '完整短链接',
+    gid            VARCHAR(32)  DEFAULT NULL COMMENT '分组标识',
+    `user`         VARCHAR(64)  DEFAULT NULL COMMENT '用户信息',
+    browser        VARCHAR(64)  DEFAULT NULL COMMENT '浏览器',
+    os             VARCHAR(64)  DEFAULT NULL COMMENT '操作系统',
+    ip             VARCHAR(64)  DEFAULT NULL COMMENT 'IP',
+    network        VARCHAR(64)  DEFAULT NULL COMMENT '访问网络',
+    device         VARCHAR(64)  DEFAULT NULL COMMENT '访问设备',
+    locale         VARCHAR(256) DEFAULT NULL COMMENT '地区',
+    create_time    DATETIME     NOT NULL COMMENT '创建时间',
+    update_time    DATETIME     DEFAULT NULL COMMENT '修改时间',
+    del_flag       TINYINT(1)   DEFAULT 0 COMMENT '删除标识 0：未删除 1：已删除',
+    PRIMARY KEY (id, create_time),
+    KEY idx_full_short_url_gid (full_short_url, gid)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 二、重命名原单表（旧实例全部下线后执行一次）
+
+RENAME TABLE t_link_access_stats TO t_link_access_stats_legacy,
+    t_link_locale_stats TO t_link_locale_stats_legacy,
+    t_link_os_stats TO t_link_os_stats_legacy,
+    t_link_browser_stats TO t_link_browser_stats_legacy,
+    t_link_device_stats TO t_link_device_stats_legacy,
+    t_link_network_stats TO t_link_network_stats_legacy,
+    t_link_access_logs TO t_link_access_logs_legacy;
+
+-- 三、回填
+-- 分片下标函数，回填完成后删除
+
+DROP FUNCTION IF EXISTS link_shard_index;
+DELIMITER $$
+CREATE FUNCTION link_shard_index(gid VARCHAR(32)) RETURNS INT DETERMINISTIC
+BEGIN
+    DECLARE hash BIGINT DEFAULT 0;
+    DECLARE i INT DEFAULT 1;
+    WHILE i <= CHAR_LENGTH(gid) DO
+        SET hash = (hash * 31 + ORD(SUBSTRING(gid, i, 1))) % 4294967296;
+        SET i = i + 1;
+    END WHILE;
+    IF hash >= 2147483648 THEN
+        SET hash = hash - 4294967296;
+    END IF;
+    RETURN ABS(hash) % 16;
+END $$
+DELIMITER ;
+
+INSERT INTO t_link_access_stats_${index} (id, full_short_url, gid, `date`, pv, uv, uip, `hour`, weekday, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, pv, uv, uip, `hour`, weekday, create_time, update_time, del_flag
+FROM t_link_access_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE pv = pv + VALUES(pv), uv = uv + VALUES(uv), uip = uip + VALUES(uip), create_time = LEAST(create_time, VALUES(create_time));
+
+INSERT INTO t_link_locale_stats_${index} (id, full_short_url, gid, `date`, cnt, country, province, city, adcode, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, cnt, country, province, city, adcode, create_time, update_time, del_flag
+FROM t_link_locale_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt), create_time = LEAST(create_time, VALUES(create_time));
+
+INSERT INTO t_link_os_stats_${index} (id, full_short_url, gid, `date`, cnt, os, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, cnt, os, create_time, update_time, del_flag
+FROM t_link_os_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt), create_time = LEAST(create_time, VALUES(create_time));
+
+INSERT INTO t_link_browser_stats_${index} (id, full_short_url, gid, `date`, cnt, browser, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, cnt, browser, create_time, update_time, del_flag
+FROM t_link_browser_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt), create_time = LEAST(create_time, VALUES(create_time));
+
+INSERT INTO t_link_device_stats_${index} (id, full_short_url, gid, `date`, cnt, device, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, cnt, device, create_time, update_time, del_flag
+FROM t_link_device_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt), create_time = LEAST(create_time, VALUES(create_time));
+
+INSERT INTO t_link_network_stats_${index} (id, full_short_url, gid, `date`, cnt, network, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `date`, cnt, network, create_time, update_time, del_flag
+FROM t_link_network_stats_legacy
+WHERE link_shard_index(gid) = ${index}
+ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt), create_time = LEAST(create_time, VALUES(create_time));
+
+-- 访问日志不做累加，按主键去重，可重复执行
+INSERT IGNORE INTO t_link_access_logs_${index} (id, full_short_url, gid, `user`, browser, os, ip, network, device, locale, create_time, update_time, del_flag)
+SELECT id, full_short_url, gid, `user`, browser, os, ip, network, device, locale, create_time, update_time, del_flag
+FROM t_link_access_logs_legacy
+WHERE link_shard_index(gid) = ${index};
+
+-- 四、校验
+-- 以下查询结果均应为 0：原单表中该分片的访问日志 ID、统计表唯一键在分片表中均存在；其余统计表按各自唯一键同理校验
+
+SELECT COUNT(*) AS missing_count
+FROM t_link_access_logs_legacy l
+WHERE link_shard_index(l.gid) = ${index}
+  AND NOT EXISTS (SELECT 1 FROM t_link_access_logs_${index} s WHERE s.id = l.id);
+
+SELECT COUNT(*) AS missing_count
+FROM t_link_access_stats_legacy l
+WHERE link_shard_index(l.gid) = ${index}
+  AND NOT EXISTS (SELECT 1
+                  FROM t_link_access_stats_${index} s
+                  WHERE s.full_short_url = l.full_short_url
+                    AND s.gid = l.gid
+                    AND s.`date` = l.`date`
+                    AND s.`hour` = l.`hour`);
+
+-- 校验通过后删除分片函数，*_legacy 表确认无需回滚后删除
+DROP FUNCTION IF EXISTS link_shard_index;
@@ -0,0 +1,16 @@
+-- 号段发号水位表，记录每个业务已租出号段的最大上界（不含）
+-- 号段模式（short-link.suffix.type=segment）依赖该表：Redis 计数器丢失（FLUSHALL、无持久化故障切换、更换实例）时，
+-- 按该水位恢复计数器，避免号段从 0 重新发放导致短链接重复；租用号段后先写入水位再发放号段内 ID
+-- 未分片表，由 ShardingSphere 作为单表路由到 ds_0
+
+CREATE TABLE IF NOT EXISTS t_link_suffix_segment
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT COMMENT 'ID',
+    biz_tag     VARCHAR(64) NOT NULL COMMENT '业务标识',
+    max_id      BIGINT      NOT NULL COMMENT '已租出号段最大上界（不含）',
+    create_time DATETIME DEFAULT NULL COMMENT '创建时间',
+    update_time DATETIME DEFAULT NULL COMMENT '修改时间',
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_unique_biz_tag (biz_tag)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
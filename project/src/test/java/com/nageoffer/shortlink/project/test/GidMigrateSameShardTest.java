@@ -0,0 +1,155 @@
+package com.nageoffer.shortlink.project.test;
+
+import com.nageoffer.shortlink.project.config.GidMigrateJobConfiguration;
+import com.nageoffer.shortlink.project.dao.entity.LinkAccessLogsDO;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessLogsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkAccessStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkBrowserStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkDeviceStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkLocaleStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkNetworkStatsMapper;
+import com.nageoffer.shortlink.project.dao.mapper.LinkOsStatsMapper;
+import com.nageoffer.shortlink.project.service.impl.ShortLinkGidMigrateJobServiceImpl;
+import com.nageoffer.shortlink.project.toolkit.ShardingUtil;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 修改分组迁移访问日志：新旧分组落在同一分片表与不同分片表时均能保留原 ID 完成迁移
+ * 访问日志持久层替换为按 gid 取模分片、按 ID 判断主键冲突的进程内替身，其余监控表替身无数据
+ */
+public class GidMigrateSameShardTest {
+
+    public static final String FULL_SHORT_URL = "nurl.ink/migrate";
+
+    public static final int LOG_COUNT = 1200;
+
+    public static void main(String[] args) {
+        String originGid = "gid-origin";
+        String sameShardGid = findGid(originGid, true);
+        String otherShardGid = findGid(originGid, false);
+        migrateAndCheck(originGid, sameShardGid);
+        migrateAndCheck(originGid, otherShardGid);
+        System.out.printf("同分片（%s -> %s）与跨分片（%s -> %s）迁移 %d 条访问日志均完成%n",
+                originGid, sameShardGid, originGid, otherShardGid, LOG_COUNT);
+    }
+
+    private static void migrateAndCheck(String originGid, String gid) {
+        ShardedAccessLogs accessLogs = new ShardedAccessLogs();
+        for (long id = 1; id <= LOG_COUNT; id++) {
+            accessLogs.insert(LinkAccessLogsDO.builder().id(id).fullShortUrl(FULL_SHORT_URL).gid(originGid).build());
+        }
+        GidMigrateJobConfiguration configuration = new GidMigrateJobConfiguration();
+        configuration.setChunkSize(500);
+        ShortLinkGidMigrateJobServiceImpl migrateJobService = new ShortLinkGidMigrateJobServiceImpl(
+                null,
+                null,
+                null,
+                emptyMapper(LinkAccessStatsMapper.class),
+                emptyMapper(LinkLocaleStatsMapper.class),
+                emptyMapper(LinkOsStatsMapper.class),
+                emptyMapper(LinkBrowserStatsMapper.class),
+                emptyMapper(LinkDeviceStatsMapper.class),
+                emptyMapper(LinkNetworkStatsMapper.class),
+                accessLogs.mapper(),
+                configuration,
+                null
+        );
+        migrateJobService.migrate(FULL_SHORT_URL, originGid, gid);
+        List<LinkAccessLogsDO> rows = accessLogs.rows();
+        if (rows.size() != LOG_COUNT) {
+            throw new IllegalStateException("迁移后访问日志数量不一致：" + rows.size());
+        }
+        for (LinkAccessLogsDO each : rows) {
+            if (!gid.equals(each.getGid()) || accessLogs.shardOf(each) != ShardingUtil.shardIndex(gid)) {
+                throw new IllegalStateException("访问日志 " + each.getId() + " 未迁移到目标分组所在分片");
+            }
+        }
+    }
+
+    private static String findGid(String originGid, boolean sameShard) {
+        int originShard = ShardingUtil.shardIndex(originGid);
+        for (int i = 0; ; i++) {
+            String candidate = "gid-" + i;
+            if ((ShardingUtil.shardIndex(candidate) == originShard) == sameShard && !candidate.equals(originGid)) {
+                return candidate;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T emptyMapper(Class<T> mapperType) {
+        return (T) Proxy.newProxyInstance(mapperType.getClassLoader(), new Class<?>[]{mapperType}, (proxy, method, args) -> switch (method.getName()) {
+            case "selectList" -> new ArrayList<>();
+            default -> throw new UnsupportedOperationException(mapperType.getSimpleName() + "#" + method.getName());
+        });
+    }
+
+    /**
+     * 按 gid 取模分为多张分片表的访问日志替身，同一分片表内 ID 重复时抛出主键冲突
+     */
+    private static class ShardedAccessLogs {
+
+        private final Map<Integer, Map<Long, LinkAccessLogsDO>> shards = new TreeMap<>();
+
+        void insert(LinkAccessLogsDO record) {
+            Map<Long, LinkAccessLogsDO> shard = shards.computeIfAbsent(ShardingUtil.shardIndex(record.getGid()), each -> new TreeMap<>());
+            if (shard.putIfAbsent(record.getId(), copy(record)) != null) {
+                throw new DuplicateKeyException("Duplicate entry '" + record.getId() + "' for key 't_link_access_logs_" + ShardingUtil.shardIndex(record.getGid()) + ".PRIMARY'");
+            }
+        }
+
+        int shardOf(LinkAccessLogsDO record) {
+            return shards.entrySet().stream()
+                    .filter(each -> each.getValue().containsKey(record.getId()) && each.getValue().get(record.getId()).getGid().equals(record.getGid()))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(-1);
+        }
+
+        List<LinkAccessLogsDO> rows() {
+            return shards.values().stream().map(Map::values).flatMap(Collection::stream).toList();
+        }
+
+        @SuppressWarnings("unchecked")
+        LinkAccessLogsMapper mapper() {
+            return (LinkAccessLogsMapper) Proxy.newProxyInstance(LinkAccessLogsMapper.class.getClassLoader(), new Class<?>[]{LinkAccessLogsMapper.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "listMigrateChunk" -> {
+                    String fullShortUrl = (String) args[0];
+                    String gid = (String) args[1];
+                    yield shards.getOrDefault(ShardingUtil.shardIndex(gid), Map.of()).values().stream()
+                            .filter(each -> each.getFullShortUrl().equals(fullShortUrl) && each.getGid().equals(gid))
+                            .limit((int) args[2])
+                            .map(ShardedAccessLogs::copy)
+                            .toList();
+                }
+                case "deleteByGidAndIds" -> {
+                    String gid = (String) args[0];
+                    Map<Long, LinkAccessLogsDO> shard = shards.getOrDefault(ShardingUtil.shardIndex(gid), Map.of());
+                    ((List<Long>) args[1]).forEach(id -> {
+                        LinkAccessLogsDO existing = shard.get(id);
+                        if (existing != null && existing.getGid().equals(gid)) {
+                            shard.remove(id);
+                        }
+                    });
+                    yield null;
+                }
+                case "insert" -> {
+                    insert((LinkAccessLogsDO) args[0]);
+                    yield 1;
+                }
+                default -> throw new UnsupportedOperationException("LinkAccessLogsMapper#" + method.getName());
+            });
+        }
+
+        private static LinkAccessLogsDO copy(LinkAccessLogsDO record) {
+            return LinkAccessLogsDO.builder().id(record.getId()).fullShortUrl(record.getFullShortUrl()).gid(record.getGid()).build();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nageoffer.shortlink.project.test;
+
+import com.nageoffer.shortlink.project.toolkit.LinkUtil;
+
+import java.util.TreeMap;
+
+/**
+ * 模拟批量导入的永久短链接集中过期：统计同一秒创建的短链接缓存在每小时内过期的数量
+ */
+public class GotoCacheMassExpiryTest {
+
+    public static final int LINK_COUNT = 100000;
+
+    public static final long BUCKET_MILLIS = 60 * 60 * 1000L;
+
+    public static void main(String[] args) {
+        // 同一秒内批量创建的永久短链接，按过期时间落入的小时分桶
+        TreeMap<Long, Integer> expireBuckets = new TreeMap<>();
+        for (int i = 0; i < LINK_COUNT; i++) {
+            long cacheValidTime = LinkUtil.getLinkCacheValidTime(null);
+            expireBuckets.merge(cacheValidTime / BUCKET_MILLIS, 1, Integer::sum);
+        }
+        int maxBucketCount = expireBuckets.values().stream().max(Integer::compare).orElse(0);
+        System.out.printf("短链接数量：%d，过期时间分布在 %d 个小时内，单小时最多过期 %d 个%n", LINK_COUNT, expireBuckets.size(), maxBucketCount);
+        if (maxBucketCount * 10 > LINK_COUNT) {
+            throw new IllegalStateException("缓存过期时间未被打散，单小时过期数量超过总量的 10%");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.nageoffer.shortlink.project.test;
+
+import com.nageoffer.shortlink.project.common.biz.metadata.PageMetadata;
+import com.nageoffer.shortlink.project.common.biz.metadata.PageMetadataFetcher;
+import com.nageoffer.shortlink.project.config.PageMetadataConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 页面元数据获取器本地替身测试：在随机端口启动 HTTP 替身网站，Redis 使用进程内替身
+ * 校验只读取页面头部、同一原始链接与同一域名命中缓存不再请求目标网站，以及请求失败结果只短暂缓存
+ */
+public class PageMetadataFetcherTest {
+
+    /**
+     * 页面主体在头部发送后延迟返回，只读取头部时获取耗时应远小于该值
+     */
+    public static final long BODY_DELAY_MILLIS = 2000L;
+
+    public static void main(String[] args) throws Exception {
+        AtomicInteger pageRequests = new AtomicInteger();
+        AtomicInteger errorRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> {
+            pageRequests.incrementAndGet();
+            writeSlowPage(exchange);
+        });
+        server.createContext("/error", exchange -> {
+            errorRequests.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        try {
+            InMemoryStringRedisTemplate redisTemplate = new InMemoryStringRedisTemplate();
+            PageMetadataConfiguration configuration = new PageMetadataConfiguration();
+            PageMetadataFetcher fetcher = new PageMetadataFetcher(redisTemplate, configuration);
+
+            long start = System.currentTimeMillis();
+            PageMetadata metadata = fetcher.getMetadata(baseUrl + "/page");
+            long elapsed = System.currentTimeMillis() - start;
+            check(metadata.getSuccess(), "页面元数据获取失败");
+            check("替身页面".equals(metadata.getTitle()), "标题解析错误：" + metadata.getTitle());
+            check((baseUrl + "/favicon.ico").equals(metadata.getFavicon()), "图标解析错误：" + metadata.getFavicon());
+            check(elapsed < BODY_DELAY_MILLIS, "读取到页面主体，耗时：" + elapsed + "ms");
+
+            fetcher.getMetadata(baseUrl + "/page");
+            check(pageRequests.get() == 1, "同一原始链接未命中缓存");
+            String favicon = fetcher.getFavicon(baseUrl + "/page?from=other");
+            check((baseUrl + "/favicon.ico").equals(favicon), "同一域名图标缓存错误：" + favicon);
+            check(pageRequests.get() == 1, "同一域名获取图标未命中缓存");
+            check(redisTemplate.expireSeconds(baseUrl + "/page") == TimeUnit.MINUTES.toSeconds(configuration.getUrlCacheMinutes()), "成功结果缓存时间错误");
+
+            PageMetadata failedMetadata = fetcher.getMetadata(baseUrl + "/error");
+            check(!failedMetadata.getSuccess(), "目标网站返回 500 时应获取失败");
+            check(redisTemplate.expireSeconds(baseUrl + "/error") == configuration.getFailureCacheSeconds(), "失败结果缓存时间错误");
+            fetcher.getMetadata(baseUrl + "/error");
+            check(errorRequests.get() == 1, "失败结果有效期内未命中缓存");
+            System.out.printf("页面元数据获取耗时 %dms，目标网站请求 %d 次%n", elapsed, pageRequests.get() + errorRequests.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void writeSlowPage(HttpExchange exchange) throws IOException {
+        byte[] head = ("<html><head><title>替身页面</title>"
+                + "<link rel=\"shortcut icon\" href=\"/favicon.ico\"></head>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(head);
+            outputStream.flush();
+            TimeUnit.MILLISECONDS.sleep(BODY_DELAY_MILLIS);
+            outputStream.write("<body>主体</body></html>".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | InterruptedException ignored) {
+            // 获取器读完头部后即断开连接
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    /**
+     * Redis 进程内替身，只实现页面元数据获取器用到的 Hash、String 读写与过期时间
+     */
+    private static class InMemoryStringRedisTemplate extends StringRedisTemplate {
+
+        private final Map<String, Map<Object, Object>> hashes = new ConcurrentHashMap<>();
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Long> expireSeconds = new ConcurrentHashMap<>();
+
+        long expireSeconds(String url) {
+            return expireSeconds.getOrDefault("short-link:page-metadata:url:" + url, -1L);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+            return (HashOperations<String, HK, HV>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{HashOperations.class}, (proxy, method, args) ->
+                    switch (method.getName()) {
+                        case "entries" -> new HashMap<>(hashes.getOrDefault((String) args[0], Map.of()));
+                        case "putAll" -> {
+                            hashes.computeIfAbsent((String) args[0], each -> new ConcurrentHashMap<>()).putAll((Map<?, ?>) args[1]);
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException("HashOperations#" + method.getName());
+                    });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, String> opsForValue() {
+            return (ValueOperations<String, String>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ValueOperations.class}, (proxy, method, args) ->
+                    switch (method.getName()) {
+                        case "get" -> values.get((String) args[0]);
+                        case "set" -> {
+                            values.put((String) args[0], (String) args[1]);
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException("ValueOperations#" + method.getName());
+                    });
+        }
+
+        @Override
+        public Boolean expire(String key, long timeout, TimeUnit unit) {
+            expireSeconds.put(key, unit.toSeconds(timeout));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.nageoffer.shortlink.project.test;
+
+import com.nageoffer.shortlink.project.common.biz.thread.ShortLinkThreadFactories;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 虚拟线程与平台线程池压测对比
+ * 模拟跳转请求依次阻塞等待 Redis、MySQL 与消息队列，对比 Tomcat 默认 200 线程的平台线程池与每个请求一个虚拟线程的吞吐量、
+ * 峰值线程数以及每个并发请求占用的堆内存；虚拟线程需使用 JDK 21 及以上运行
+ * 参数依次为：并发请求数（默认 2000）、请求总数（默认 20000）、单次阻塞耗时毫秒（默认 5）
+ */
+public class VirtualThreadLoadTest {
+
+    public static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        long ioMillis = args.length > 2 ? Long.parseLong(args[2]) : 5L;
+        System.out.printf("JDK %s，并发 %d，请求 %d，单次阻塞 %dms%n", Runtime.version(), concurrency, requests, ioMillis);
+
+        ExecutorService platformExecutor = Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS, ShortLinkThreadFactories.newPlatformThreadFactory("platform-"));
+        run("平台线程池", platformExecutor, concurrency, requests, ioMillis);
+        platformExecutor.shutdownNow();
+
+        if (!ShortLinkThreadFactories.isVirtualThreadSupported()) {
+            System.out.println("当前 JDK 不支持虚拟线程，跳过虚拟线程压测");
+            return;
+        }
+        ExecutorService virtualExecutor = (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", java.util.concurrent.ThreadFactory.class)
+                .invoke(null, ShortLinkThreadFactories.newVirtualThreadFactory("virtual-"));
+        run("虚拟线程", virtualExecutor, concurrency, requests, ioMillis);
+        virtualExecutor.shutdownNow();
+    }
+
+    private static void run(String name, ExecutorService executor, int concurrency, int requests, long ioMillis) throws InterruptedException {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        System.gc();
+        long heapBefore = memoryMXBean.getHeapMemoryUsage().getUsed();
+        threadMXBean.resetPeakThreadCount();
+        AtomicLong peakHeap = new AtomicLong(heapBefore);
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch finished = new CountDownLatch(requests);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            executor.execute(() -> {
+                try {
+                    handleRequest(ioMillis);
+                    peakHeap.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+                } finally {
+                    inFlight.release();
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await(10, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000D;
+        System.out.printf("[%s] 吞吐量 %.0f 次/秒，耗时 %.2fs，峰值线程 %d，每个并发请求约占用堆内存 %d 字节%n",
+                name,
+                requests / seconds,
+                seconds,
+                threadMXBean.getPeakThreadCount(),
+                Math.max(0L, peakHeap.get() - heapBefore) / concurrency);
+    }
+
+    /**
+     * 模拟跳转请求：读取缓存、回源数据库、投递监控消息
+     */
+    private static void handleRequest(long ioMillis) {
+        try {
+            Thread.sleep(ioMillis);
+            Thread.sleep(ioMillis);
+            Thread.sleep(ioMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
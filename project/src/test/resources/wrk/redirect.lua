@@ -0,0 +1,30 @@
+-- 短链接跳转压测脚本
+-- 用法：wrk -t4 -c200 -d30s -s redirect.lua http://nurl.ink:8001 -- short-uris.txt
+-- short-uris.txt 每行一个短链接后缀；分别在 short-link.redirect-filter.enable 为 true 与 false 时执行，对比过滤器直出与 MVC 跳转
+-- 请求不跟随 302，统计的是跳转服务自身的吞吐量与延迟
+
+local shortUris = {}
+local counter = 0
+
+function init(args)
+    local path = args[1] or "short-uris.txt"
+    for line in io.lines(path) do
+        if #line > 0 then
+            shortUris[#shortUris + 1] = line
+        end
+    end
+    if #shortUris == 0 then
+        error("短链接列表为空：" .. path)
+    end
+end
+
+function request()
+    counter = counter + 1
+    return wrk.format("GET", "/" .. shortUris[(counter % #shortUris) + 1])
+end
+
+function done(summary, latency, requests)
+    io.write(string.format("requests: %d, p50: %.2fms, p99: %.2fms, errors: %d\n",
+            summary.requests, latency:percentile(50) / 1000, latency:percentile(99) / 1000,
+            summary.errors.status + summary.errors.connect + summary.errors.read + summary.errors.write + summary.errors.timeout))
+end